@@ -0,0 +1,145 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.builtin.collection.list.CCreate;
+import org.lightjason.agentspeak.action.builtin.math.CSum;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.action.CProxyAction;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of action execution
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class CActionBenchmark
+{
+    /**
+     * sum action
+     */
+    private final IAction m_sum = new CSum();
+    /**
+     * list create action
+     */
+    private final IAction m_list = new CCreate();
+    /**
+     * numeric arguments
+     */
+    private List<ITerm> m_arguments;
+    /**
+     * proxy action
+     */
+    private IExecution m_proxy;
+
+    /**
+     * creates the arguments and the proxy action
+     *
+     * @throws Exception on parsing error
+     */
+    @Setup
+    public final void setup() throws Exception
+    {
+        m_arguments = IntStream.range( 0, 16 ).mapToObj( CRawTerm::from ).collect( Collectors.toList() );
+
+        final Map<IPath, IAction> l_actions = CCommon.actionsFromPackage().collect( Collectors.toMap( IAction::name, Function.identity(), ( i, j ) -> i ) );
+        m_proxy = new CProxyAction( l_actions, CLiteral.parse( "math/sum(1, 2, math/max(3, 4), 5)" ) );
+    }
+
+    /**
+     * executes the proxy action with an inner action
+     *
+     * @return return values
+     */
+    @Benchmark
+    public final List<ITerm> proxy()
+    {
+        return this.execute( m_proxy, m_arguments );
+    }
+
+    /**
+     * executes the sum action
+     *
+     * @return return values
+     */
+    @Benchmark
+    public final List<ITerm> sum()
+    {
+        return this.execute( m_sum, m_arguments );
+    }
+
+    /**
+     * executes the list create action
+     *
+     * @return return values
+     */
+    @Benchmark
+    public final List<ITerm> list()
+    {
+        return this.execute( m_list, m_arguments );
+    }
+
+    /**
+     * executes an action
+     *
+     * @param p_execution execution
+     * @param p_arguments arguments
+     * @return return values
+     */
+    private List<ITerm> execute( final IExecution p_execution, final List<ITerm> p_arguments )
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final IFuzzyValue<Boolean> l_result = p_execution.execute( false, IContext.EMPTYPLAN, p_arguments, l_return );
+        if ( !l_result.value() )
+            throw new CIllegalStateException( p_execution.toString() );
+        return l_return;
+    }
+
+}
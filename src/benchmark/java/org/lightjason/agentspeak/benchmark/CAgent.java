@@ -0,0 +1,106 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark agent
+ */
+public final class CAgent extends IBaseAgent<CAgent>
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3262745263405224787L;
+
+    /**
+     * ctor
+     *
+     * @param p_configuration agent configuration
+     */
+    private CAgent( @Nonnull final IAgentConfiguration<CAgent> p_configuration )
+    {
+        super( p_configuration );
+    }
+
+    /**
+     * creates an agent source with a number of plans and beliefs,
+     * each plan triggers the next one, so the plans are triggered
+     * round-robin and each cycle runs one plan
+     *
+     * @param p_plans number of plans
+     * @param p_beliefs number of beliefs
+     * @return agent source
+     */
+    @Nonnull
+    public static String source( @Nonnegative final int p_plans, @Nonnegative final int p_beliefs )
+    {
+        return IntStream.range( 0, p_beliefs ).mapToObj( i -> "value(" + i + ")." ).collect( Collectors.joining( "\n" ) )
+               + "\n!main.\n"
+               + "+!main <- !plan0.\n"
+               + IntStream.range( 0, p_plans )
+                          .mapToObj( i -> "+!plan" + i + " <- >>value(X); Y = X + " + i + "; !plan" + ( i + 1 ) % p_plans + "." )
+                          .collect( Collectors.joining( "\n" ) );
+    }
+
+
+    /**
+     * agent generator
+     */
+    public static final class CGenerator extends IBaseAgentGenerator<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_stream input stream
+         * @param p_actions set with actions
+         * @throws Exception thrown on error
+         */
+        public CGenerator( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions ) throws Exception
+        {
+            super( p_stream, p_actions );
+        }
+
+        @Nonnull
+        @Override
+        public final CAgent generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.apache.commons.io.IOUtils;
+import org.lightjason.agentspeak.common.CCommon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+
+/**
+ * benchmark of the agent cycle
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+public class CAgentBenchmark
+{
+    /**
+     * number of plans
+     */
+    @Param( {"10", "100", "1000"} )
+    public int m_plans;
+    /**
+     * number of beliefs
+     */
+    @Param( {"10", "1000"} )
+    public int m_beliefs;
+    /**
+     * agent
+     */
+    private CAgent m_agent;
+
+    /**
+     * creates the agent
+     *
+     * @throws Exception on parsing error
+     */
+    @Setup
+    public final void setup() throws Exception
+    {
+        try
+        (
+            final InputStream l_stream = IOUtils.toInputStream( CAgent.source( m_plans, m_beliefs ), StandardCharsets.UTF_8 )
+        )
+        {
+            m_agent = new CAgent.CGenerator( l_stream, CCommon.actionsFromPackage().collect( Collectors.toSet() ) ).generatesingle();
+        }
+    }
+
+    /**
+     * runs a single agent cycle
+     *
+     * @return agent
+     * @throws Exception on execution error
+     */
+    @Benchmark
+    public final CAgent cycle() throws Exception
+    {
+        return m_agent.call();
+    }
+
+}
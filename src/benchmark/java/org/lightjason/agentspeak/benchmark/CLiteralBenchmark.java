@@ -0,0 +1,196 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.apache.commons.io.IOUtils;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.unify.CMatcher;
+import org.lightjason.agentspeak.language.unify.CUnifier;
+import org.lightjason.agentspeak.language.unify.IUnifier;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * benchmark of literal creation, hashing, copying and unification
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class CLiteralBenchmark
+{
+    /**
+     * functor path
+     */
+    private final IPath m_functor = CPath.from( "foo/bar" );
+    /**
+     * unifier
+     */
+    private final IUnifier m_unifier = new CUnifier();
+    /**
+     * source literal with values
+     */
+    private ILiteral m_source;
+    /**
+     * copy of the source literal
+     */
+    private ILiteral m_copy;
+    /**
+     * target literal with variables
+     */
+    private ILiteral m_target;
+    /**
+     * compiled target literal
+     */
+    private CMatcher m_matcher;
+    /**
+     * context with allocated variables
+     */
+    private IContext m_context;
+
+    /**
+     * creates the literals and the context
+     *
+     * @throws Exception on parsing error
+     */
+    @Setup
+    public final void setup() throws Exception
+    {
+        m_source = CLiteral.parse( "foo/bar(5, 'text', inner(1, 2), [1, 2, 3])" );
+        m_copy = m_source.shallowcopy();
+        m_target = CLiteral.parse( "foo/bar(X, Y, inner(A, B), L)" );
+        m_matcher = CMatcher.from( m_target );
+
+        try
+        (
+            final InputStream l_stream = IOUtils.toInputStream( "", StandardCharsets.UTF_8 )
+        )
+        {
+            m_context = new CContext(
+                new CAgent.CGenerator( l_stream, Collections.emptySet() ).generatesingle(),
+                IPlan.EMPTY,
+                Collections.singleton( new CVariable<>( "X", 5 ) )
+            );
+        }
+    }
+
+    /**
+     * creates a literal
+     *
+     * @return literal
+     */
+    @Benchmark
+    public final ILiteral create()
+    {
+        return CLiteral.from( m_functor, CRawTerm.from( 5 ), CRawTerm.from( "text" ), CRawTerm.from( 1.5 ) );
+    }
+
+    /**
+     * creates a literal with the builder
+     *
+     * @return literal
+     */
+    @Benchmark
+    public final ILiteral build()
+    {
+        return CLiteral.builder( m_functor ).add( CRawTerm.from( 5 ), CRawTerm.from( "text" ), CRawTerm.from( 1.5 ) ).build();
+    }
+
+    /**
+     * compares two equal literals
+     *
+     * @return equality flag
+     */
+    @Benchmark
+    public final boolean equality()
+    {
+        return m_source.equals( m_copy );
+    }
+
+    /**
+     * creates a shallow copy
+     *
+     * @return literal
+     */
+    @Benchmark
+    public final ILiteral shallowcopy()
+    {
+        return m_source.shallowcopy();
+    }
+
+    /**
+     * unifies a literal with the context variables
+     *
+     * @return literal
+     */
+    @Benchmark
+    public final ILiteral contextunify()
+    {
+        return m_target.unify( m_context );
+    }
+
+    /**
+     * unifies two literals
+     *
+     * @return set with allocated variables
+     */
+    @Benchmark
+    public final Set<IVariable<?>> unify()
+    {
+        return m_unifier.unify( m_source, m_target );
+    }
+
+    /**
+     * unifies a literal with a compiled literal
+     *
+     * @return set with allocated variables
+     */
+    @Benchmark
+    public final Set<IVariable<?>> compiledunify()
+    {
+        return m_unifier.unify( m_source, m_matcher );
+    }
+
+}
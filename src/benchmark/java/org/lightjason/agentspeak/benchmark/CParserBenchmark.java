@@ -0,0 +1,105 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.grammar.CParserAgent;
+import org.lightjason.agentspeak.grammar.IASTVisitorAgent;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+
+/**
+ * benchmark of the parser
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+public class CParserBenchmark
+{
+    /**
+     * number of plans
+     */
+    @Param( {"10", "100"} )
+    public int m_plans;
+    /**
+     * agent source
+     */
+    private byte[] m_source;
+    /**
+     * actions
+     */
+    private Set<IAction> m_actions;
+
+    /**
+     * creates the source and loads the actions
+     */
+    @Setup
+    public final void setup()
+    {
+        m_source = CAgent.source( m_plans, m_plans ).getBytes( StandardCharsets.UTF_8 );
+        m_actions = CCommon.actionsFromPackage().collect( Collectors.toSet() );
+    }
+
+    /**
+     * parses an agent
+     *
+     * @return visitor
+     * @throws Exception on parsing error
+     */
+    @Benchmark
+    public final IASTVisitorAgent agent() throws Exception
+    {
+        return new CParserAgent( m_actions ).parse( new ByteArrayInputStream( m_source ) );
+    }
+
+    /**
+     * parses a literal
+     *
+     * @return literal
+     * @throws Exception on parsing error
+     */
+    @Benchmark
+    public final ILiteral literal() throws Exception
+    {
+        return CLiteral.parse( "foo/bar(5, 'text', inner(1, 2), [1, 2, 3])" );
+    }
+
+}
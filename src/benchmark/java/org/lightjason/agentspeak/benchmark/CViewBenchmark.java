@@ -0,0 +1,129 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.benchmark;
+
+import org.lightjason.agentspeak.beliefbase.CBeliefbase;
+import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
+import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of beliefbase views
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+public class CViewBenchmark
+{
+    /**
+     * number of beliefs
+     */
+    @Param( {"100", "10000"} )
+    public int m_beliefs;
+    /**
+     * functor path
+     */
+    private final IPath m_functor = CPath.from( "value" );
+    /**
+     * literals
+     */
+    private ILiteral[] m_literals;
+    /**
+     * view
+     */
+    private IView m_view;
+
+    /**
+     * creates the literals
+     */
+    @Setup( Level.Trial )
+    public final void literals()
+    {
+        m_literals = IntStream.range( 0, m_beliefs )
+                              .mapToObj( i -> CLiteral.from( m_functor, CRawTerm.from( i ) ) )
+                              .toArray( ILiteral[]::new );
+    }
+
+    /**
+     * creates a filled view
+     */
+    @Setup( Level.Iteration )
+    public final void view()
+    {
+        m_view = new CBeliefbase( new CMultiStorage<>() ).create( "root" );
+        m_view.add( m_literals );
+    }
+
+    /**
+     * adds all literals to an empty view
+     *
+     * @return view
+     */
+    @Benchmark
+    public final IView add()
+    {
+        return new CBeliefbase( new CMultiStorage<>() ).create( "root" ).add( m_literals );
+    }
+
+    /**
+     * streams all literals of a functor
+     *
+     * @return number of literals
+     */
+    @Benchmark
+    public final long stream()
+    {
+        return m_view.stream( m_functor ).count();
+    }
+
+    /**
+     * checks the existence of a literal
+     *
+     * @return existance flag
+     */
+    @Benchmark
+    public final boolean contains()
+    {
+        return m_view.containsLiteral( m_functor );
+    }
+
+}
@@ -34,6 +34,9 @@ import java.util.stream.Stream;
 
 /**
  * external action interface
+ *
+ * @note actions outside the builtin package get an own argument
+ * list on each call, so the arguments can be kept after the call
  */
 public interface IAction extends IExecution
 {
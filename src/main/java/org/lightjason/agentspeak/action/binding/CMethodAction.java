@@ -40,6 +40,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.text.MessageFormat;
 import java.util.List;
@@ -74,6 +75,12 @@ public final class CMethodAction extends IBaseAction
      * method handle
      */
     private transient MethodHandle m_methodhandle;
+    /**
+     * method handle with generic types, which gets
+     * the agent and raw arguments as array, or null
+     * on variable arguments
+     */
+    private transient MethodHandle m_invoker;
 
 
     /**
@@ -92,6 +99,24 @@ public final class CMethodAction extends IBaseAction
             : m_method.getName().toLowerCase( Locale.ROOT )
         );
         m_methodhandle = MethodHandles.lookup().unreflect( m_method );
+        m_invoker = CMethodAction.invoker( m_method, m_methodhandle );
+    }
+
+    /**
+     * creates the invoker handle, which spreads an object array
+     * with exact arity and adapts the types (unboxing / casting)
+     *
+     * @param p_method method
+     * @param p_methodhandle method handle
+     * @return invoker handle or null on variable arguments
+     */
+    @Nullable
+    private static MethodHandle invoker( @Nonnull final Method p_method, @Nonnull final MethodHandle p_methodhandle )
+    {
+        return p_method.isVarArgs()
+               ? null
+               : p_methodhandle.asType( MethodType.genericMethodType( p_method.getParameterCount() + 1 ) )
+                               .asSpreader( Object[].class, p_method.getParameterCount() + 1 );
     }
 
     /**
@@ -124,8 +149,10 @@ public final class CMethodAction extends IBaseAction
         p_stream.defaultReadObject();
 
         // deserialize method handle
-        m_method = ( (Class<?>) p_stream.readObject() ).getMethod( p_stream.readUTF(), (Class<?>[])p_stream.readObject() );
+        m_method = ( (Class<?>) p_stream.readObject() ).getDeclaredMethod( p_stream.readUTF(), (Class<?>[])p_stream.readObject() );
+        m_method.setAccessible( true );
         m_methodhandle = MethodHandles.lookup().unreflect( m_method );
+        m_invoker = CMethodAction.invoker( m_method, m_methodhandle );
     }
 
     @Nonnull
@@ -150,14 +177,8 @@ public final class CMethodAction extends IBaseAction
     {
         try
         {
-            return m_arguments == 0
-
-                ? CMethodAction.returnvalues(
-                m_methodhandle.invoke( p_context.agent() ),
-                p_return
-                )
-
-                : CMethodAction.returnvalues(
+            if ( m_invoker == null )
+                return CMethodAction.returnvalues(
                     m_methodhandle.invokeWithArguments(
                         Stream.concat(
                             Stream.of( p_context.agent() ),
@@ -166,6 +187,13 @@ public final class CMethodAction extends IBaseAction
                     ),
                     p_return
                 );
+
+            final Object[] l_arguments = new Object[p_argument.size() + 1];
+            l_arguments[0] = p_context.agent();
+            for ( int i = 0; i < p_argument.size(); i++ )
+                l_arguments[i + 1] = p_argument.get( i ).raw();
+
+            return CMethodAction.returnvalues( (Object) m_invoker.invokeExact( l_arguments ), p_return );
         }
         catch ( final Throwable l_throwable )
         {
@@ -92,12 +92,10 @@ public final class CNCD extends IBuiltinAction
 
 
         // calculate distance
-        l_arguments.stream()
-                   .skip( l_skip + 1 )
-                   .mapToDouble( i -> CCommon.ncd( l_compression, l_arguments.get( l_skip ), i ) )
-                   .boxed()
-                   .map( CRawTerm::from )
-                   .forEach( p_return::add );
+        CCommon.ncd( l_compression, l_arguments.get( l_skip ), l_arguments.stream().skip( l_skip + 1 ) )
+               .boxed()
+               .map( CRawTerm::from )
+               .forEach( p_return::add );
 
         return CFuzzyValue.from( true );
     }
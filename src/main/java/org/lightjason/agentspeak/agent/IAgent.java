@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.agent;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import org.lightjason.agentspeak.generator.IAgentGenerator;
+import org.lightjason.agentspeak.instrumentation.IInstrumentation;
 import org.lightjason.agentspeak.language.fuzzy.operator.IFuzzyBundle;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.IPath;
@@ -35,8 +36,10 @@ import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.unify.IUnifier;
 import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
-import org.lightjason.agentspeak.language.instantiable.plan.statistic.IPlanStatistic;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlanIndex;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleTable;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITriggerInbox;
 import org.lightjason.agentspeak.language.instantiable.rule.IRule;
 
 import javax.annotation.Nonnegative;
@@ -160,9 +163,30 @@ public interface IAgent<T extends IAgent<?>> extends Serializable, Callable<T>
 
         @Nonnull
         @Override
-        public final Multimap<ITrigger, IPlanStatistic> plans()
+        public final IPlanIndex plans()
         {
-            return ImmutableMultimap.of();
+            return IPlanIndex.EMPTY;
+        }
+
+        @Nonnull
+        @Override
+        public final IRuleTable ruletable()
+        {
+            return IRuleTable.EMPTY;
+        }
+
+        @Nonnull
+        @Override
+        public final ITriggerInbox inbox()
+        {
+            return ITriggerInbox.EMPTY;
+        }
+
+        @Nonnull
+        @Override
+        public final IInstrumentation instrumentation()
+        {
+            return IInstrumentation.EMPTY;
         }
 
         @Nonnull
@@ -239,7 +263,8 @@ public interface IAgent<T extends IAgent<?>> extends Serializable, Callable<T>
     IView beliefbase();
 
     /**
-     * returns a map of the current running plans
+     * returns a map of the current running plans, the map
+     * is an immutable snapshot of the current cycle
      *
      * @return map with running plans and the instance literal
      */
@@ -318,12 +343,38 @@ public interface IAgent<T extends IAgent<?>> extends Serializable, Callable<T>
     long cycletime();
 
     /**
-     * returns the internal map of plans
+     * returns the internal index of plans
+     *
+     * @return plan index
+     */
+    @Nonnull
+    IPlanIndex plans();
+
+    /**
+     * returns the table of rule results
+     *
+     * @return rule table
+     */
+    @Nonnull
+    IRuleTable ruletable();
+
+    /**
+     * returns the inbox of the
+     * triggers for the next cycle
+     *
+     * @return trigger inbox
+     */
+    @Nonnull
+    ITriggerInbox inbox();
+
+    /**
+     * returns the instrumentation, which
+     * creates snapshots of the recorded values
      *
-     * @return plan map
+     * @return instrumentation
      */
     @Nonnull
-    Multimap<ITrigger, IPlanStatistic> plans();
+    IInstrumentation instrumentation();
 
     /**
      * return fuzzy operator
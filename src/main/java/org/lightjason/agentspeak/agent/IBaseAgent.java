@@ -24,35 +24,37 @@
 package org.lightjason.agentspeak.agent;
 
 import com.codepoetics.protonpack.StreamUtils;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
-import com.google.common.collect.TreeMultimap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.language.fuzzy.operator.IFuzzyBundle;
 import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.common.IExecutionPolicy;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
+import org.lightjason.agentspeak.instrumentation.IInstrumentation;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.ILiteral;
-import org.lightjason.agentspeak.language.IStructureHash;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.unify.IUnifier;
 import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
-import org.lightjason.agentspeak.language.instantiable.plan.statistic.CPlanStatistic;
+import org.lightjason.agentspeak.language.instantiable.plan.CPlanIndex;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlanIndex;
 import org.lightjason.agentspeak.language.instantiable.plan.statistic.IPlanStatistic;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITriggerInbox;
 import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleTable;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -61,13 +63,13 @@ import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -99,18 +101,17 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      */
     protected final Map<String, Object> m_storage = new ConcurrentHashMap<>();
     /**
-     * execution trigger with content hash
+     * inbox of the triggers for the next cycle
      */
-    protected final Map<Integer, ITrigger> m_trigger = new ConcurrentHashMap<>();
+    protected final ITriggerInbox m_trigger;
     /**
      * multimap with rules
      */
     protected final Multimap<IPath, IRule> m_rules = Multimaps.synchronizedMultimap( LinkedHashMultimap.create() );
     /**
-     * map with all existing plans and successful / fail runs
+     * index with all existing plans and successful / fail runs
      */
-    protected final Multimap<ITrigger, IPlanStatistic> m_plans = Multimaps.synchronizedMultimap(
-                                                                    TreeMultimap.create( IStructureHash.COMPARATOR, Comparator.<IPlanStatistic>naturalOrder() ) );
+    protected final IPlanIndex m_plans;
     /**
      * nano seconds at the last cycle
      */
@@ -139,9 +140,22 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      */
     private final IFuzzyBundle<Boolean> m_fuzzy;
     /**
-     * running plans (thread-safe)
+     * execution policy of the cycle
      */
-    private final Multimap<IPath, ILiteral> m_runningplans = Multimaps.synchronizedSetMultimap( HashMultimap.create() );
+    private final IExecutionPolicy m_executionpolicy;
+    /**
+     * table of rule results
+     */
+    private final IRuleTable m_ruletable;
+    /**
+     * instrumentation
+     */
+    private final IInstrumentation m_instrumentation;
+    /**
+     * immutable snapshot of the running plans of the current cycle,
+     * so test goals and inspectors can share it without copying
+     */
+    private final AtomicReference<ImmutableSetMultimap<IPath, ILiteral>> m_runningplans = new AtomicReference<>( ImmutableSetMultimap.of() );
 
 
 
@@ -157,12 +171,16 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         m_beliefbase = p_configuration.beliefbase();
         m_variablebuilder = p_configuration.variablebuilder();
         m_fuzzy = p_configuration.fuzzy();
+        m_executionpolicy = p_configuration.executionpolicy();
+        m_ruletable = p_configuration.ruletable();
+        m_instrumentation = p_configuration.instrumentation();
+        m_trigger = p_configuration.inbox();
 
         // initial plans and rules
-        p_configuration.plans().parallelStream().forEach( i -> m_plans.put( i.trigger(), CPlanStatistic.from( i ) ) );
+        m_plans = CPlanIndex.from( p_configuration.plans().stream() );
         p_configuration.rules().parallelStream().forEach( i -> m_rules.put( i.identifier().fqnfunctor(), i ) );
         if ( p_configuration.initialgoal() != null )
-            m_trigger.put( p_configuration.initialgoal().hashCode(), p_configuration.initialgoal() );
+            m_trigger.push( p_configuration.initialgoal() );
     }
 
     @Nonnull
@@ -178,15 +196,14 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @SuppressWarnings( "varargs" )
     public final <N extends IInspector> Stream<N> inspect( @Nonnull final N... p_inspector )
     {
-        return Arrays.stream( p_inspector )
-                     .parallel()
+        return m_executionpolicy.stream( Arrays.asList( p_inspector ) )
                      .peek( i ->
                      {
                          i.inspectcycletime( m_cycletime.get() );
                          i.inspectsleeping( m_sleepingcycles.get() );
                          i.inspectbelief( m_beliefbase.stream() );
                          i.inspectplans( m_plans.values().stream() );
-                         i.inspectrunningplans( m_runningplans.values().stream() );
+                         i.inspectrunningplans( m_runningplans.get().values().stream() );
                          i.inspectstorage( m_storage.entrySet().stream() );
                          i.inspectrules( m_rules.values().stream() );
                      } );
@@ -196,7 +213,7 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @Override
     public final Multimap<IPath, ILiteral> runningplans()
     {
-        return ImmutableMultimap.copyOf( m_runningplans );
+        return m_runningplans.get();
     }
 
     @Override
@@ -269,11 +286,32 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
 
     @Nonnull
     @Override
-    public final Multimap<ITrigger, IPlanStatistic> plans()
+    public final IPlanIndex plans()
     {
         return m_plans;
     }
 
+    @Nonnull
+    @Override
+    public final IRuleTable ruletable()
+    {
+        return m_ruletable;
+    }
+
+    @Nonnull
+    @Override
+    public final ITriggerInbox inbox()
+    {
+        return m_trigger;
+    }
+
+    @Nonnull
+    @Override
+    public final IInstrumentation instrumentation()
+    {
+        return m_instrumentation;
+    }
+
     @Nonnull
     @Override
     public final IFuzzyBundle<Boolean> fuzzy()
@@ -312,7 +350,7 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
             StringUtils.join(
                 StreamUtils.zip(
                     Stream.of( "Trigger", "Running Plans", "Beliefbase" ),
-                    Stream.of( m_trigger.values(), m_runningplans.keySet(), m_beliefbase ),
+                    Stream.of( m_trigger, m_runningplans.get().keySet(), m_beliefbase ),
                     ( l, c ) -> MessageFormat.format( "{0}: {1}", l, c )
                 ).toArray(),
                 " / "
@@ -335,18 +373,23 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         if ( ( p_immediately != null ) && ( p_immediately.length > 0 ) && ( p_immediately[0] ) )
             return this.execute( this.generateexecution( Stream.of( p_trigger ) ) );
 
-        // add trigger for the next cycle must be synchronized to avoid indeterministic state during execution
-        synchronized ( this )
-        {
-            m_trigger.putIfAbsent( p_trigger.hashCode(), p_trigger );
-        }
-
-        return CFuzzyValue.from( true );
+        // add trigger for the next cycle, the inbox is drained at the begin of the next cycle
+        return CFuzzyValue.from( m_trigger.push( p_trigger ) );
     }
 
     @Override
-    @SuppressWarnings( "unchecked" )
     public T call() throws Exception
+    {
+        return m_executionpolicy.execute( this::cycle );
+    }
+
+    /**
+     * runs a single agent cycle
+     *
+     * @return agent reference
+     */
+    @SuppressWarnings( "unchecked" )
+    private T cycle()
     {
         // run beliefbase update, because environment can be changed and decrement sleeping value
         m_beliefbase.update( (T) this );
@@ -354,8 +397,9 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
             // check wakup-event otherwise suspend
             return (T) this;
 
-        // update defuzzification
+        // update defuzzification and clear rule results of the previous cycle
         m_fuzzy.getValue().update( this );
+        m_ruletable.clear();
 
         // clear running plan- and trigger list and execute elements
         this.execute( this.generateexecutionlist() );
@@ -370,23 +414,21 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     /**
      * create the plan executionlist with clearing internal structures
      *
-     * @note must be synchronized for avoid indeterministic trigger list
+     * @note must be synchronized for avoid indeterministic running plans
      *
      * @return collection with execution plan and context
      */
     @Nonnull
     private synchronized Collection<Pair<IPlanStatistic, IContext>> generateexecutionlist()
     {
-        m_runningplans.clear();
-        final Collection<Pair<IPlanStatistic, IContext>> l_execution = this.generateexecution(
+        m_runningplans.set( ImmutableSetMultimap.of() );
+        m_instrumentation.triggerqueue( m_trigger.size() );
+        return this.generateexecution(
             Stream.concat(
-                m_trigger.values().parallelStream(),
-                m_beliefbase.trigger().parallel()
+                m_executionpolicy.stream( m_trigger.drain() ),
+                m_executionpolicy.apply( m_beliefbase.trigger().peek( m_instrumentation::belief ) )
             )
         );
-        m_trigger.clear();
-
-        return l_execution;
     }
 
 
@@ -403,11 +445,14 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
             .filter( Objects::nonNull )
             // get all possible plans
             .flatMap( i -> m_plans.get( i ).stream().map( j -> new ImmutablePair<>( i, j ) ) )
-            .parallel()
             // tries to unify trigger literal and filter of valid unification (returns set of unified variables)
             .map( i -> new ImmutablePair<>( i, CCommon.unifytrigger( m_unifier, i.getLeft(), i.getRight().plan().trigger() ) ) )
             // check if unification was possible
-            .filter( i -> i.getRight().getLeft() )
+            .filter( i ->
+            {
+                m_instrumentation.unification( i.getRight().getLeft() );
+                return i.getRight().getLeft();
+            } )
             // create execution context
             .map( i -> CCommon.instantiateplan( i.getLeft().getRight(), this, i.getRight().getRight() ) )
             // check plan-condition
@@ -426,19 +471,31 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @Nonnull
     private IFuzzyValue<Boolean> execute( @Nonnull final Collection<Pair<IPlanStatistic, IContext>> p_execution )
     {
-        // update executable plan list, so that test-goals are defined all the time
-        p_execution.parallelStream().forEach( i -> m_runningplans.put(
-            i.getLeft().plan().trigger().literal().fqnfunctor(),
-            i.getLeft().plan().trigger().literal().unify( i.getRight() )
-        ) );
+        // update executable plan list, so that test-goals are defined all the time,
+        // the snapshot is built once and merged only if plans are executed immediately
+        if ( !p_execution.isEmpty() )
+        {
+            final ImmutableSetMultimap<IPath, ILiteral> l_running = m_executionpolicy.stream( p_execution ).collect(
+                ImmutableSetMultimap.toImmutableSetMultimap(
+                    i -> i.getLeft().plan().trigger().literal().fqnfunctor(),
+                    i -> i.getLeft().plan().trigger().literal().unify( i.getRight() )
+                )
+            );
+            m_runningplans.accumulateAndGet(
+                l_running,
+                ( i, j ) -> i.isEmpty() ? j : ImmutableSetMultimap.<IPath, ILiteral>builder().putAll( i ).putAll( j ).build()
+            );
+        }
 
         // execute plan and return values and return execution result
-        return p_execution.parallelStream()
+        return m_executionpolicy.stream( p_execution )
                           .map( i ->
                           {
+                              final long l_start = m_instrumentation.start();
                               final IFuzzyValue<Boolean> l_result = i.getLeft()
                                                                      .plan()
                                                                      .execute( false, i.getRight(), Collections.emptyList(), Collections.emptyList() );
+                              m_instrumentation.plan( i.getLeft().plan(), l_start );
                               if ( m_fuzzy.getValue().defuzzify( l_result ) )
                                   // increment successful runs
                                   i.getLeft().incrementsuccessful();
@@ -470,13 +527,13 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
                     )
                 ) )
 
-                : m_sleepingterm.parallelStream()
+                : m_executionpolicy.stream( m_sleepingterm )
                                 .map( i -> CTrigger.from(
                                     ITrigger.EType.ADDGOAL,
                                     CLiteral.from( "wakeup", i )
                                 ) )
 
-            ).forEach( i -> m_trigger.put( i.structurehash(), i ) );
+            ).forEach( m_trigger::push );
 
             m_sleepingterm.clear();
         }
@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.beliefbase;
 
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.beliefbase.storage.IStorage;
+import org.lightjason.agentspeak.common.IExecutionPolicy;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
@@ -55,6 +56,18 @@ public final class CBeliefbase extends IBaseBeliefbase
         m_storage = p_storage;
     }
 
+    /**
+     * ctor
+     *
+     * @param p_storage storage
+     * @param p_executionpolicy execution policy
+     */
+    public CBeliefbase( @Nonnull final IStorage<ILiteral, IView> p_storage, @Nonnull final IExecutionPolicy p_executionpolicy )
+    {
+        super( p_executionpolicy );
+        m_storage = p_storage;
+    }
+
     @Override
     public final int hashCode()
     {
@@ -134,12 +147,19 @@ public final class CBeliefbase extends IBaseBeliefbase
         return m_storage.getMultiElement( p_key );
     }
 
+    @Nonnull
+    @Override
+    public final Collection<ILiteral> literal( @Nonnull final String p_key, @Nonnull final ILiteral p_literal )
+    {
+        return m_storage.getMultiElement( p_key, p_literal );
+    }
+
     @Nonnull
     @Override
     public final IAgent<?> update( @Nonnull final IAgent<?> p_agent )
     {
         super.update( p_agent );
-        m_storage.streamSingleElements().parallel().forEach( i -> i.update( p_agent ) );
+        m_executionpolicy.apply( m_storage.streamSingleElements() ).forEach( i -> i.update( p_agent ) );
         return m_storage.update( p_agent );
     }
 
@@ -148,12 +168,11 @@ public final class CBeliefbase extends IBaseBeliefbase
     public final IBeliefbase clear()
     {
         // create delete-event for all literals
-        m_storage
-            .streamMultiElements()
-            .parallel()
-            .forEach( i -> this.event( ITrigger.EType.DELETEBELIEF, i ) );
+        m_executionpolicy.apply(
+            m_storage.streamMultiElements()
+        ).forEach( i -> this.event( ITrigger.EType.DELETEBELIEF, i ) );
 
-        m_storage.streamSingleElements().parallel().forEach( i -> i.clear() );
+        m_executionpolicy.apply( m_storage.streamSingleElements() ).forEach( i -> i.clear() );
         m_storage.clear();
 
         return this;
@@ -168,7 +187,7 @@ public final class CBeliefbase extends IBaseBeliefbase
     @Override
     public final int size()
     {
-        return m_storage.size() + m_storage.streamSingleElements().parallel().mapToInt( IStructure::size ).sum();
+        return m_storage.size() + m_executionpolicy.apply( m_storage.streamSingleElements() ).mapToInt( IStructure::size ).sum();
     }
 
     @Nonnull
@@ -176,8 +195,8 @@ public final class CBeliefbase extends IBaseBeliefbase
     public final Stream<ITrigger> trigger( @Nonnull final IView p_view )
     {
         return Stream.concat(
-            super.trigger( p_view ).parallel(),
-            m_storage.streamSingleElements().parallel().flatMap( IView::trigger )
+            m_executionpolicy.apply( super.trigger( p_view ) ),
+            m_executionpolicy.apply( m_storage.streamSingleElements() ).flatMap( IView::trigger )
         );
     }
 
@@ -23,11 +23,10 @@
 
 package org.lightjason.agentspeak.beliefbase;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CExecutionPolicy;
+import org.lightjason.agentspeak.common.IExecutionPolicy;
 import org.lightjason.agentspeak.beliefbase.view.CView;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.language.ILiteral;
@@ -35,40 +34,61 @@ import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 
 import javax.annotation.Nonnull;
-import java.lang.ref.PhantomReference;
-import java.lang.ref.Reference;
-import java.lang.ref.ReferenceQueue;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
- * default behaviour of a beliefbase
+ * default behaviour of a beliefbase, all events are appended
+ * once to an event log and each view reads the events with
+ * its own cursor, so an event is not copied for each view
+ * and events are released if all views have read them
  *
  * @tparam T agent type
- * @todo check reference counting on delete views
- * @see http://docs.oracle.com/javase/8/docs/api/java/lang/ref/PhantomReference.html
- * @see http://docs.oracle.com/javase/8/docs/api/java/lang/ref/WeakReference.html
- * @see https://community.oracle.com/blogs/enicholas/2006/05/04/understanding-weak-references
  */
 @SuppressFBWarnings( "RI_REDUNDANT_INTERFACES" )
 public abstract class IBaseBeliefbase implements IBeliefbase
 {
 
     /**
-     * map with events for a mask
+     * execution policy
      */
-    private final Multimap<IView, ITrigger> m_events = Multimaps.synchronizedSetMultimap( HashMultimap.create() );
+    protected final IExecutionPolicy m_executionpolicy;
     /**
-     * set with all current views
+     * last element of the event log
      */
-    private final Set<IView> m_views = Collections.synchronizedSet( new HashSet<>() );
+    private final AtomicReference<CEvent> m_tail = new AtomicReference<>( new CEvent( null ) );
     /**
-     * weak reference queue of all masks to avoid memory-leaks of belief events
+     * read cursor of each view
      */
-    private final ReferenceQueue<IView> m_maskreference = new ReferenceQueue<>();
+    private final Map<IView, CCursor> m_cursors = new ConcurrentHashMap<>();
+
+
+    /**
+     * ctor
+     */
+    protected IBaseBeliefbase()
+    {
+        this( CExecutionPolicy.PARALLEL );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_executionpolicy execution policy
+     */
+    protected IBaseBeliefbase( @Nonnull final IExecutionPolicy p_executionpolicy )
+    {
+        m_executionpolicy = p_executionpolicy;
+    }
 
 
     @Nonnull
@@ -103,18 +123,6 @@ public abstract class IBaseBeliefbase implements IBeliefbase
     @Override
     public IAgent<?> update( @Nonnull final IAgent<?> p_agent )
     {
-        // check all references of mask and remove unused references
-        Reference<? extends IView> l_reference;
-        while ( ( l_reference = m_maskreference.poll() ) != null )
-        {
-            final IView l_view = l_reference.get();
-            if ( l_view != null )
-            {
-                m_views.remove( l_view );
-                m_events.asMap().remove( l_view );
-            }
-        }
-
         return p_agent;
     }
 
@@ -127,15 +135,18 @@ public abstract class IBaseBeliefbase implements IBeliefbase
 
 
     /**
-     * push an event and literal to the event map
+     * appends an event and literal to the event log
      *
      * @param p_event event
      * @param p_literal literal
      */
     protected ILiteral event( final ITrigger.EType p_event, final ILiteral p_literal )
     {
-        final ITrigger l_trigger = CTrigger.from( p_event, p_literal );
-        m_views.parallelStream().forEach( i -> m_events.put( i, l_trigger ) );
+        if ( m_cursors.isEmpty() )
+            return p_literal;
+
+        final CEvent l_event = new CEvent( CTrigger.from( p_event, p_literal ) );
+        m_tail.getAndSet( l_event ).m_next = l_event;
         return p_literal;
     }
 
@@ -147,33 +158,151 @@ public abstract class IBaseBeliefbase implements IBeliefbase
      */
     protected final IView internalremove( final IView p_view )
     {
-        m_views.remove( p_view );
-        m_events.removeAll( p_view );
+        m_cursors.remove( p_view );
         return p_view;
     }
 
     /**
-     * adds a view to the event referencing structure
+     * adds a view to the event referencing structure,
+     * the view gets all events after this call
      *
      * @param p_view view
      * @return input view
      */
     protected IView eventreference( final IView p_view )
     {
-        new PhantomReference<>( p_view, m_maskreference );
-        m_views.add( p_view );
+        m_cursors.putIfAbsent( p_view, new CCursor( m_tail.get() ) );
         return p_view;
     }
 
     /**
-     * copy of all trigger values
+     * returns all events since the last read of the view
      *
      * @param p_view trigger of this view
-     * @return set with trigger values
+     * @return stream with trigger values
      */
     protected final Stream<ITrigger> cleartrigger( final IView p_view )
     {
-        return m_events.removeAll( p_view ).stream();
+        final CCursor l_cursor = m_cursors.get( p_view );
+        return l_cursor == null ? Stream.empty() : l_cursor.delta();
+    }
+
+
+    /**
+     * element of the event log
+     */
+    private static final class CEvent
+    {
+        /**
+         * trigger
+         */
+        private final ITrigger m_trigger;
+        /**
+         * next element
+         */
+        private volatile CEvent m_next;
+
+        /**
+         * ctor
+         *
+         * @param p_trigger trigger
+         */
+        CEvent( @Nullable final ITrigger p_trigger )
+        {
+            m_trigger = p_trigger;
+        }
+    }
+
+
+    /**
+     * read cursor of a view, which references
+     * the last read element of the event log
+     */
+    private static final class CCursor
+    {
+        /**
+         * last read element
+         */
+        private CEvent m_position;
+
+        /**
+         * ctor
+         *
+         * @param p_position initial position
+         */
+        CCursor( @Nonnull final CEvent p_position )
+        {
+            m_position = p_position;
+        }
+
+        /**
+         * moves the cursor to the end of the log and
+         * returns the distinct events of the skipped elements
+         *
+         * @return trigger stream
+         */
+        @Nonnull
+        synchronized Stream<ITrigger> delta()
+        {
+            final CEvent l_first = m_position.m_next;
+            if ( l_first == null )
+                return Stream.empty();
+
+            CEvent l_last = l_first;
+            for ( CEvent l_next = l_last.m_next; l_next != null; l_next = l_next.m_next )
+                l_last = l_next;
+            m_position = l_last;
+
+            return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize( new CIterator( l_first, l_last ), Spliterator.ORDERED | Spliterator.NONNULL ),
+                false
+            ).distinct();
+        }
+    }
+
+
+    /**
+     * iterator over a closed range of the event log
+     */
+    private static final class CIterator implements Iterator<ITrigger>
+    {
+        /**
+         * last element of the range
+         */
+        private final CEvent m_last;
+        /**
+         * next element or null
+         */
+        private CEvent m_next;
+
+        /**
+         * ctor
+         *
+         * @param p_first first element
+         * @param p_last last element
+         */
+        CIterator( @Nonnull final CEvent p_first, @Nonnull final CEvent p_last )
+        {
+            m_next = p_first;
+            m_last = p_last;
+        }
+
+        @Override
+        public final boolean hasNext()
+        {
+            return m_next != null;
+        }
+
+        @Override
+        public final ITrigger next()
+        {
+            if ( m_next == null )
+                throw new NoSuchElementException();
+
+            final CEvent l_current = m_next;
+            m_next = l_current == m_last ? null : l_current.m_next;
+            return l_current.m_trigger;
+        }
     }
 
 }
@@ -150,6 +150,13 @@ public interface IBeliefbase extends IStructure
             return Collections.emptySet();
         }
 
+        @Nonnull
+        @Override
+        public final Collection<ILiteral> literal( @Nonnull final String p_key, @Nonnull final ILiteral p_literal )
+        {
+            return Collections.emptySet();
+        }
+
         @Nullable
         @Override
         public final IView viewOrDefault( @Nonnull final String p_key, @Nullable final IView p_default )
@@ -289,6 +296,17 @@ public interface IBeliefbase extends IStructure
     @Nonnull
     Collection<ILiteral> literal( @Nonnull final String p_key );
 
+    /**
+     * returns all literals of the name, which are
+     * candidates for unification with the literal
+     *
+     * @param p_key name of the literal
+     * @param p_literal literal for unification
+     * @return collection of literals
+     */
+    @Nonnull
+    Collection<ILiteral> literal( @Nonnull final String p_key, @Nonnull final ILiteral p_literal );
+
     /**
      * returns a view element
      *
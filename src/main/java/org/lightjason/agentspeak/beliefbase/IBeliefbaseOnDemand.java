@@ -88,6 +88,13 @@ public abstract class IBeliefbaseOnDemand<T extends IAgent<?>> extends IBaseBeli
         return Collections.<ILiteral>emptySet();
     }
 
+    @Nonnull
+    @Override
+    public Collection<ILiteral> literal( @Nonnull final String p_key, @Nonnull final ILiteral p_literal )
+    {
+        return this.literal( p_key );
+    }
+
     @Nonnull
     @Override
     public final IView view( @Nonnull final String p_key )
@@ -0,0 +1,102 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.beliefbase.storage;
+
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+/**
+ * discriminator of a literal for the argument index
+ * of a storage, the discriminator is build by the
+ * hash values of the ground (raw) arguments at the
+ * defined positions, so literals with unequal discriminator
+ * cannot be unified, a literal without ground arguments
+ * at the positions returns null
+ */
+public final class CArgumentDiscriminator implements Function<ILiteral, Object>
+{
+    /**
+     * argument positions
+     */
+    private final int[] m_positions;
+
+    /**
+     * ctor
+     *
+     * @param p_positions argument positions
+     */
+    private CArgumentDiscriminator( @Nonnull final int[] p_positions )
+    {
+        m_positions = p_positions;
+    }
+
+    @Nullable
+    @Override
+    public final Object apply( @Nonnull final ILiteral p_literal )
+    {
+        final List<ITerm> l_values = p_literal.orderedvalues().collect( Collectors.toList() );
+        if ( Arrays.stream( m_positions ).anyMatch( i -> ( i >= l_values.size() ) || ( !( l_values.get( i ) instanceof IRawTerm<?> ) ) ) )
+            return null;
+
+        return m_positions.length == 1
+               ? l_values.get( m_positions[0] ).hashCode()
+               : Arrays.stream( m_positions ).mapToObj( i -> l_values.get( i ).hashCode() ).collect( Collectors.toList() );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0}{1}", super.toString(), Arrays.toString( m_positions ) );
+    }
+
+    /**
+     * creates a discriminator of argument positions
+     *
+     * @param p_positions argument positions
+     * @return discriminator
+     */
+    @Nonnull
+    public static Function<ILiteral, Object> from( @Nonnegative final int... p_positions )
+    {
+        if ( ( p_positions == null ) || ( p_positions.length == 0 ) || ( Arrays.stream( p_positions ).anyMatch( i -> i < 0 ) ) )
+            throw new CIllegalArgumentException( CCommon.languagestring( CArgumentDiscriminator.class, "position", Arrays.toString( p_positions ) ) );
+
+        return new CArgumentDiscriminator( p_positions.clone() );
+    }
+
+}
@@ -0,0 +1,318 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.beliefbase.storage;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * concurrent storage of the data of single- and
+ * multi-elements, multi-elements are stored in
+ * concurrent sets for each key, so modifications
+ * of different keys are not serialized and streams
+ * are weakly consistent during modification,
+ * multi-elements can be indexed by a discriminator
+ *
+ * @tparam N multi-element type
+ * @tparam M single-element type
+ */
+public final class CConcurrentMultiStorage<N, M> extends IBaseStorage<N, M>
+{
+    /**
+     * index key of elements without discriminator
+     */
+    private static final Object WILDCARD = new Object();
+    /**
+     * map with elements of each key
+     **/
+    private final Map<String, CElements<N>> m_multielements = new ConcurrentHashMap<>();
+    /**
+     * map with single elements
+     **/
+    private final Map<String, M> m_singleelements = new ConcurrentHashMap<>();
+    /**
+     * discriminator function or null
+     */
+    private final Function<N, Object> m_discriminator;
+
+
+    /**
+     * ctor
+     */
+    public CConcurrentMultiStorage()
+    {
+        this( null );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_discriminator discriminator function of the multi-element index,
+     * returns null if an element cannot be discriminated
+     */
+    public CConcurrentMultiStorage( @Nullable final Function<N, Object> p_discriminator )
+    {
+        m_discriminator = p_discriminator;
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<N> streamMultiElements()
+    {
+        return m_multielements.values().stream().flatMap( i -> i.elements().stream() );
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<M> streamSingleElements()
+    {
+        return m_singleelements.values().stream();
+    }
+
+    @Override
+    public final boolean containsMultiElement( @Nonnull final String p_key )
+    {
+        return m_multielements.containsKey( p_key );
+    }
+
+    @Override
+    public final boolean containsSingleElement( @Nonnull final String p_key )
+    {
+        return m_singleelements.containsKey( p_key );
+    }
+
+    @Override
+    public final boolean putMultiElement( @Nonnull final String p_key, final N p_value )
+    {
+        // modification runs atomically on the key only, empty element sets are removed
+        final boolean[] l_result = new boolean[1];
+        m_multielements.compute( p_key, ( i, j ) ->
+        {
+            final CElements<N> l_elements = j == null ? new CElements<>() : j;
+            l_result[0] = l_elements.add( p_value, this.discriminator( p_value ) );
+            return l_elements;
+        } );
+        return l_result[0];
+    }
+
+    @Override
+    public final boolean putSingleElement( @Nonnull final String p_key, final M p_value )
+    {
+        return !p_value.equals( m_singleelements.put( p_key, p_value ) );
+    }
+
+    @Override
+    public final boolean putSingleElementIfAbsent( @Nonnull final String p_key, final M p_value )
+    {
+        return !p_value.equals( m_singleelements.putIfAbsent( p_key, p_value ) );
+    }
+
+    @Override
+    public final boolean removeMultiElement( @Nonnull final String p_key, final N p_value )
+    {
+        final boolean[] l_result = new boolean[1];
+        m_multielements.computeIfPresent( p_key, ( i, j ) ->
+        {
+            l_result[0] = j.remove( p_value, this.discriminator( p_value ) );
+            return j.elements().isEmpty() ? null : j;
+        } );
+        return l_result[0];
+    }
+
+    @Override
+    public final boolean removeSingleElement( @Nonnull final String p_key )
+    {
+        return m_singleelements.remove( p_key ) != null;
+    }
+
+    @Override
+    public final M getSingleElement( @Nonnull final String p_key )
+    {
+        return m_singleelements.get( p_key );
+    }
+
+    @Override
+    public final M getSingleElementOrDefault( @Nonnull final String p_key, final M p_default )
+    {
+        return m_singleelements.getOrDefault( p_key, p_default );
+    }
+
+    @Nonnull
+    @Override
+    public final Collection<N> getMultiElement( @Nonnull final String p_key )
+    {
+        final CElements<N> l_elements = m_multielements.get( p_key );
+        return l_elements == null ? Collections.emptySet() : Collections.unmodifiableSet( l_elements.elements() );
+    }
+
+    @Nonnull
+    @Override
+    public final Collection<N> getMultiElement( @Nonnull final String p_key, @Nonnull final N p_query )
+    {
+        final Object l_discriminator = m_discriminator == null ? null : m_discriminator.apply( p_query );
+        if ( l_discriminator == null )
+            return this.getMultiElement( p_key );
+
+        final CElements<N> l_elements = m_multielements.get( p_key );
+        return l_elements == null
+               ? Collections.emptySet()
+               : Stream.concat( l_elements.indexed( l_discriminator ).stream(), l_elements.indexed( WILDCARD ).stream() ).collect( Collectors.toList() );
+    }
+
+    @Override
+    public final void clear()
+    {
+        m_multielements.clear();
+        m_singleelements.clear();
+    }
+
+    @Override
+    public final boolean empty()
+    {
+        return m_multielements.isEmpty() && m_singleelements.isEmpty();
+    }
+
+    @Override
+    public final int size()
+    {
+        return m_multielements.values().stream().mapToInt( i -> i.elements().size() ).sum();
+    }
+
+    /**
+     * returns the index discriminator of an element
+     *
+     * @param p_value element
+     * @return discriminator, wildcard or null if no discriminator is set
+     */
+    @Nullable
+    private Object discriminator( @Nonnull final N p_value )
+    {
+        if ( m_discriminator == null )
+            return null;
+
+        final Object l_discriminator = m_discriminator.apply( p_value );
+        return l_discriminator == null ? WILDCARD : l_discriminator;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format(
+            "{0} {1}",
+            m_multielements.isEmpty() ? "" : this.streamMultiElements().collect( Collectors.toList() ),
+            m_singleelements.isEmpty() ? "" : m_singleelements.values()
+        ).trim();
+    }
+
+
+    /**
+     * elements of a single key with
+     * discriminator index
+     *
+     * @tparam N element type
+     */
+    private static final class CElements<N>
+    {
+        /**
+         * elements
+         */
+        private final Set<N> m_elements = ConcurrentHashMap.newKeySet();
+        /**
+         * index of the elements by discriminator
+         */
+        private final Map<Object, Set<N>> m_index = new ConcurrentHashMap<>();
+
+        /**
+         * returns the elements
+         *
+         * @return element set
+         */
+        @Nonnull
+        final Set<N> elements()
+        {
+            return m_elements;
+        }
+
+        /**
+         * returns the elements of a discriminator
+         *
+         * @param p_discriminator discriminator
+         * @return element set
+         */
+        @Nonnull
+        final Set<N> indexed( @Nonnull final Object p_discriminator )
+        {
+            return m_index.getOrDefault( p_discriminator, Collections.emptySet() );
+        }
+
+        /**
+         * adds an element
+         *
+         * @param p_value element
+         * @param p_discriminator discriminator or null
+         * @return boolean if the element is added
+         */
+        final boolean add( @Nonnull final N p_value, @Nullable final Object p_discriminator )
+        {
+            if ( !m_elements.add( p_value ) )
+                return false;
+
+            if ( p_discriminator != null )
+                m_index.computeIfAbsent( p_discriminator, i -> ConcurrentHashMap.newKeySet() ).add( p_value );
+            return true;
+        }
+
+        /**
+         * removes an element
+         *
+         * @param p_value element
+         * @param p_discriminator discriminator or null
+         * @return boolean if the element is removed
+         */
+        final boolean remove( @Nonnull final N p_value, @Nullable final Object p_discriminator )
+        {
+            if ( !m_elements.remove( p_value ) )
+                return false;
+
+            if ( p_discriminator != null )
+                m_index.computeIfPresent( p_discriminator, ( i, j ) ->
+                {
+                    j.remove( p_value );
+                    return j.isEmpty() ? null : j;
+                } );
+            return true;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.beliefbase.storage;
+
+import org.lightjason.agentspeak.agent.IAgent;
+
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * copy-on-write storage, which reads the multi-elements
+ * of a shared immutable layer and stores only the delta of
+ * additions and retractions, so storages with equal initial
+ * elements share the memory of these elements, additions and
+ * single-elements are stored within the delta storage
+ *
+ * @tparam N multi-element type
+ * @tparam M single-element type
+ */
+public final class CLayeredStorage<N, M> extends IBaseStorage<N, M>
+{
+    /**
+     * shared layer
+     */
+    private final CStorageLayer<N> m_layer;
+    /**
+     * delta storage with additions
+     */
+    private final IStorage<N, M> m_delta;
+    /**
+     * retracted elements of the layer
+     */
+    private final Map<String, Set<N>> m_retracted = new ConcurrentHashMap<>();
+    /**
+     * flag that the layer is cleared, so
+     * all operations use the delta storage
+     */
+    private volatile boolean m_cleared;
+
+
+    /**
+     * ctor
+     *
+     * @param p_layer shared layer
+     * @param p_delta delta storage
+     */
+    public CLayeredStorage( @Nonnull final CStorageLayer<N> p_layer, @Nonnull final IStorage<N, M> p_delta )
+    {
+        m_layer = p_layer;
+        m_delta = p_delta;
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<N> streamMultiElements()
+    {
+        return Stream.concat( this.layer(), m_delta.streamMultiElements() );
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<M> streamSingleElements()
+    {
+        return m_delta.streamSingleElements();
+    }
+
+    @Override
+    public final boolean containsMultiElement( @Nonnull final String p_key )
+    {
+        return m_delta.containsMultiElement( p_key ) || this.layer( p_key, m_layer.get( p_key ).stream() ).findAny().isPresent();
+    }
+
+    @Override
+    public final boolean containsSingleElement( @Nonnull final String p_key )
+    {
+        return m_delta.containsSingleElement( p_key );
+    }
+
+    @Override
+    public final boolean putMultiElement( @Nonnull final String p_key, final N p_value )
+    {
+        if ( !this.inlayer( p_key, p_value ) )
+            return m_delta.putMultiElement( p_key, p_value );
+
+        final Set<N> l_retracted = m_retracted.get( p_key );
+        return ( l_retracted != null ) && l_retracted.remove( p_value );
+    }
+
+    @Override
+    public final boolean putSingleElement( @Nonnull final String p_key, final M p_value )
+    {
+        return m_delta.putSingleElement( p_key, p_value );
+    }
+
+    @Override
+    public final boolean putSingleElementIfAbsent( @Nonnull final String p_key, final M p_value )
+    {
+        return m_delta.putSingleElementIfAbsent( p_key, p_value );
+    }
+
+    @Override
+    public final boolean removeMultiElement( @Nonnull final String p_key, final N p_value )
+    {
+        return this.inlayer( p_key, p_value )
+               ? m_retracted.computeIfAbsent( p_key, i -> ConcurrentHashMap.newKeySet() ).add( p_value )
+               : m_delta.removeMultiElement( p_key, p_value );
+    }
+
+    @Override
+    public final boolean removeSingleElement( @Nonnull final String p_key )
+    {
+        return m_delta.removeSingleElement( p_key );
+    }
+
+    @Override
+    public final M getSingleElement( @Nonnull final String p_key )
+    {
+        return m_delta.getSingleElement( p_key );
+    }
+
+    @Override
+    public final M getSingleElementOrDefault( @Nonnull final String p_key, final M p_default )
+    {
+        return m_delta.getSingleElementOrDefault( p_key, p_default );
+    }
+
+    @Nonnull
+    @Override
+    public final Collection<N> getMultiElement( @Nonnull final String p_key )
+    {
+        if ( m_cleared || !m_layer.containsKey( p_key ) )
+            return m_delta.getMultiElement( p_key );
+
+        return Collections.unmodifiableList(
+            Stream.concat(
+                this.layer( p_key, m_layer.get( p_key ).stream() ),
+                m_delta.getMultiElement( p_key ).stream()
+            ).collect( Collectors.toList() )
+        );
+    }
+
+    @Nonnull
+    @Override
+    public final Collection<N> getMultiElement( @Nonnull final String p_key, @Nonnull final N p_query )
+    {
+        if ( m_cleared || !m_layer.containsKey( p_key ) )
+            return m_delta.getMultiElement( p_key, p_query );
+
+        return Collections.unmodifiableList(
+            Stream.concat(
+                this.layer( p_key, m_layer.get( p_key, p_query ) ),
+                m_delta.getMultiElement( p_key, p_query ).stream()
+            ).collect( Collectors.toList() )
+        );
+    }
+
+    @Override
+    public final void clear()
+    {
+        m_cleared = true;
+        m_retracted.clear();
+        m_delta.clear();
+    }
+
+    @Override
+    public final boolean empty()
+    {
+        return m_delta.empty() && !this.layer().findAny().isPresent();
+    }
+
+    @Nonnull
+    @Override
+    public final IAgent<?> update( @Nonnull final IAgent<?> p_agent )
+    {
+        return m_delta.update( p_agent );
+    }
+
+    @Override
+    public final int size()
+    {
+        return m_delta.size()
+               + ( m_cleared ? 0 : m_layer.size() - m_retracted.values().stream().mapToInt( Set::size ).sum() );
+    }
+
+    /**
+     * checks if an element is stored within the visible layer
+     *
+     * @param p_key key
+     * @param p_value element
+     * @return flag that the element is part of the layer
+     */
+    private boolean inlayer( @Nonnull final String p_key, @Nonnull final N p_value )
+    {
+        return !m_cleared && m_layer.contains( p_key, p_value );
+    }
+
+    /**
+     * returns all visible elements of the layer
+     *
+     * @return element stream
+     */
+    @Nonnull
+    private Stream<N> layer()
+    {
+        return m_cleared
+               ? Stream.empty()
+               : m_layer.keys().stream().flatMap( i -> this.layer( i, m_layer.get( i ).stream() ) );
+    }
+
+    /**
+     * filters the retracted elements of a key
+     *
+     * @param p_key key
+     * @param p_elements layer elements of the key
+     * @return visible elements
+     */
+    @Nonnull
+    private Stream<N> layer( @Nonnull final String p_key, @Nonnull final Stream<N> p_elements )
+    {
+        if ( m_cleared )
+            return Stream.empty();
+
+        final Set<N> l_retracted = m_retracted.get( p_key );
+        return l_retracted == null ? p_elements : p_elements.filter( i -> !l_retracted.contains( i ) );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format(
+            "{0} {1}",
+            this.layer().collect( Collectors.toList() ),
+            m_delta
+        ).trim();
+    }
+}
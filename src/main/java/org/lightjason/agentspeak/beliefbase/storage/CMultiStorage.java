@@ -28,16 +28,26 @@ import com.google.common.collect.Multimaps;
 import com.google.common.collect.SetMultimap;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.text.MessageFormat;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * thread-safe storage of the data of
- * single- and multi-elements
+ * single- and multi-elements, multi-elements
+ * can be indexed by a discriminator, so a
+ * query returns only elements with equal
+ * discriminator or elements without discriminator
  *
  * @tparam N multi-element type
  * @tparam M single-element type
@@ -45,6 +55,10 @@ import java.util.stream.Stream;
  */
 public final class CMultiStorage<N, M> extends IBaseStorage<N, M>
 {
+    /**
+     * index key of elements without discriminator
+     */
+    private static final Object WILDCARD = new Object();
     /**
      * map with elements
      **/
@@ -53,7 +67,36 @@ public final class CMultiStorage<N, M> extends IBaseStorage<N, M>
      * map with single elements
      **/
     private final Map<String, M> m_singleelements = new ConcurrentHashMap<>();
+    /**
+     * discriminator function or null
+     */
+    private final Function<N, Object> m_discriminator;
+    /**
+     * index of multi-elements with key and discriminator
+     *
+     * @note is guarded by the multi-element map
+     */
+    private final Map<String, Map<Object, Set<N>>> m_index = new HashMap<>();
+
 
+    /**
+     * ctor
+     */
+    public CMultiStorage()
+    {
+        this( null );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_discriminator discriminator function of the multi-element index,
+     * returns null if an element cannot be discriminated
+     */
+    public CMultiStorage( @Nullable final Function<N, Object> p_discriminator )
+    {
+        m_discriminator = p_discriminator;
+    }
 
     @Nonnull
     @Override
@@ -84,7 +127,19 @@ public final class CMultiStorage<N, M> extends IBaseStorage<N, M>
     @Override
     public final boolean putMultiElement( @Nonnull final String p_key, final N p_value )
     {
-        return m_multielements.put( p_key, p_value );
+        if ( m_discriminator == null )
+            return m_multielements.put( p_key, p_value );
+
+        synchronized ( m_multielements )
+        {
+            if ( !m_multielements.put( p_key, p_value ) )
+                return false;
+
+            m_index.computeIfAbsent( p_key, i -> new HashMap<>() )
+                   .computeIfAbsent( this.discriminator( p_value ), i -> new LinkedHashSet<>() )
+                   .add( p_value );
+            return true;
+        }
     }
 
     @Override
@@ -102,7 +157,26 @@ public final class CMultiStorage<N, M> extends IBaseStorage<N, M>
     @Override
     public final boolean removeMultiElement( @Nonnull final String p_key, final N p_value )
     {
-        return m_multielements.remove( p_key, p_value );
+        if ( m_discriminator == null )
+            return m_multielements.remove( p_key, p_value );
+
+        synchronized ( m_multielements )
+        {
+            if ( !m_multielements.remove( p_key, p_value ) )
+                return false;
+
+            final Map<Object, Set<N>> l_index = m_index.get( p_key );
+            final Object l_discriminator = this.discriminator( p_value );
+            final Set<N> l_elements = l_index.get( l_discriminator );
+
+            l_elements.remove( p_value );
+            if ( l_elements.isEmpty() )
+                l_index.remove( l_discriminator );
+            if ( l_index.isEmpty() )
+                m_index.remove( p_key );
+
+            return true;
+        }
     }
 
     @Override
@@ -130,10 +204,35 @@ public final class CMultiStorage<N, M> extends IBaseStorage<N, M>
         return m_multielements.get( p_key );
     }
 
+    @Nonnull
+    @Override
+    public final Collection<N> getMultiElement( @Nonnull final String p_key, @Nonnull final N p_query )
+    {
+        final Object l_discriminator = m_discriminator == null ? null : m_discriminator.apply( p_query );
+        if ( l_discriminator == null )
+            return m_multielements.get( p_key );
+
+        synchronized ( m_multielements )
+        {
+            final Map<Object, Set<N>> l_index = m_index.get( p_key );
+            if ( l_index == null )
+                return Collections.emptySet();
+
+            return Stream.concat(
+                l_index.getOrDefault( l_discriminator, Collections.emptySet() ).stream(),
+                l_index.getOrDefault( WILDCARD, Collections.emptySet() ).stream()
+            ).collect( Collectors.toList() );
+        }
+    }
+
     @Override
     public final void clear()
     {
-        m_multielements.clear();
+        synchronized ( m_multielements )
+        {
+            m_multielements.clear();
+            m_index.clear();
+        }
         m_singleelements.clear();
     }
 
@@ -149,6 +248,19 @@ public final class CMultiStorage<N, M> extends IBaseStorage<N, M>
         return m_multielements.asMap().values().stream().mapToInt( Collection::size ).sum();
     }
 
+    /**
+     * returns the index discriminator of an element
+     *
+     * @param p_value element
+     * @return discriminator or wildcard
+     */
+    @Nonnull
+    private Object discriminator( @Nonnull final N p_value )
+    {
+        final Object l_discriminator = m_discriminator.apply( p_value );
+        return l_discriminator == null ? WILDCARD : l_discriminator;
+    }
+
     @Override
     public final String toString()
     {
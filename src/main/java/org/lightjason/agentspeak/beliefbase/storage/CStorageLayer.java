@@ -0,0 +1,228 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.beliefbase.storage;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * immutable layer of multi-elements, which can be shared
+ * between storages, the layer is indexed by a discriminator
+ * like the multi-element storages
+ *
+ * @tparam N multi-element type
+ */
+public final class CStorageLayer<N>
+{
+    /**
+     * index key of elements without discriminator
+     */
+    private static final Object WILDCARD = new Object();
+    /**
+     * map with elements
+     */
+    private final Map<String, Set<N>> m_elements;
+    /**
+     * index of elements with key and discriminator
+     */
+    private final Map<String, Map<Object, Set<N>>> m_index;
+    /**
+     * discriminator function or null
+     */
+    private final Function<N, Object> m_discriminator;
+    /**
+     * number of elements
+     */
+    private final int m_size;
+
+
+    /**
+     * ctor
+     *
+     * @param p_elements elements with key
+     * @param p_discriminator discriminator function or null
+     */
+    private CStorageLayer( @Nonnull final Map<String, Set<N>> p_elements, @Nullable final Function<N, Object> p_discriminator )
+    {
+        m_elements = p_elements;
+        m_discriminator = p_discriminator;
+        m_size = p_elements.values().stream().mapToInt( Set::size ).sum();
+        m_index = p_discriminator == null
+                  ? Collections.emptyMap()
+                  : Collections.unmodifiableMap(
+                      p_elements.entrySet().stream().collect( Collectors.toMap(
+                          Map.Entry::getKey,
+                          i -> Collections.unmodifiableMap( i.getValue().stream().collect(
+                              Collectors.groupingBy( this::discriminator, HashMap::new, Collectors.toCollection( LinkedHashSet::new ) )
+                          ) )
+                      ) )
+                  );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_elements element stream
+     * @param p_key key function
+     * @param p_discriminator discriminator function of the index,
+     * returns null if an element cannot be discriminated
+     * @tparam N multi-element type
+     * @return layer
+     */
+    @Nonnull
+    public static <N> CStorageLayer<N> from( @Nonnull final Stream<N> p_elements, @Nonnull final Function<N, String> p_key,
+                                             @Nullable final Function<N, Object> p_discriminator )
+    {
+        final Map<String, Set<N>> l_elements = p_elements.collect(
+            Collectors.groupingBy( p_key, HashMap::new, Collectors.toCollection( LinkedHashSet::new ) )
+        );
+        l_elements.replaceAll( ( i, j ) -> Collections.unmodifiableSet( j ) );
+
+        return new CStorageLayer<>( Collections.unmodifiableMap( l_elements ), p_discriminator );
+    }
+
+    /**
+     * returns all elements
+     *
+     * @return element stream
+     */
+    @Nonnull
+    public final Stream<N> stream()
+    {
+        return m_elements.values().stream().flatMap( Collection::stream );
+    }
+
+    /**
+     * returns all keys
+     *
+     * @return unmodifiable key set
+     */
+    @Nonnull
+    public final Set<String> keys()
+    {
+        return m_elements.keySet();
+    }
+
+    /**
+     * checks if a key exists
+     *
+     * @param p_key key
+     * @return existing flag
+     */
+    public final boolean containsKey( @Nonnull final String p_key )
+    {
+        return m_elements.containsKey( p_key );
+    }
+
+    /**
+     * checks if an element exists
+     *
+     * @param p_key key
+     * @param p_value element
+     * @return existing flag
+     */
+    public final boolean contains( @Nonnull final String p_key, @Nonnull final N p_value )
+    {
+        return m_elements.getOrDefault( p_key, Collections.emptySet() ).contains( p_value );
+    }
+
+    /**
+     * returns the elements of a key
+     *
+     * @param p_key key
+     * @return unmodifiable element set
+     */
+    @Nonnull
+    public final Set<N> get( @Nonnull final String p_key )
+    {
+        return m_elements.getOrDefault( p_key, Collections.emptySet() );
+    }
+
+    /**
+     * returns the elements of a key, which can match the query,
+     * these are elements with equal discriminator or elements
+     * without discriminator
+     *
+     * @param p_key key
+     * @param p_query query element
+     * @return element stream
+     */
+    @Nonnull
+    public final Stream<N> get( @Nonnull final String p_key, @Nonnull final N p_query )
+    {
+        final Object l_discriminator = m_discriminator == null ? null : m_discriminator.apply( p_query );
+        if ( l_discriminator == null )
+            return this.get( p_key ).stream();
+
+        final Map<Object, Set<N>> l_index = m_index.getOrDefault( p_key, Collections.emptyMap() );
+        return Stream.concat(
+            l_index.getOrDefault( l_discriminator, Collections.emptySet() ).stream(),
+            l_index.getOrDefault( WILDCARD, Collections.emptySet() ).stream()
+        );
+    }
+
+    /**
+     * number of elements
+     *
+     * @return size
+     */
+    @Nonnegative
+    public final int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * returns the index discriminator of an element
+     *
+     * @param p_value element
+     * @return discriminator or wildcard
+     */
+    @Nonnull
+    private Object discriminator( @Nonnull final N p_value )
+    {
+        final Object l_discriminator = m_discriminator.apply( p_value );
+        return l_discriminator == null ? WILDCARD : l_discriminator;
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0}", m_elements.values() );
+    }
+
+}
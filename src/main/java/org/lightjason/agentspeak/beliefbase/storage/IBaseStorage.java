@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.beliefbase.storage;
 import org.lightjason.agentspeak.agent.IAgent;
 
 import javax.annotation.Nonnull;
+import java.util.Collection;
 
 
 /**
@@ -41,4 +42,11 @@ public abstract class IBaseStorage<N, M> implements IStorage<N, M>
         return p_agent;
     }
 
+    @Nonnull
+    @Override
+    public Collection<N> getMultiElement( @Nonnull final String p_key, @Nonnull final N p_query )
+    {
+        return this.getMultiElement( p_key );
+    }
+
 }
@@ -143,6 +143,17 @@ public interface IStorage<N, M>
     @Nonnull
     Collection<N> getMultiElement( @Nonnull final String p_key );
 
+    /**
+     * returns all multi-elements of the key, which
+     * can be matched by the query element
+     *
+     * @param p_key key
+     * @param p_query query element
+     * @return collection of elements
+     */
+    @Nonnull
+    Collection<N> getMultiElement( @Nonnull final String p_key, @Nonnull final N p_query );
+
     /**
      * clears all elements
      */
@@ -251,6 +251,20 @@ public final class CView implements IView
         ).map( i -> i.shallowcopy( l_path ) );
     }
 
+    @Nonnull
+    @Override
+    public final Stream<ILiteral> stream( @Nonnull final ILiteral p_literal )
+    {
+        final IPath l_path = this.path();
+        final IPath l_functor = p_literal.fqnfunctor();
+        return this.leafview( this.walk( l_functor.subpath( 0, -1 ) ) )
+                   .beliefbase()
+                   .literal( l_functor.suffix(), p_literal )
+                   .stream()
+                   .filter( i -> i.negated() == p_literal.negated() )
+                   .map( i -> i.shallowcopy( l_path ) );
+    }
+
     @Nonnull
     @Override
     public final Stream<IView> walk( @Nonnull final IPath p_path, @Nullable final IViewGenerator... p_generator )
@@ -269,6 +269,13 @@ public final class CViewMap implements IView
         return p_negated ? Stream.empty() : this.stream( p_path );
     }
 
+    @Nonnull
+    @Override
+    public final Stream<ILiteral> stream( @Nonnull final ILiteral p_literal )
+    {
+        return this.stream( p_literal.negated(), p_literal.fqnfunctor() );
+    }
+
     @Nonnull
     @Override
     public final IView clear( @Nullable final IPath... p_path )
@@ -545,6 +552,13 @@ public final class CViewMap implements IView
             return Stream.of( CLiteral.from( p_key, this.toterm( l_data ) ) ).collect( Collectors.toSet() );
         }
 
+        @Nonnull
+        @Override
+        public final Collection<ILiteral> literal( @Nonnull final String p_key, @Nonnull final ILiteral p_literal )
+        {
+            return this.literal( p_key );
+        }
+
         @Nullable
         @Override
         public final IView viewOrDefault( @Nonnull final String p_key, @Nullable final IView p_default )
@@ -126,6 +126,13 @@ public interface IView extends IStructure
             return Stream.empty();
         }
 
+        @Nonnull
+        @Override
+        public final Stream<ILiteral> stream( @Nonnull final ILiteral p_literal )
+        {
+            return Stream.empty();
+        }
+
         @Nonnull
         @Override
         public final IView clear( @Nullable final IPath... p_path )
@@ -313,6 +320,18 @@ public interface IView extends IStructure
     @Nonnull
     Stream<ILiteral> stream( final boolean p_negated, @Nullable final IPath... p_path );
 
+    /**
+     * returns stream of literals, which are candidates
+     * for unification with the literal, so literals with
+     * different functor, negation or ground arguments can
+     * be skipped by the storage index
+     *
+     * @param p_literal literal
+     * @return literal stream
+     */
+    @Nonnull
+    Stream<ILiteral> stream( @Nonnull final ILiteral p_literal );
+
 
 
     /**
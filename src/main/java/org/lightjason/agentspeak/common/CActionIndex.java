@@ -0,0 +1,380 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.common;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * build-time index of actions, which replaces the classpath
+ * scanning on startup, the index is a tab-separated resource
+ * with indexed package, action class, action name and minimal
+ * argument number per line
+ */
+public final class CActionIndex
+{
+    /**
+     * resource name of the index
+     */
+    public static final String RESOURCE = "META-INF/lightjason/action.index";
+    /**
+     * column separator
+     */
+    private static final String SEPARATOR = "\t";
+    /**
+     * index entries of each class loader
+     *
+     * @note keys are weak references, so unloaded class loaders can be removed by the garbage collector
+     */
+    private static final LoadingCache<ClassLoader, List<CEntry>> INDEX = CacheBuilder.newBuilder()
+                                                                                    .weakKeys()
+                                                                                    .build( CacheLoader.from( CActionIndex::read ) );
+
+    /**
+     * ctor
+     */
+    private CActionIndex()
+    {
+    }
+
+    /**
+     * checks if a package is covered by an index
+     *
+     * @param p_package full-qualified package name
+     * @return flag that the package is indexed
+     */
+    public static boolean indexed( @Nonnull final String p_package )
+    {
+        return INDEX.getUnchecked( classloader() ).stream().anyMatch( i -> i.covers( p_package ) );
+    }
+
+    /**
+     * returns the indexed actions of a package, the
+     * actions are instantiated lazily on first execution
+     *
+     * @param p_package full-qualified package name
+     * @return action stream
+     */
+    @Nonnull
+    public static Stream<IAction> actions( @Nonnull final String p_package )
+    {
+        final ClassLoader l_loader = classloader();
+        final String l_prefix = p_package + ".";
+        return INDEX.getUnchecked( l_loader )
+                    .stream()
+                    .filter( i -> i.covers( p_package ) )
+                    .filter( i -> i.classname().startsWith( l_prefix ) )
+                    .map( i -> new CLazyAction( i, l_loader ) );
+    }
+
+    /**
+     * writes the index of packages, it is called by the build
+     * process after compiling
+     *
+     * @param p_args first argument is the output directory, all other arguments are packages
+     * @throws IOException on write error
+     */
+    public static void main( final String[] p_args ) throws IOException
+    {
+        if ( p_args.length < 2 )
+            throw new CIllegalStateException( CCommon.languagestring( CActionIndex.class, "arguments" ) );
+
+        final File l_file = new File( p_args[0], RESOURCE );
+        if ( !l_file.getParentFile().isDirectory() && !l_file.getParentFile().mkdirs() )
+            throw new IOException( CCommon.languagestring( CActionIndex.class, "directory", l_file.getParentFile() ) );
+
+        try ( final Writer l_writer = Files.newBufferedWriter( l_file.toPath(), StandardCharsets.UTF_8 ) )
+        {
+            for ( final String l_line : Arrays.stream( p_args, 1, p_args.length )
+                                              .flatMap( j -> CCommon.actionclasses( j )
+                                                                    .map( CCommon::actioninstance )
+                                                                    .filter( Objects::nonNull )
+                                                                    .map( i -> String.join(
+                                                                        SEPARATOR,
+                                                                        j,
+                                                                        i.getClass().getName(),
+                                                                        i.name().path( IPath.DEFAULTSEPERATOR ),
+                                                                        Integer.toString( i.minimalArgumentNumber() )
+                                                                    ) ) )
+                                              .sorted()
+                                              .collect( Collectors.toList() ) )
+                l_writer.write( l_line + "\n" );
+        }
+    }
+
+    /**
+     * returns the class loader for action classes
+     *
+     * @return class loader
+     */
+    @Nonnull
+    private static ClassLoader classloader()
+    {
+        return Objects.isNull( Thread.currentThread().getContextClassLoader() )
+               ? CActionIndex.class.getClassLoader()
+               : Thread.currentThread().getContextClassLoader();
+    }
+
+    /**
+     * reads all index resources of a class loader
+     *
+     * @param p_loader class loader
+     * @return index entries
+     */
+    @Nonnull
+    private static List<CEntry> read( @Nonnull final ClassLoader p_loader )
+    {
+        try
+        {
+            final Enumeration<URL> l_resources = p_loader.getResources( RESOURCE );
+            return Collections.list( l_resources )
+                              .stream()
+                              .flatMap( CActionIndex::read )
+                              .collect( Collectors.toList() );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new UncheckedIOException( l_exception );
+        }
+    }
+
+    /**
+     * reads a single index resource
+     *
+     * @param p_url resource url
+     * @return index entries
+     */
+    @Nonnull
+    private static Stream<CEntry> read( @Nonnull final URL p_url )
+    {
+        try (
+            final BufferedReader l_reader = new BufferedReader( new InputStreamReader( p_url.openStream(), StandardCharsets.UTF_8 ) )
+        )
+        {
+            return l_reader.lines()
+                           .map( String::trim )
+                           .filter( i -> !i.isEmpty() )
+                           .map( i -> i.split( SEPARATOR ) )
+                           .filter( i -> i.length == 4 )
+                           .map( i -> new CEntry( i[0], i[1], i[2], Integer.parseInt( i[3] ) ) )
+                           .collect( Collectors.toList() )
+                           .stream();
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new UncheckedIOException( l_exception );
+        }
+    }
+
+
+    /**
+     * index entry
+     */
+    private static final class CEntry
+    {
+        /**
+         * indexed package
+         */
+        private final String m_package;
+        /**
+         * action class name
+         */
+        private final String m_class;
+        /**
+         * action name
+         */
+        private final IPath m_name;
+        /**
+         * minimal argument number
+         */
+        private final int m_arguments;
+
+        /**
+         * ctor
+         *
+         * @param p_package indexed package
+         * @param p_class action class name
+         * @param p_name action name
+         * @param p_arguments minimal argument number
+         */
+        CEntry( @Nonnull final String p_package, @Nonnull final String p_class, @Nonnull final String p_name, @Nonnegative final int p_arguments )
+        {
+            m_package = p_package;
+            m_class = p_class;
+            m_name = CPath.from( p_name );
+            m_arguments = p_arguments;
+        }
+
+        /**
+         * checks if a package is part of the indexed package
+         *
+         * @param p_package full-qualified package name
+         * @return covering flag
+         */
+        final boolean covers( @Nonnull final String p_package )
+        {
+            return m_package.equals( p_package ) || p_package.startsWith( m_package + "." );
+        }
+
+        /**
+         * returns the action class name
+         *
+         * @return class name
+         */
+        @Nonnull
+        final String classname()
+        {
+            return m_class;
+        }
+    }
+
+
+    /**
+     * action proxy, which instantiates the
+     * action on the first execution
+     */
+    private static final class CLazyAction extends IBaseAction
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4526839514562316447L;
+        /**
+         * action name
+         */
+        private final IPath m_name;
+        /**
+         * minimal argument number
+         */
+        private final int m_arguments;
+        /**
+         * action class name
+         */
+        private final String m_class;
+        /**
+         * class loader
+         */
+        private final transient ClassLoader m_loader;
+        /**
+         * instantiated action
+         */
+        private volatile IAction m_action;
+
+        /**
+         * ctor
+         *
+         * @param p_entry index entry
+         * @param p_loader class loader
+         */
+        CLazyAction( @Nonnull final CEntry p_entry, @Nonnull final ClassLoader p_loader )
+        {
+            m_name = p_entry.m_name;
+            m_arguments = p_entry.m_arguments;
+            m_class = p_entry.m_class;
+            m_loader = p_loader;
+        }
+
+        @Nonnull
+        @Override
+        public final IPath name()
+        {
+            return m_name;
+        }
+
+        @Nonnegative
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return m_arguments;
+        }
+
+        @Nonnull
+        @Override
+        public final IFuzzyValue<Boolean> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                   @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+        {
+            return this.action().execute( p_parallel, p_context, p_argument, p_return );
+        }
+
+        /**
+         * returns the instantiated action
+         *
+         * @return action
+         */
+        @Nonnull
+        private IAction action()
+        {
+            final IAction l_action = m_action;
+            if ( l_action != null )
+                return l_action;
+
+            synchronized ( this )
+            {
+                if ( m_action == null )
+                {
+                    try
+                    {
+                        m_action = (IAction) Class.forName(
+                            m_class, true, Objects.isNull( m_loader ) ? classloader() : m_loader
+                        ).getDeclaredConstructor().newInstance();
+                    }
+                    catch ( final ReflectiveOperationException l_exception )
+                    {
+                        throw new CIllegalStateException( CCommon.languagestring( CActionIndex.class, "instantiate", m_class, l_exception ) );
+                    }
+                }
+                return m_action;
+            }
+        }
+    }
+
+}
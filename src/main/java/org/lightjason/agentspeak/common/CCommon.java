@@ -154,42 +154,58 @@ public final class CCommon
         return ( ( p_package == null ) || ( p_package.length == 0 )
                  ? Stream.of( MessageFormat.format( "{0}.{1}", PACKAGEROOT, "action.builtin" ) )
                  : Arrays.stream( p_package ) )
-            .flatMap( j ->
-            {
-                try
-                {
-                    return ClassPath.from( Thread.currentThread().getContextClassLoader() )
-                                    .getTopLevelClassesRecursive( j )
-                                    .parallelStream()
-                                    .map( ClassPath.ClassInfo::load )
-                                    .filter( i -> !Modifier.isAbstract( i.getModifiers() ) )
-                                    .filter( i -> !Modifier.isInterface( i.getModifiers() ) )
-                                    .filter( i -> Modifier.isPublic( i.getModifiers() ) )
-                                    .filter( IAction.class::isAssignableFrom )
-                                    .map( i ->
-                                    {
-                                        try
-                                        {
-                                            return (IAction) i.newInstance();
-                                        }
-                                        catch ( final IllegalAccessException | InstantiationException l_exception )
-                                        {
-                                            LOGGER.warning( CCommon.languagestring( CCommon.class, "actioninstantiate", i, l_exception ) );
-                                            return null;
-                                        }
-                                    } )
-
-                                    // action can be instantiate
-                                    .filter( Objects::nonNull )
-
-                                    // check usable action name
-                                    .filter( CCommon::actionusable );
-                }
-                catch ( final IOException l_exception )
-                {
-                    throw new UncheckedIOException( l_exception );
-                }
-            } );
+            .flatMap( i -> CActionIndex.indexed( i )
+                           ? CActionIndex.actions( i )
+                           : actionclasses( i ).parallel().map( CCommon::actioninstance ).filter( Objects::nonNull ) )
+
+            // check usable action name
+            .filter( CCommon::actionusable );
+    }
+
+    /**
+     * scans the classpath for all action classes within a package
+     *
+     * @param p_package full-qualified package name
+     * @return stream of instantiable action classes
+     */
+    @Nonnull
+    static Stream<Class<?>> actionclasses( @Nonnull final String p_package )
+    {
+        try
+        {
+            return ClassPath.from( Thread.currentThread().getContextClassLoader() )
+                            .getTopLevelClassesRecursive( p_package )
+                            .stream()
+                            .map( ClassPath.ClassInfo::load )
+                            .filter( i -> !Modifier.isAbstract( i.getModifiers() ) )
+                            .filter( i -> !Modifier.isInterface( i.getModifiers() ) )
+                            .filter( i -> Modifier.isPublic( i.getModifiers() ) )
+                            .filter( IAction.class::isAssignableFrom );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new UncheckedIOException( l_exception );
+        }
+    }
+
+    /**
+     * instantiates an action class
+     *
+     * @param p_class action class
+     * @return action object or null on instantiation error
+     */
+    @Nullable
+    static IAction actioninstance( @Nonnull final Class<?> p_class )
+    {
+        try
+        {
+            return (IAction) p_class.newInstance();
+        }
+        catch ( final IllegalAccessException | InstantiationException l_exception )
+        {
+            LOGGER.warning( CCommon.languagestring( CCommon.class, "actioninstantiate", p_class, l_exception ) );
+            return null;
+        }
     }
 
 
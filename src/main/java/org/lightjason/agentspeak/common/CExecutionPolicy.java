@@ -0,0 +1,200 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.common;
+
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+
+/**
+ * execution policy
+ */
+public final class CExecutionPolicy implements IExecutionPolicy
+{
+    /**
+     * sequential execution
+     */
+    public static final IExecutionPolicy SEQUENTIAL = new CExecutionPolicy( Integer.MAX_VALUE, null );
+    /**
+     * parallel execution on the common pool
+     */
+    public static final IExecutionPolicy PARALLEL = new CExecutionPolicy( 0, null );
+    /**
+     * minimum number of elements for parallel execution
+     */
+    private final int m_threshold;
+    /**
+     * dedicated pool or null for the calling thread
+     */
+    private final ForkJoinPool m_pool;
+
+
+    /**
+     * ctor
+     *
+     * @param p_threshold minimum number of elements for parallel execution
+     * @param p_pool dedicated pool or null
+     */
+    private CExecutionPolicy( @Nonnegative final int p_threshold, final ForkJoinPool p_pool )
+    {
+        m_threshold = p_threshold;
+        m_pool = p_pool;
+    }
+
+    @Nonnull
+    @Override
+    public final <N> Stream<N> stream( @Nonnull final Collection<N> p_collection )
+    {
+        return p_collection.size() > m_threshold
+               ? p_collection.parallelStream()
+               : p_collection.stream();
+    }
+
+    @Nonnull
+    @Override
+    public final <N> Stream<N> apply( @Nonnull final Stream<N> p_stream )
+    {
+        return m_threshold == 0
+               ? p_stream.parallel()
+               : p_stream.sequential();
+    }
+
+    @Override
+    public final <N> N execute( @Nonnull final Callable<N> p_task ) throws Exception
+    {
+        if ( ( m_pool == null ) || ( ForkJoinTask.getPool() == m_pool ) )
+            return p_task.call();
+
+        final ForkJoinTask<N> l_task = m_pool.submit( p_task );
+        try
+        {
+            // a worker of another pool must not be parked, so the pool can compensate the blocked worker
+            if ( ForkJoinTask.inForkJoinPool() )
+                ForkJoinPool.managedBlock( new CBlocker( l_task ) );
+            return l_task.get();
+        }
+        catch ( final ExecutionException l_exception )
+        {
+            if ( l_exception.getCause() instanceof Exception )
+                throw (Exception) l_exception.getCause();
+            throw l_exception;
+        }
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format(
+            "{0} ( threshold: {1} / pool: {2} )",
+            super.toString(),
+            m_threshold == Integer.MAX_VALUE ? "sequential" : m_threshold,
+            m_pool == null ? "caller" : m_pool
+        );
+    }
+
+
+    /**
+     * policy to run all structures in parallel
+     * if the number of elements is greater than the threshold,
+     * streams with unknown size are processed sequential
+     *
+     * @param p_threshold minimum number of elements for parallel execution
+     * @return execution policy
+     */
+    @Nonnull
+    public static IExecutionPolicy threshold( @Nonnegative final int p_threshold )
+    {
+        if ( p_threshold < 0 )
+            throw new CIllegalArgumentException( CCommon.languagestring( CExecutionPolicy.class, "threshold", p_threshold ) );
+
+        return new CExecutionPolicy( p_threshold, null );
+    }
+
+    /**
+     * policy to run the agent cycle on a dedicated pool,
+     * so agent groups does not share the common pool
+     *
+     * @param p_pool pool
+     * @return execution policy
+     */
+    @Nonnull
+    public static IExecutionPolicy pool( @Nonnull final ForkJoinPool p_pool )
+    {
+        return new CExecutionPolicy( 0, p_pool );
+    }
+
+
+    /**
+     * blocker to wait for a task
+     * within a fork-join worker
+     */
+    private static final class CBlocker implements ForkJoinPool.ManagedBlocker
+    {
+        /**
+         * task
+         */
+        private final ForkJoinTask<?> m_task;
+
+        /**
+         * ctor
+         *
+         * @param p_task task
+         */
+        CBlocker( @Nonnull final ForkJoinTask<?> p_task )
+        {
+            m_task = p_task;
+        }
+
+        @Override
+        public final boolean block() throws InterruptedException
+        {
+            try
+            {
+                m_task.get();
+            }
+            catch ( final ExecutionException l_exception )
+            {
+                // the exception is thrown by the caller
+            }
+            return true;
+        }
+
+        @Override
+        public final boolean isReleasable()
+        {
+            return m_task.isDone();
+        }
+    }
+
+}
@@ -21,9 +21,13 @@
  * @endcond
  */
 
+
 package org.lightjason.agentspeak.common;
 
 import com.google.common.base.Charsets;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.hash.Hasher;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.lang3.StringUtils;
@@ -31,11 +35,12 @@ import org.lightjason.agentspeak.error.CIllegalArgumentException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -47,7 +52,9 @@ import java.util.stream.Stream;
 
 
 /**
- * class to create a path structure
+ * class to create an immutable path structure,
+ * all modifying methods return a new path object,
+ * the hash value is calculated once on creation
  */
 public final class CPath implements IPath
 {
@@ -56,13 +63,25 @@ public final class CPath implements IPath
      */
     private static final long serialVersionUID = -8502900889333744887L;
     /**
-     * list with path parts *
+     * intern pool of paths created by strings
+     *
+     * @note values are weak references, so unused paths can be removed by the garbage collector
+     */
+    private static final LoadingCache<String, IPath> POOL = CacheBuilder.newBuilder()
+                                                                        .weakValues()
+                                                                        .build( CacheLoader.from( i -> createPathWithSeperator( DEFAULTSEPERATOR, i ) ) );
+    /**
+     * list with path parts
      */
     private final List<String> m_path;
     /**
-     * separator of the path elements *
+     * separator of the path elements
      */
-    private String m_separator = DEFAULTSEPERATOR;
+    private final String m_separator;
+    /**
+     * hash code
+     */
+    private final int m_hashcode;
 
     /**
      * copy-ctor with arguments
@@ -72,9 +91,7 @@ public final class CPath implements IPath
      */
     public CPath( final IPath p_path, final String... p_varargs )
     {
-        this( p_path );
-        m_path.addAll( Arrays.asList( p_varargs ) );
-        this.normalize();
+        this( Stream.concat( p_path.stream(), Arrays.stream( p_varargs ) ), p_path.separator() );
     }
 
     /**
@@ -84,8 +101,7 @@ public final class CPath implements IPath
      */
     public CPath( @Nonnull final IPath p_path )
     {
-        m_path = p_path.stream().collect( CPath.collectorfactory() );
-        m_separator = p_path.separator();
+        this( p_path.stream().collect( Collectors.toList() ), p_path.separator() );
     }
 
     /**
@@ -95,18 +111,12 @@ public final class CPath implements IPath
      */
     public CPath( @Nullable final String... p_varargs )
     {
-        if ( ( p_varargs == null ) || ( p_varargs.length == 0 ) )
-            m_path = CPath.listfactory();
-        else
-        {
-            m_path = Arrays.stream( StringUtils.join( p_varargs, m_separator ).split( m_separator ) )
-                           .map( String::trim )
-                           .filter( i -> !i.isEmpty() )
-                           .collect( CPath.collectorfactory() );
-            if ( m_path.size() == 0 )
-                throw new CIllegalArgumentException( CCommon.languagestring( this, "pathempty" ) );
-        }
-        this.normalize();
+        this(
+            ( p_varargs == null ) || ( p_varargs.length == 0 )
+            ? Collections.emptyList()
+            : split( p_varargs ),
+            DEFAULTSEPERATOR
+        );
     }
 
     /**
@@ -116,16 +126,31 @@ public final class CPath implements IPath
      */
     public CPath( @Nonnull final Stream<String> p_stream )
     {
-        m_path = p_stream.collect( CPath.collectorfactory() );
-        this.normalize();
+        this( p_stream, DEFAULTSEPERATOR );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_stream string collection
+     * @param p_separator separator
+     */
+    private CPath( @Nonnull final Stream<String> p_stream, @Nonnull final String p_separator )
+    {
+        this( normalize( p_stream.collect( Collectors.toList() ) ), p_separator );
     }
 
     /**
-     * private ctor for empty path
+     * ctor
+     *
+     * @param p_path normalized path elements
+     * @param p_separator separator
      */
-    private CPath()
+    private CPath( @Nonnull final List<String> p_path, @Nonnull final String p_separator )
     {
-        m_path = Collections.emptyList();
+        m_path = p_path.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList( new ArrayList<>( p_path ) );
+        m_separator = p_separator;
+        m_hashcode = hash( m_path );
     }
 
     /**
@@ -156,7 +181,8 @@ public final class CPath implements IPath
     }
 
     /**
-     * factor method to build path
+     * factor method to build path, the path
+     * object is taken from the intern pool
      *
      * @param p_string input string
      * @return path
@@ -164,52 +190,56 @@ public final class CPath implements IPath
     @Nonnull
     public static IPath from( @Nonnull final String p_string )
     {
-        return p_string.isEmpty() ? EMPTY : createPathWithSeperator( DEFAULTSEPERATOR, p_string );
+        return p_string.isEmpty() ? EMPTY : POOL.getUnchecked( p_string );
     }
 
     @Nonnull
     @Override
     public final IPath append( @Nonnull final IPath p_path )
     {
-        return new CPath( this ).pushback( p_path );
+        return this.pushback( p_path );
     }
 
     @Nonnull
     @Override
     public final IPath append( @Nonnull final String p_path )
     {
-        return new CPath( this ).pushback( p_path );
+        return this.pushback( p_path );
     }
 
     @Nonnull
     @Override
     public final IPath remove( final int p_index )
     {
-        if ( !m_path.isEmpty() )
-            m_path.remove( p_index );
-        return this;
+        if ( m_path.isEmpty() )
+            return this;
+
+        final List<String> l_path = new ArrayList<>( m_path );
+        l_path.remove( p_index );
+        return new CPath( l_path, m_separator );
     }
 
     @Nonnull
     @Override
     public final IPath remove( final int p_start, final int p_end )
     {
-        m_path.subList( p_start, p_end ).clear();
-        return this;
+        final List<String> l_path = new ArrayList<>( m_path );
+        l_path.subList( p_start, p_end ).clear();
+        return new CPath( l_path, m_separator );
     }
 
     @Override
-    public final synchronized boolean endswith( @Nonnull final IPath p_path )
+    public final boolean endswith( @Nonnull final IPath p_path )
     {
         return p_path.size() <= this.size()
-               && IntStream.range( 0, p_path.size() ).boxed().parallel().allMatch( i -> this.get( i - p_path.size() ).equals( p_path.get( i ) ) );
+               && IntStream.range( 0, p_path.size() ).allMatch( i -> this.get( i - p_path.size() ).equals( p_path.get( i ) ) );
     }
 
     @Override
     public final boolean startswith( @Nonnull final IPath p_path )
     {
         return p_path.size() <= this.size()
-               && IntStream.range( 0, p_path.size() ).boxed().parallel().allMatch( i -> this.get( i ).equals( p_path.get( i ) ) );
+               && IntStream.range( 0, p_path.size() ).allMatch( i -> this.get( i ).equals( p_path.get( i ) ) );
 
     }
 
@@ -248,24 +278,21 @@ public final class CPath implements IPath
         if ( p_separator.isEmpty() )
             throw new CIllegalArgumentException( CCommon.languagestring( this, "separatornotempty" ) );
 
-        m_separator = p_separator;
-        return this;
+        return m_separator.equals( p_separator ) ? this : new CPath( m_path, p_separator );
     }
 
     @Nonnull
     @Override
-    public final synchronized IPath lower()
+    public final IPath lower()
     {
-        IntStream.range( 0, m_path.size() ).boxed().parallel().forEach( i -> m_path.set( i, m_path.get( i ).toLowerCase() ) );
-        return this;
+        return new CPath( m_path.stream().map( i -> i.toLowerCase( Locale.ROOT ) ).collect( Collectors.toList() ), m_separator );
     }
 
     @Nonnull
     @Override
-    public final synchronized IPath upper()
+    public final IPath upper()
     {
-        IntStream.range( 0, m_path.size() ).boxed().parallel().forEach( i -> m_path.set( i, m_path.get( i ).toUpperCase() ) );
-        return this;
+        return new CPath( m_path.stream().map( i -> i.toUpperCase( Locale.ROOT ) ).collect( Collectors.toList() ), m_separator );
     }
 
     @Nonnull
@@ -281,18 +308,15 @@ public final class CPath implements IPath
     {
         return new CPath(
             p_toindex == 0
-            ? Stream.empty()
-            : IntStream.range(
-                p_fromindex,
-                p_toindex > 0 ? p_toindex : this.size() + p_toindex
-            )
-            .mapToObj( m_path::get )
-        ).separator( m_separator );
+            ? Collections.emptyList()
+            : m_path.subList( p_fromindex, p_toindex > 0 ? p_toindex : this.size() + p_toindex ),
+            m_separator
+        );
     }
 
     @Nonnull
     @Override
-    public final synchronized String suffix()
+    public final String suffix()
     {
         return m_path.isEmpty()
                ? ""
@@ -302,20 +326,24 @@ public final class CPath implements IPath
     @Override
     public final int hashCode()
     {
-        final Hasher l_hasher = org.lightjason.agentspeak.language.CCommon.getTermHashing();
-        m_path.forEach( i -> l_hasher.putString( i, Charsets.UTF_8 ) );
-        return l_hasher.hash().hashCode();
+        return m_hashcode;
     }
 
     @Override
     @SuppressFBWarnings( "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS" )
     public final boolean equals( final Object p_object )
     {
-        return ( p_object != null )
-               && (
-                    ( ( p_object instanceof IPath ) && ( this.hashCode() == p_object.hashCode() ) )
-                    || ( ( p_object instanceof String ) && ( this.path().hashCode() == p_object.hashCode() ) )
-               );
+        if ( this == p_object )
+            return true;
+
+        if ( p_object instanceof String )
+            return this.path().equals( p_object );
+
+        if ( !( p_object instanceof IPath ) || ( this.hashCode() != p_object.hashCode() ) || ( this.size() != ( (IPath) p_object ).size() ) )
+            return false;
+
+        final IPath l_path = (IPath) p_object;
+        return IntStream.range( 0, m_path.size() ).allMatch( i -> m_path.get( i ).equals( l_path.get( i ) ) );
     }
 
     @Override
@@ -338,55 +366,41 @@ public final class CPath implements IPath
     @Override
     public final IPath pushback( @Nonnull final IPath p_path )
     {
-        p_path.stream().forEach( m_path::add );
-        return this;
+        return p_path.empty()
+               ? this
+               : new CPath( Stream.concat( m_path.stream(), p_path.stream() ).collect( Collectors.toList() ), m_separator );
     }
 
     @Nonnull
     @Override
     public final IPath pushback( @Nonnull final String p_path )
     {
-        this.pushback( new CPath( p_path ) );
-        return this;
+        return this.pushback( new CPath( p_path ) );
     }
 
     @Nonnull
     @Override
     public final IPath pushfront( @Nonnull final String p_path )
     {
-        this.pushfront( new CPath( p_path ) );
-        return this;
+        return this.pushfront( new CPath( p_path ) );
     }
 
     @Nonnull
     @Override
-    public final synchronized IPath pushfront( @Nonnull final IPath p_path )
+    public final IPath pushfront( @Nonnull final IPath p_path )
     {
-        final List<String> l_path = Stream.concat( p_path.stream(), m_path.stream() ).collect( Collectors.toList() );
-        m_path.clear();
-        m_path.addAll( l_path );
-        return this;
-    }
-
-    @Nonnull
-    @Override
-    public final String removesuffix()
-    {
-        if ( this.empty() )
-            return "";
-
-        final String l_suffix = this.suffix();
-        if ( m_path.size() > 0 )
-            m_path.remove( m_path.size() - 1 );
-        return l_suffix;
+        return p_path.empty()
+               ? this
+               : new CPath( Stream.concat( p_path.stream(), m_path.stream() ).collect( Collectors.toList() ), m_separator );
     }
 
     @Nonnull
     @Override
     public final IPath reverse()
     {
-        Collections.reverse( m_path );
-        return this;
+        final List<String> l_path = new ArrayList<>( m_path );
+        Collections.reverse( l_path );
+        return new CPath( l_path, m_separator );
     }
 
     @Override
@@ -411,23 +425,46 @@ public final class CPath implements IPath
     @Override
     public final int compareTo( @Nonnull final IPath p_path )
     {
-        return Integer.compare( this.hashCode(), p_path.hashCode() );
+        final int l_compare = Integer.compare( this.hashCode(), p_path.hashCode() );
+        return l_compare == 0 ? this.path().compareTo( p_path.path( m_separator ) ) : l_compare;
     }
 
     /**
-     * normalize the internal path
+     * splits the input strings into path elements
+     *
+     * @param p_varargs input strings
+     * @return normalized path elements
      */
-    private synchronized void normalize()
+    @Nonnull
+    private static List<String> split( @Nonnull final String... p_varargs )
     {
-        if ( m_path.isEmpty() )
-            return;
+        final List<String> l_path = normalize(
+            Arrays.stream( StringUtils.join( p_varargs, DEFAULTSEPERATOR ).split( DEFAULTSEPERATOR ) )
+                  .map( String::trim )
+                  .filter( i -> !i.isEmpty() )
+                  .collect( Collectors.toList() )
+        );
 
-        // create path-copy and nomalize (remove dot, double-dot and empty values)
-        final List<String> l_dotremove = m_path.stream()
+        if ( l_path.isEmpty() )
+            throw new CIllegalArgumentException( CCommon.languagestring( CPath.class, "pathempty" ) );
+
+        return l_path;
+    }
+
+    /**
+     * normalize a path (remove dot, double-dot and empty values)
+     *
+     * @param p_path path elements
+     * @return normalized path elements
+     */
+    @Nonnull
+    private static List<String> normalize( @Nonnull final List<String> p_path )
+    {
+        final List<String> l_dotremove = p_path.stream()
                                                .filter( i -> ( i != null ) && ( !i.isEmpty() ) && ( !".".equals( i ) ) )
                                                .collect( Collectors.toList() );
         if ( l_dotremove.isEmpty() )
-            return;
+            return p_path;
 
         final String l_last = l_dotremove.get( l_dotremove.size() - 1 );
         final List<String> l_backremove = IntStream.range( 0, l_dotremove.size() - 1 )
@@ -438,66 +475,23 @@ public final class CPath implements IPath
         if ( !"..".equals( l_last ) )
             l_backremove.add( l_last );
 
-        // clear internal path and add optimized path
-        m_path.clear();
-        m_path.addAll( l_backremove );
+        return l_backremove;
     }
 
     /**
-     * collector factory
+     * calculates the hash value of the path elements
      *
-     * @return collector
+     * @param p_path path elements
+     * @return hash value
      */
-    @Nonnull
-    private static Collector<String, List<String>, List<String>> collectorfactory()
+    private static int hash( @Nonnull final List<String> p_path )
     {
-        return new Collector<String, List<String>, List<String>>()
-        {
-            @Override
-            public final Supplier<List<String>> supplier()
-            {
-                return CopyOnWriteArrayList<String>::new;
-            }
+        if ( p_path.isEmpty() )
+            return 0;
 
-            @Override
-            public final BiConsumer<List<String>, String> accumulator()
-            {
-                return List::add;
-            }
-
-            @Override
-            public final BinaryOperator<List<String>> combiner()
-            {
-                return ( i, j ) ->
-                {
-                    i.addAll( j );
-                    return i;
-                };
-            }
-
-            @Override
-            public final Function<List<String>, List<String>> finisher()
-            {
-                return i -> i;
-            }
-
-            @Override
-            public final Set<Characteristics> characteristics()
-            {
-                return Collections.emptySet();
-            }
-        };
-    }
-
-    /**
-     * list factory
-     *
-     * @return list
-     */
-    @Nonnull
-    private static List<String> listfactory()
-    {
-        return new CopyOnWriteArrayList<>();
+        final Hasher l_hasher = org.lightjason.agentspeak.language.CCommon.getTermHashing();
+        p_path.forEach( i -> l_hasher.putString( i, Charsets.UTF_8 ) );
+        return l_hasher.hash().hashCode();
     }
 
     /**
@@ -505,7 +499,7 @@ public final class CPath implements IPath
      *
      * @return collector
      */
-    public static Collector<String, IPath, IPath> collect()
+    public static Collector<String, List<String>, IPath> collect()
     {
         return new CPathCollector();
     }
@@ -513,31 +507,35 @@ public final class CPath implements IPath
     /**
      * path collector
      */
-    private static final class CPathCollector implements Collector<String, IPath, IPath>
+    private static final class CPathCollector implements Collector<String, List<String>, IPath>
     {
 
         @Override
-        public final Supplier<IPath> supplier()
+        public final Supplier<List<String>> supplier()
         {
-            return () -> new CPath( Stream.empty() );
+            return ArrayList::new;
         }
 
         @Override
-        public final BiConsumer<IPath, String> accumulator()
+        public final BiConsumer<List<String>, String> accumulator()
         {
-            return IPath::pushback;
+            return List::add;
         }
 
         @Override
-        public final BinaryOperator<IPath> combiner()
+        public final BinaryOperator<List<String>> combiner()
         {
-            return IPath::pushback;
+            return ( i, j ) ->
+            {
+                i.addAll( j );
+                return i;
+            };
         }
 
         @Override
-        public final Function<IPath, IPath> finisher()
+        public final Function<List<String>, IPath> finisher()
         {
-            return Function.identity();
+            return i -> new CPath( i.stream() );
         }
 
         @Override
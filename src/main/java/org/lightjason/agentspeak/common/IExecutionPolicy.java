@@ -0,0 +1,72 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.common;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+
+/**
+ * execution policy of an agent cycle, which defines
+ * how the agent and beliefbase structures are
+ * processed (sequential / parallel) and on which
+ * thread-pool the cycle is run
+ */
+public interface IExecutionPolicy
+{
+
+    /**
+     * creates a stream of a collection
+     *
+     * @param p_collection collection
+     * @tparam N element type
+     * @return sequential or parallel stream
+     */
+    @Nonnull
+    <N> Stream<N> stream( @Nonnull final Collection<N> p_collection );
+
+    /**
+     * applies the policy to a stream with unknown size
+     *
+     * @param p_stream stream
+     * @tparam N element type
+     * @return sequential or parallel stream
+     */
+    @Nonnull
+    <N> Stream<N> apply( @Nonnull final Stream<N> p_stream );
+
+    /**
+     * runs a task within the policy
+     *
+     * @param p_task task
+     * @tparam N return type
+     * @return task result
+     * @throws Exception is thrown on task error
+     */
+    <N> N execute( @Nonnull final Callable<N> p_task ) throws Exception;
+
+}
@@ -31,7 +31,7 @@ import java.util.stream.Stream;
 
 
 /**
- * interface of a path
+ * interface of an immutable path
  *
  * @note implement equals with String object, so a path object can be checked to a String
  */
@@ -190,13 +190,6 @@ public interface IPath extends Serializable, Comparable<IPath>
             return this;
         }
 
-        @Nonnull
-        @Override
-        public final String removesuffix()
-        {
-            return "";
-        }
-
         @Nonnull
         @Override
         public final IPath reverse()
@@ -247,8 +240,8 @@ public interface IPath extends Serializable, Comparable<IPath>
         {
             return ( p_object != null )
                    && (
-                       ( ( p_object instanceof IPath ) && ( this.hashCode() == p_object.hashCode() ) )
-                       || ( ( p_object instanceof String ) && ( this.path().hashCode() == p_object.hashCode() ) )
+                       ( ( p_object instanceof IPath ) && ( ( (IPath) p_object ).empty() ) )
+                       || ( ( p_object instanceof String ) && ( ( (String) p_object ).isEmpty() ) )
                    );
         }
     };
@@ -275,7 +268,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * removes an element
      *
      * @param p_index index position
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath remove( final int p_index );
@@ -285,7 +278,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      *
      * @param p_start start index
      * @param p_end end index (exclusive)
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath remove( final int p_start, final int p_end );
@@ -343,7 +336,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * sets the separator
      *
      * @param p_separator separator
-     * @return path object
+     * @return new path
      */
     @Nonnull
     IPath separator( @Nonnull final String p_separator );
@@ -351,7 +344,7 @@ public interface IPath extends Serializable, Comparable<IPath>
     /**
      * changes all elements to lower-case
      *
-     * @return object
+     * @return new path
      */
     @Nonnull
     IPath lower();
@@ -359,7 +352,7 @@ public interface IPath extends Serializable, Comparable<IPath>
     /**
      * changes all elements to uppercase
      *
-     * @return object
+     * @return new path
      */
     @Nonnull
     IPath upper();
@@ -395,7 +388,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * adds a path at the end
      *
      * @param p_path path
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath pushback( @Nonnull final IPath p_path );
@@ -404,7 +397,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * adds a path at the end
      *
      * @param p_path string path
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath pushback( @Nonnull final String p_path );
@@ -413,7 +406,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * adds a path at the front
      *
      * @param p_path string path
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath pushfront( @Nonnull final String p_path );
@@ -422,23 +415,15 @@ public interface IPath extends Serializable, Comparable<IPath>
      * adds a path to the front of the path
      *
      * @param p_path path
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath pushfront( @Nonnull final IPath p_path );
 
-    /**
-     * remove the suffix from the path
-     *
-     * @return last item of the path
-     */
-    @Nonnull
-    String removesuffix();
-
     /**
      * reverse path
      *
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath reverse();
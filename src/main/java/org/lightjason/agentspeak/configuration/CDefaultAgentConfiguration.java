@@ -27,16 +27,26 @@ import org.apache.commons.lang3.StringUtils;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.language.fuzzy.operator.IFuzzyBundle;
 import org.lightjason.agentspeak.beliefbase.CBeliefbase;
+import org.lightjason.agentspeak.beliefbase.storage.CArgumentDiscriminator;
+import org.lightjason.agentspeak.beliefbase.storage.CLayeredStorage;
 import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
+import org.lightjason.agentspeak.beliefbase.storage.CStorageLayer;
+import org.lightjason.agentspeak.beliefbase.storage.IStorage;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.CExecutionPolicy;
+import org.lightjason.agentspeak.common.IExecutionPolicy;
+import org.lightjason.agentspeak.instrumentation.IInstrumentation;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.unify.IUnifier;
 import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerInbox;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITriggerInbox;
 import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleTable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -44,6 +54,8 @@ import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -89,6 +101,18 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
      * rules
      */
     protected final Set<IRule> m_rules;
+    /**
+     * execution policy
+     */
+    protected final IExecutionPolicy m_executionpolicy;
+    /**
+     * storage factory of the root beliefbase
+     */
+    protected final Supplier<IStorage<ILiteral, IView>> m_storage;
+    /**
+     * shared layer of the initial beliefs of the root beliefbase
+     */
+    protected final CStorageLayer<ILiteral> m_initialbeliefslayer;
 
 
     /**
@@ -125,14 +149,119 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
                                        final ILiteral p_initialgoal, @Nonnull final IUnifier p_unifier,
                                        @Nonnull final IVariableBuilder p_variablebuilder
     )
+    {
+        this( p_fuzzy, p_initialbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_variablebuilder, CExecutionPolicy.PARALLEL );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_fuzzy fuzzy operator
+     * @param p_initialbeliefs set with initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     * @param p_unifier unifier component
+     * @param p_variablebuilder variable builder
+     * @param p_executionpolicy execution policy
+     */
+    public CDefaultAgentConfiguration( @Nonnull final IFuzzyBundle<Boolean> p_fuzzy, @Nonnull final Collection<ILiteral> p_initialbeliefs,
+                                       @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                                       final ILiteral p_initialgoal, @Nonnull final IUnifier p_unifier,
+                                       @Nonnull final IVariableBuilder p_variablebuilder, @Nonnull final IExecutionPolicy p_executionpolicy
+    )
+    {
+        this( p_fuzzy, p_initialbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_variablebuilder, p_executionpolicy, CArgumentDiscriminator.from( 0 ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_fuzzy fuzzy operator
+     * @param p_initialbeliefs set with initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     * @param p_unifier unifier component
+     * @param p_variablebuilder variable builder
+     * @param p_executionpolicy execution policy
+     * @param p_discriminator discriminator of the root beliefbase storage and the initial belief layer
+     */
+    private CDefaultAgentConfiguration( @Nonnull final IFuzzyBundle<Boolean> p_fuzzy, @Nonnull final Collection<ILiteral> p_initialbeliefs,
+                                        @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                                        final ILiteral p_initialgoal, @Nonnull final IUnifier p_unifier,
+                                        @Nonnull final IVariableBuilder p_variablebuilder, @Nonnull final IExecutionPolicy p_executionpolicy,
+                                        @Nonnull final Function<ILiteral, Object> p_discriminator
+    )
+    {
+        this(
+            p_fuzzy, p_initialbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_variablebuilder, p_executionpolicy,
+            () -> new CMultiStorage<>( p_discriminator ), p_discriminator
+        );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_fuzzy fuzzy operator
+     * @param p_initialbeliefs set with initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     * @param p_unifier unifier component
+     * @param p_variablebuilder variable builder
+     * @param p_executionpolicy execution policy
+     * @param p_storage storage factory of the root beliefbase, e.g. a concurrent storage
+     * for agents which modify beliefs within parallel plans
+     * @note the initial belief layer is not indexed, because the discriminator of the storage is unknown
+     */
+    public CDefaultAgentConfiguration( @Nonnull final IFuzzyBundle<Boolean> p_fuzzy, @Nonnull final Collection<ILiteral> p_initialbeliefs,
+                                       @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                                       final ILiteral p_initialgoal, @Nonnull final IUnifier p_unifier,
+                                       @Nonnull final IVariableBuilder p_variablebuilder, @Nonnull final IExecutionPolicy p_executionpolicy,
+                                       @Nonnull final Supplier<IStorage<ILiteral, IView>> p_storage
+    )
+    {
+        this( p_fuzzy, p_initialbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_variablebuilder, p_executionpolicy, p_storage, null );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_fuzzy fuzzy operator
+     * @param p_initialbeliefs set with initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     * @param p_unifier unifier component
+     * @param p_variablebuilder variable builder
+     * @param p_executionpolicy execution policy
+     * @param p_storage storage factory of the root beliefbase, e.g. a concurrent storage
+     * for agents which modify beliefs within parallel plans
+     * @param p_discriminator discriminator of the initial belief layer, which should match
+     * the discriminator of the storage, or null for a layer without index
+     */
+    public CDefaultAgentConfiguration( @Nonnull final IFuzzyBundle<Boolean> p_fuzzy, @Nonnull final Collection<ILiteral> p_initialbeliefs,
+                                       @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                                       final ILiteral p_initialgoal, @Nonnull final IUnifier p_unifier,
+                                       @Nonnull final IVariableBuilder p_variablebuilder, @Nonnull final IExecutionPolicy p_executionpolicy,
+                                       @Nonnull final Supplier<IStorage<ILiteral, IView>> p_storage, @Nullable final Function<ILiteral, Object> p_discriminator
+    )
     {
         m_fuzzy = p_fuzzy;
+        m_storage = p_storage;
+        m_executionpolicy = p_executionpolicy;
         m_unifier = p_unifier;
         m_variablebuilder = p_variablebuilder;
 
         m_plans = Collections.unmodifiableSet( p_plans );
         m_rules = Collections.unmodifiableSet( p_rules );
         m_initialbeliefs = Collections.unmodifiableCollection( p_initialbeliefs );
+        m_initialbeliefslayer = CStorageLayer.from(
+            m_initialbeliefs.stream().filter( i -> i.functorpath().empty() ).map( ILiteral::shallowcopysuffix ),
+            ILiteral::functor,
+            p_discriminator
+        );
         m_initialgoal = p_initialgoal != null ? CTrigger.from( ITrigger.EType.ADDGOAL, p_initialgoal ) : null;
 
         LOGGER.info( MessageFormat.format( "create agent configuration: {0}", this ) );
@@ -142,8 +271,12 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
     @Override
     public IView beliefbase()
     {
-        final IView l_beliefbase = new CBeliefbase( new CMultiStorage<>() ).create( BELIEFBASEROOTNAME );
-        m_initialbeliefs.forEach( i -> l_beliefbase.add( i.shallowcopy() ) );
+        // initial beliefs of the root are shared between all agents, so each agent stores only its modifications
+        final IView l_beliefbase = new CBeliefbase(
+            new CLayeredStorage<>( m_initialbeliefslayer, m_storage.get() ),
+            m_executionpolicy
+        ).create( BELIEFBASEROOTNAME );
+        m_initialbeliefs.stream().filter( i -> !i.functorpath().empty() ).forEach( i -> l_beliefbase.add( i.shallowcopy() ) );
 
         // clear all events of the initial beliefs
         l_beliefbase.trigger();
@@ -151,6 +284,27 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
         return l_beliefbase;
     }
 
+    @Nonnull
+    @Override
+    public IRuleTable ruletable()
+    {
+        return IRuleTable.EMPTY;
+    }
+
+    @Nonnull
+    @Override
+    public ITriggerInbox inbox()
+    {
+        return CTriggerInbox.from();
+    }
+
+    @Nonnull
+    @Override
+    public IInstrumentation instrumentation()
+    {
+        return IInstrumentation.EMPTY;
+    }
+
     @Nullable
     @Override
     public final ITrigger initialgoal()
@@ -186,6 +340,13 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
         return m_initialbeliefs;
     }
 
+    @Nonnull
+    @Override
+    public final IExecutionPolicy executionpolicy()
+    {
+        return m_executionpolicy;
+    }
+
     @Nonnull
     @Override
     public final Set<IPlan> plans()
@@ -215,10 +376,11 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
         ).trim();
 
         return MessageFormat.format(
-            "{0} ( unifier: {1} / {2} {3} )",
+            "{0} ( unifier: {1} / {2} / {3} {4} )",
             super.toString(),
             m_unifier,
             m_fuzzy,
+            m_executionpolicy,
             l_elements.isEmpty() ? "" : l_elements
         ).trim();
     }
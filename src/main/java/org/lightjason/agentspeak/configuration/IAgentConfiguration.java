@@ -24,12 +24,16 @@
 package org.lightjason.agentspeak.configuration;
 
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.IExecutionPolicy;
+import org.lightjason.agentspeak.instrumentation.IInstrumentation;
 import org.lightjason.agentspeak.language.fuzzy.operator.IFuzzyBundle;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.unify.IUnifier;
 import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITriggerInbox;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleTable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -92,4 +96,39 @@ public interface IAgentConfiguration<T extends IAgent<?>> extends IConfiguration
     @Nonnull
     Collection<ILiteral> initialbeliefs();
 
+    /**
+     * returns the execution policy of the agent cycle
+     *
+     * @return execution policy
+     */
+    @Nonnull
+    IExecutionPolicy executionpolicy();
+
+    /**
+     * returns a table of rule results of the agent,
+     * each call must create a new table
+     *
+     * @return rule table
+     */
+    @Nonnull
+    IRuleTable ruletable();
+
+    /**
+     * returns the trigger inbox of the agent,
+     * each call must create a new inbox
+     *
+     * @return trigger inbox
+     */
+    @Nonnull
+    ITriggerInbox inbox();
+
+    /**
+     * returns the instrumentation of the agent, the
+     * instrumentation can be shared between agents
+     *
+     * @return instrumentation
+     */
+    @Nonnull
+    IInstrumentation instrumentation();
+
 }
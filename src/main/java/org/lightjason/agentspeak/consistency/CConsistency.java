@@ -29,6 +29,7 @@ import cern.colt.matrix.DoubleMatrix1D;
 import cern.colt.matrix.DoubleMatrix2D;
 import cern.colt.matrix.impl.DenseDoubleMatrix1D;
 import cern.colt.matrix.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.impl.SparseDoubleMatrix2D;
 import cern.colt.matrix.linalg.Algebra;
 import cern.colt.matrix.linalg.EigenvalueDecomposition;
 import cern.jet.math.Functions;
@@ -40,12 +41,18 @@ import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.consistency.filter.IFilter;
 import org.lightjason.agentspeak.consistency.metric.IMetric;
 import org.lightjason.agentspeak.error.CIllegalStateException;
+import org.lightjason.agentspeak.language.ITerm;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -89,6 +96,23 @@ public final class CConsistency implements IConsistency
      * number of iterations of the stochastic algorithm
      **/
     private final int m_iteration;
+    /**
+     * maximum number of neighbours of each agent (top-k)
+     */
+    private final int m_neighbours;
+    /**
+     * incremental flag, metric values are cached and
+     * recalculated only on changed filter results
+     */
+    private final boolean m_incremental;
+    /**
+     * map with agent and cached metric row
+     */
+    private final Map<IAgent<?>, CRow> m_rows = new ConcurrentHashMap<>();
+    /**
+     * map with agent and stationary probability of the last call
+     */
+    private final Map<IAgent<?>, Double> m_stationary = new ConcurrentHashMap<>();
 
 
     /**
@@ -99,15 +123,19 @@ public final class CConsistency implements IConsistency
      * @param p_metric object metric
      * @param p_iteration iterations
      * @param p_epsilon epsilon value
+     * @param p_neighbours maximum number of neighbours
+     * @param p_incremental incremental flag
      */
     private CConsistency( @Nonnull final EAlgorithm p_algorithm, @Nonnull final IFilter p_filter, @Nonnull final IMetric p_metric,
-                          final int p_iteration, final double p_epsilon )
+                          final int p_iteration, final double p_epsilon, @Nonnegative final int p_neighbours, final boolean p_incremental )
     {
         m_filter = p_filter;
         m_metric = p_metric;
         m_algorithm = p_algorithm;
         m_iteration = p_iteration;
         m_epsilon = p_epsilon;
+        m_neighbours = p_neighbours;
+        m_incremental = p_incremental;
     }
 
     @Override
@@ -138,38 +166,20 @@ public final class CConsistency implements IConsistency
             return this;
 
         // get key list of map for addressing elements in the correct order
-        final ArrayList<IAgent<?>> l_keys = new ArrayList<>( m_data.keySet() );
+        final List<IAgent<?>> l_keys = new ArrayList<>( m_data.keySet() );
 
         // calculate markov chain transition matrix
-        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( m_data.size(), m_data.size() );
-        IntStream.range( 0, l_keys.size() )
-                 .parallel()
-                 .boxed()
-                 .forEach( i ->
-                 {
-                     final IAgent<?> l_item = l_keys.get( i );
-                     IntStream.range( i + 1, l_keys.size() )
-                              .boxed()
-                              .forEach( j ->
-                              {
-                                  final double l_value = this.getMetricValue( l_item, l_keys.get( j ) );
-                                  l_matrix.setQuick( i, j, l_value );
-                                  l_matrix.setQuick( j, i, l_value );
-                              } );
-
-                     // row-wise normalization for getting probabilities
-                     final double l_norm = Algebra.DEFAULT.norm1( l_matrix.viewRow( i ) );
-                     if ( l_norm != 0 )
-                        l_matrix.viewRow( i ).assign( Mult.div( l_norm ) );
-
-                     // set epsilon slope for preventing periodic markov chains
-                     l_matrix.setQuick( i, i, m_epsilon );
-                 } );
+        final DoubleMatrix2D l_matrix = m_incremental ? this.incrementalmatrix( l_keys ) : this.densematrix( l_keys );
 
         // check for a zero-matrix
         final DoubleMatrix1D l_eigenvector = l_matrix.zSum() <= m_data.size() * m_epsilon
                                              ? new DenseDoubleMatrix1D( m_data.size() )
-                                             : m_algorithm.getStationaryDistribution( m_iteration, l_matrix );
+                                             : m_algorithm.getStationaryDistribution( m_iteration, l_matrix, this.start( l_keys ) );
+
+        // store stationary distribution for warm-starting the next call
+        m_stationary.clear();
+        if ( m_incremental && l_eigenvector.zSum() > 0 )
+            IntStream.range( 0, l_keys.size() ).forEach( i -> m_stationary.put( l_keys.get( i ), l_eigenvector.getQuick( i ) ) );
 
         // calculate the inverted probability and normalize with 1-norm
         l_eigenvector.assign( PROBABILITYINVERT );
@@ -193,6 +203,9 @@ public final class CConsistency implements IConsistency
     public final IConsistency remove( final IAgent<?> p_object )
     {
         m_data.remove( p_object );
+        m_stationary.remove( p_object );
+        m_rows.remove( p_object );
+        m_rows.values().forEach( i -> i.remove( p_object ) );
         return this;
     }
 
@@ -202,6 +215,8 @@ public final class CConsistency implements IConsistency
     {
         m_statistic.clear();
         m_data.clear();
+        m_rows.clear();
+        m_stationary.clear();
         return this;
     }
 
@@ -232,6 +247,44 @@ public final class CConsistency implements IConsistency
         return MessageFormat.format( "{0}{1}", super.toString(), m_data );
     }
 
+    /**
+     * builds the dense transition matrix, all metric
+     * values are calculated on each call
+     *
+     * @param p_keys agents in matrix order
+     * @return transition matrix
+     */
+    @Nonnull
+    private DoubleMatrix2D densematrix( @Nonnull final List<IAgent<?>> p_keys )
+    {
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( p_keys.size(), p_keys.size() );
+        IntStream.range( 0, p_keys.size() )
+                 .parallel()
+                 .boxed()
+                 .forEach( i ->
+                 {
+                     final IAgent<?> l_item = p_keys.get( i );
+                     IntStream.range( i + 1, p_keys.size() )
+                              .boxed()
+                              .forEach( j ->
+                              {
+                                  final double l_value = this.getMetricValue( l_item, p_keys.get( j ) );
+                                  l_matrix.setQuick( i, j, l_value );
+                                  l_matrix.setQuick( j, i, l_value );
+                              } );
+
+                     // row-wise normalization for getting probabilities
+                     final double l_norm = Algebra.DEFAULT.norm1( l_matrix.viewRow( i ) );
+                     if ( l_norm != 0 )
+                        l_matrix.viewRow( i ).assign( Mult.div( l_norm ) );
+
+                     // set epsilon slope for preventing periodic markov chains
+                     l_matrix.setQuick( i, i, m_epsilon );
+                 } );
+
+        return l_matrix;
+    }
+
     /**
      * returns metric value
      *
@@ -250,6 +303,126 @@ public final class CConsistency implements IConsistency
         );
     }
 
+    /**
+     * builds the transition matrix of the cached rows, metric values
+     * are recalculated only for agents with changed filter results
+     *
+     * @param p_keys agents in matrix order
+     * @return transition matrix
+     */
+    @Nonnull
+    private DoubleMatrix2D incrementalmatrix( @Nonnull final List<IAgent<?>> p_keys )
+    {
+        final Map<IAgent<?>, Integer> l_index = IntStream.range( 0, p_keys.size() )
+                                                         .boxed()
+                                                         .collect( Collectors.toMap( p_keys::get, i -> i ) );
+
+        // update rows with changed filter results and recalculate the metric values of changed agents only
+        final Set<IAgent<?>> l_changed = p_keys.parallelStream()
+                                               .filter( this::update )
+                                               .collect( Collectors.toSet() );
+
+        l_changed.parallelStream()
+                 .forEach( i -> p_keys.stream()
+                                      .filter( j -> !l_changed.contains( j ) || l_index.get( i ) < l_index.get( j ) )
+                                      .forEach( j -> this.metric( i, j ) ) );
+
+        return this.matrix( p_keys, l_index );
+    }
+
+    /**
+     * updates the row of an agent, if the filter result has been changed
+     *
+     * @param p_agent agent
+     * @return changed flag
+     */
+    private boolean update( @Nonnull final IAgent<?> p_agent )
+    {
+        final List<ITerm> l_terms = m_filter.apply( p_agent ).collect( Collectors.toList() );
+
+        // hash depends on the order of the filter result, because the metric can be order-sensitive
+        final int l_hash = l_terms.hashCode();
+
+        final CRow l_row = m_rows.get( p_agent );
+        if ( ( l_row != null ) && ( l_row.hash() == l_hash ) )
+            return false;
+
+        m_rows.put( p_agent, new CRow( l_terms, l_hash ) );
+        return true;
+    }
+
+    /**
+     * calculates the metric value of two agents
+     * and stores it in both rows
+     *
+     * @param p_first first agent
+     * @param p_second second agent
+     */
+    private void metric( @Nonnull final IAgent<?> p_first, @Nonnull final IAgent<?> p_second )
+    {
+        if ( p_first.equals( p_second ) )
+            return;
+
+        final CRow l_first = m_rows.get( p_first );
+        final CRow l_second = m_rows.get( p_second );
+        final double l_value = m_metric.apply( l_first.terms(), l_second.terms() );
+
+        l_first.put( p_second, l_value );
+        l_second.put( p_first, l_value );
+    }
+
+    /**
+     * builds the row-normalized transition matrix of the cached
+     * metric values, the matrix is sparse if the number of
+     * neighbours is lower than the number of agents, rows keep
+     * all metric values, so the top-k neighbours are selected here
+     *
+     * @param p_keys agents in matrix order
+     * @param p_index index of each agent
+     * @return transition matrix
+     */
+    @Nonnull
+    private DoubleMatrix2D matrix( @Nonnull final List<IAgent<?>> p_keys, @Nonnull final Map<IAgent<?>, Integer> p_index )
+    {
+        final boolean l_sparse = m_neighbours < p_keys.size();
+        final DoubleMatrix2D l_matrix = l_sparse
+                                        ? new SparseDoubleMatrix2D( p_keys.size(), p_keys.size() )
+                                        : new DenseDoubleMatrix2D( p_keys.size(), p_keys.size() );
+
+        // sparse matrix is not thread-safe, so rows are set sequentially
+        ( l_sparse ? IntStream.range( 0, p_keys.size() ) : IntStream.range( 0, p_keys.size() ).parallel() )
+            .forEach( i ->
+            {
+                // row-wise normalization for getting probabilities
+                final List<Map.Entry<IAgent<?>, Double>> l_row = m_rows.get( p_keys.get( i ) ).neighbours( m_neighbours, p_index );
+                final double l_norm = l_row.stream().mapToDouble( j -> Math.abs( j.getValue() ) ).sum();
+
+                l_row.forEach( j -> l_matrix.setQuick( i, p_index.get( j.getKey() ), l_norm == 0 ? j.getValue() : j.getValue() / l_norm ) );
+
+                // set epsilon slope for preventing periodic markov chains
+                l_matrix.setQuick( i, i, m_epsilon );
+            } );
+
+        return l_matrix;
+    }
+
+    /**
+     * returns the start vector of the fixpoint iteration, which
+     * is the stationary distribution of the last call
+     *
+     * @param p_keys agents in matrix order
+     * @return start vector or null for a random start
+     */
+    @Nullable
+    private DoubleMatrix1D start( @Nonnull final List<IAgent<?>> p_keys )
+    {
+        if ( m_stationary.isEmpty() )
+            return null;
+
+        final double l_default = 1.0 / p_keys.size();
+        return new DenseDoubleMatrix1D( p_keys.stream().mapToDouble( i -> m_stationary.getOrDefault( i, l_default ) ).toArray() );
+    }
+
     /**
      * factory numerical algorithm
      *
@@ -259,7 +432,7 @@ public final class CConsistency implements IConsistency
      */
     public static IConsistency numeric( final IFilter p_filter, final IMetric p_metric )
     {
-        return new CConsistency( EAlgorithm.NUMERICAL, p_filter, p_metric, 0, 0.001 );
+        return new CConsistency( EAlgorithm.NUMERICAL, p_filter, p_metric, 0, 0.001, Integer.MAX_VALUE, false );
     }
 
     /**
@@ -271,7 +444,7 @@ public final class CConsistency implements IConsistency
      */
     public static IConsistency heuristic( final IFilter p_filter, final IMetric p_metric )
     {
-        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, 8, 0.001 );
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, 8, 0.001, Integer.MAX_VALUE, false );
     }
 
     /**
@@ -284,7 +457,7 @@ public final class CConsistency implements IConsistency
      */
     public static IConsistency heuristic( final IFilter p_filter, final IMetric p_metric, final int p_iteration )
     {
-        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, 0.001 );
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, 0.001, Integer.MAX_VALUE, false );
     }
 
     /**
@@ -298,9 +471,144 @@ public final class CConsistency implements IConsistency
      */
     public static IConsistency heuristic( final IFilter p_filter, final IMetric p_metric, final int p_iteration, final double p_epsilon )
     {
-        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, p_epsilon );
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, p_epsilon, Integer.MAX_VALUE, false );
     }
 
+    /**
+     * factory incremental heuristic algorithm, metric values are
+     * recalculated only for agents with changed filter results
+     *
+     * @param p_filter metric filter
+     * @param p_metric object metric
+     * @param p_iteration number of iterations
+     * @return consistency
+     */
+    public static IConsistency incremental( final IFilter p_filter, final IMetric p_metric, final int p_iteration )
+    {
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, 0.001, Integer.MAX_VALUE, true );
+    }
+
+    /**
+     * factory incremental heuristic algorithm with sparse
+     * transition matrix, each agent keeps only the neighbours
+     * with the largest metric values
+     *
+     * @param p_filter metric filter
+     * @param p_metric object metric
+     * @param p_iteration number of iterations
+     * @param p_epsilon epsilon
+     * @param p_neighbours maximum number of neighbours of each agent
+     * @return consistency
+     */
+    public static IConsistency incremental( final IFilter p_filter, final IMetric p_metric, final int p_iteration, final double p_epsilon,
+                                            @Nonnegative final int p_neighbours )
+    {
+        return new CConsistency( EAlgorithm.FIXPOINT, p_filter, p_metric, p_iteration, p_epsilon, p_neighbours, true );
+    }
+
+
+
+    /**
+     * cached metric row of an agent
+     */
+    private static final class CRow
+    {
+        /**
+         * filter result
+         */
+        private final List<ITerm> m_terms;
+        /**
+         * hash of the filter result
+         */
+        private final int m_hash;
+        /**
+         * metric values of the neighbours
+         */
+        private final Map<IAgent<?>, Double> m_values = new ConcurrentHashMap<>();
+
+        /**
+         * ctor
+         *
+         * @param p_terms filter result
+         * @param p_hash hash of the filter result
+         */
+        CRow( @Nonnull final List<ITerm> p_terms, final int p_hash )
+        {
+            m_terms = p_terms;
+            m_hash = p_hash;
+        }
+
+        /**
+         * returns the hash of the filter result
+         *
+         * @return hash
+         */
+        final int hash()
+        {
+            return m_hash;
+        }
+
+        /**
+         * returns the filter result
+         *
+         * @return term stream
+         */
+        @Nonnull
+        final Stream<ITerm> terms()
+        {
+            return m_terms.stream();
+        }
+
+        /**
+         * sets the metric value of a neighbour,
+         * zero values are not stored
+         *
+         * @param p_agent neighbour
+         * @param p_value metric value
+         */
+        final void put( @Nonnull final IAgent<?> p_agent, final double p_value )
+        {
+            if ( p_value == 0 )
+                m_values.remove( p_agent );
+            else
+                m_values.put( p_agent, p_value );
+        }
+
+        /**
+         * removes a neighbour
+         *
+         * @param p_agent neighbour
+         */
+        final void remove( @Nonnull final IAgent<?> p_agent )
+        {
+            m_values.remove( p_agent );
+        }
+
+        /**
+         * returns the neighbours with the largest values,
+         * ties are ordered by the matrix index
+         *
+         * @param p_neighbours number of neighbours
+         * @param p_index index of each agent
+         * @return list of neighbours and metric values
+         */
+        @Nonnull
+        final List<Map.Entry<IAgent<?>, Double>> neighbours( @Nonnegative final int p_neighbours, @Nonnull final Map<IAgent<?>, Integer> p_index )
+        {
+            if ( m_values.size() <= p_neighbours )
+                return m_values.entrySet().stream().filter( i -> p_index.containsKey( i.getKey() ) ).collect( Collectors.toList() );
+
+            return m_values.entrySet()
+                           .stream()
+                           .filter( i -> p_index.containsKey( i.getKey() ) )
+                           .sorted(
+                               Map.Entry.<IAgent<?>, Double>comparingByValue().reversed()
+                                        .thenComparing( i -> p_index.get( i.getKey() ) )
+                           )
+                           .limit( p_neighbours )
+                           .collect( Collectors.toList() );
+        }
+    }
 
 
     /**
@@ -324,15 +632,16 @@ public final class CConsistency implements IConsistency
          *
          * @param p_iteration number of iteration
          * @param p_matrix transition matrix
+         * @param p_start start vector of the iteration or null for a random start
          * @return stationary distribution
          */
-        public final DoubleMatrix1D getStationaryDistribution( final int p_iteration, final DoubleMatrix2D p_matrix )
+        public final DoubleMatrix1D getStationaryDistribution( final int p_iteration, final DoubleMatrix2D p_matrix, @Nullable final DoubleMatrix1D p_start )
         {
             final DoubleMatrix1D l_eigenvector;
             switch ( this )
             {
                 case FIXPOINT:
-                    l_eigenvector = getLargestEigenvector( p_matrix, p_iteration );
+                    l_eigenvector = getLargestEigenvector( p_matrix, p_iteration, p_start );
                     break;
 
                 case NUMERICAL:
@@ -355,13 +664,14 @@ public final class CConsistency implements IConsistency
          *
          * @param p_matrix matrix
          * @param p_iteration number of iterations
+         * @param p_start start vector or null for a random start
          * @return largest eigenvector (not normalized)
          *
          * @see http://en.wikipedia.org/wiki/Perron%E2%80%93Frobenius_theorem
          */
-        private static DoubleMatrix1D getLargestEigenvector( final DoubleMatrix2D p_matrix, final int p_iteration )
+        private static DoubleMatrix1D getLargestEigenvector( final DoubleMatrix2D p_matrix, final int p_iteration, @Nullable final DoubleMatrix1D p_start )
         {
-            final DoubleMatrix1D l_probability = DoubleFactory1D.dense.random( p_matrix.rows() );
+            final DoubleMatrix1D l_probability = p_start == null ? DoubleFactory1D.dense.random( p_matrix.rows() ) : p_start;
             IntStream.range( 0, p_iteration )
                      .forEach( i ->
                      {
@@ -24,6 +24,8 @@
 package org.lightjason.agentspeak.generator;
 
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CExecutionPolicy;
+import org.lightjason.agentspeak.common.IExecutionPolicy;
 import org.lightjason.agentspeak.language.fuzzy.defuzzification.CCrisp;
 import org.lightjason.agentspeak.language.fuzzy.operator.IFuzzyBundle;
 import org.lightjason.agentspeak.language.fuzzy.operator.bool.CBundle;
@@ -46,5 +48,9 @@ public interface IAgentGenerator<T extends IAgent<?>> extends IGenerator<T>
      * default unification
      */
     IUnifier DEFAULTUNIFIER = new CUnifier();
+    /**
+     * default execution policy
+     */
+    IExecutionPolicy DEFAULTEXECUTIONPOLICY = CExecutionPolicy.PARALLEL;
 
 }
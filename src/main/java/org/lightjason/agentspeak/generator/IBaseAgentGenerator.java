@@ -27,11 +27,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.lightjason.agentspeak.action.IAction;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.agent.IPlanBundle;
+import org.lightjason.agentspeak.common.IExecutionPolicy;
 import org.lightjason.agentspeak.language.fuzzy.operator.IFuzzyBundle;
 import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
-import org.lightjason.agentspeak.grammar.CParserAgent;
-import org.lightjason.agentspeak.grammar.IASTVisitorAgent;
+import org.lightjason.agentspeak.grammar.CSnapshot;
+import org.lightjason.agentspeak.grammar.ISnapshotCache;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.unify.IUnifier;
@@ -102,30 +103,82 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
     public IBaseAgentGenerator( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions,
                                 @Nonnull final Set<IPlanBundle> p_planbundle, @Nonnull final IVariableBuilder p_variablebuilder ) throws Exception
     {
-        final IASTVisitorAgent l_visitor = new CParserAgent( p_actions ).parse( p_stream );
-        m_configuration = this.configuration(
-            DEFAULTFUZZYBUNDLE,
-
-            Stream.concat(
-                l_visitor.initialbeliefs().stream(),
-                p_planbundle.stream().flatMap( i -> i.initialbeliefs().stream() )
-            ).collect( Collectors.toCollection( LinkedHashSet::new ) ),
-
-            Stream.concat(
-                l_visitor.plans().stream(),
-                p_planbundle.parallelStream().flatMap( i -> i.plans().stream() )
-            ).collect( Collectors.toSet() ),
-
-            Stream.concat(
-                l_visitor.rules().stream(),
-                p_planbundle.parallelStream().flatMap( i -> i.rules().stream() )
-            ).collect( Collectors.toSet() ),
+        this( p_stream, p_actions, p_planbundle, p_variablebuilder, DEFAULTEXECUTIONPOLICY );
+    }
 
-            l_visitor.initialgoal(),
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions set with action
+     * @param p_planbundle set with planbundles
+     * @param p_variablebuilder variable builder (can be set to null)
+     * @param p_executionpolicy execution policy of the agent cycle
+     * @throws Exception thrown on error
+     */
+    public IBaseAgentGenerator( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions,
+                                @Nonnull final Set<IPlanBundle> p_planbundle, @Nonnull final IVariableBuilder p_variablebuilder,
+                                @Nonnull final IExecutionPolicy p_executionpolicy ) throws Exception
+    {
+        this( p_stream, p_actions, p_planbundle, p_variablebuilder, p_executionpolicy, ISnapshotCache.EMPTY );
+    }
 
-            DEFAULTUNIFIER,
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions set with action
+     * @param p_planbundle set with planbundles
+     * @param p_variablebuilder variable builder (can be set to null)
+     * @param p_executionpolicy execution policy of the agent cycle
+     * @param p_cache snapshot cache of the parsed source
+     * @throws Exception thrown on error
+     */
+    public IBaseAgentGenerator( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions,
+                                @Nonnull final Set<IPlanBundle> p_planbundle, @Nonnull final IVariableBuilder p_variablebuilder,
+                                @Nonnull final IExecutionPolicy p_executionpolicy, @Nonnull final ISnapshotCache p_cache ) throws Exception
+    {
+        final CSnapshot l_snapshot = p_cache.agent( p_stream, p_actions );
+
+        final Collection<ILiteral> l_initialbeliefs = Stream.concat(
+            l_snapshot.initialbeliefs().stream(),
+            p_planbundle.stream().flatMap( i -> i.initialbeliefs().stream() )
+        ).collect( Collectors.toCollection( LinkedHashSet::new ) );
+
+        final Set<IPlan> l_plans = Stream.concat(
+            l_snapshot.plans().stream(),
+            p_planbundle.parallelStream().flatMap( i -> i.plans().stream() )
+        ).collect( Collectors.toSet() );
+
+        final Set<IRule> l_rules = Stream.concat(
+            l_snapshot.rules().stream(),
+            p_planbundle.parallelStream().flatMap( i -> i.rules().stream() )
+        ).collect( Collectors.toSet() );
+
+        // the configuration without policy is called for the default policy, so subclasses which override it are still used
+        m_configuration = p_executionpolicy == DEFAULTEXECUTIONPOLICY
+                          ? this.configuration(
+                              DEFAULTFUZZYBUNDLE, l_initialbeliefs, l_plans, l_rules, l_snapshot.initialgoal(), DEFAULTUNIFIER, p_variablebuilder
+                          )
+                          : this.configuration(
+                              DEFAULTFUZZYBUNDLE, l_initialbeliefs, l_plans, l_rules, l_snapshot.initialgoal(), DEFAULTUNIFIER, p_variablebuilder,
+                              p_executionpolicy
+                          );
+    }
 
-            p_variablebuilder
+    /**
+     * builds the configuraion with the default execution policy,
+     * configuration runs cloning of objects if needed
+     *
+     * @return configuration object
+     */
+    protected IAgentConfiguration<T> configuration( @Nonnull final IFuzzyBundle<Boolean> p_fuzzy, @Nonnull final Collection<ILiteral> p_initalbeliefs,
+                                                    @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                                                    @Nullable final ILiteral p_initialgoal, @Nonnull final IUnifier p_unifier,
+                                                    @Nonnull final IVariableBuilder p_variablebuilder )
+    {
+        return this.configuration(
+            p_fuzzy, p_initalbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_variablebuilder, DEFAULTEXECUTIONPOLICY
         );
     }
 
@@ -137,7 +190,8 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
     protected IAgentConfiguration<T> configuration( @Nonnull final IFuzzyBundle<Boolean> p_fuzzy, @Nonnull final Collection<ILiteral> p_initalbeliefs,
                                                     @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
                                                     @Nullable final ILiteral p_initialgoal, @Nonnull final IUnifier p_unifier,
-                                                    @Nonnull final IVariableBuilder p_variablebuilder )
+                                                    @Nonnull final IVariableBuilder p_variablebuilder,
+                                                    @Nonnull final IExecutionPolicy p_executionpolicy )
     {
         return new CDefaultAgentConfiguration<>(
             p_fuzzy,
@@ -146,7 +200,8 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
             p_rules,
             p_initialgoal,
             p_unifier,
-            p_variablebuilder
+            p_variablebuilder,
+            p_executionpolicy
         );
     }
 
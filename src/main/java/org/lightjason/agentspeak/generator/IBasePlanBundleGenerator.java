@@ -28,8 +28,8 @@ import org.lightjason.agentspeak.action.IAction;
 import org.lightjason.agentspeak.agent.IPlanBundle;
 import org.lightjason.agentspeak.configuration.CDefaultPlanBundleConfiguration;
 import org.lightjason.agentspeak.configuration.IPlanBundleConfiguration;
-import org.lightjason.agentspeak.grammar.CParserPlanBundle;
-import org.lightjason.agentspeak.grammar.IASTVisitorPlanBundle;
+import org.lightjason.agentspeak.grammar.CSnapshot;
+import org.lightjason.agentspeak.grammar.ISnapshotCache;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -61,12 +61,26 @@ public abstract class IBasePlanBundleGenerator implements IPlanBundleGenerator
      */
     public IBasePlanBundleGenerator( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions ) throws Exception
     {
-        final IASTVisitorPlanBundle l_visitor = new CParserPlanBundle( p_actions ).parse( p_stream );
+        this( p_stream, p_actions, ISnapshotCache.EMPTY );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions set with actions
+     * @param p_cache snapshot cache of the parsed source
+     * @throws Exception thrown on error
+     */
+    public IBasePlanBundleGenerator( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions, @Nonnull final ISnapshotCache p_cache )
+        throws Exception
+    {
+        final CSnapshot l_snapshot = p_cache.planbundle( p_stream, p_actions );
 
         m_configuration = new CDefaultPlanBundleConfiguration(
-            l_visitor.plans(),
-            l_visitor.rules(),
-            l_visitor.initialbeliefs()
+            l_snapshot.plans(),
+            l_snapshot.rules(),
+            l_snapshot.initialbeliefs()
         );
     }
 
@@ -58,6 +58,7 @@ import org.lightjason.agentspeak.language.execution.action.unify.CDefaultUnify;
 import org.lightjason.agentspeak.language.execution.action.unify.CExpressionUnify;
 import org.lightjason.agentspeak.language.execution.action.unify.CVariableUnify;
 import org.lightjason.agentspeak.language.execution.expression.CAtom;
+import org.lightjason.agentspeak.language.execution.expression.CCompiledExpression;
 import org.lightjason.agentspeak.language.execution.expression.CProxyReturnExpression;
 import org.lightjason.agentspeak.language.execution.expression.EOperator;
 import org.lightjason.agentspeak.language.execution.expression.IExpression;
@@ -337,7 +338,7 @@ public final class CASTVisitorPlanBundle extends AbstractParseTreeVisitor<Object
                         .map( i -> this.visitBody_formula( i ) )
                         .filter( i -> i instanceof IExecution )
                         // expression are encapsulate to get result
-                        .map( i -> i instanceof IExpression ? new CRawAction<>( i ) : i )
+                        .map( i -> i instanceof IExpression ? new CRawAction<>( CCompiledExpression.from( (IExpression) i ) ) : i )
                         .collect( Collectors.toList() );
     }
 
@@ -57,7 +57,7 @@ public final class CParserAgent extends IBaseParser<IASTVisitorAgent, AgentLexer
     public final IASTVisitorAgent parse( final InputStream p_stream ) throws Exception
     {
         final IASTVisitorAgent l_visitor = new CASTVisitorAgent( m_actions );
-        l_visitor.visit( this.parser( p_stream ).agent() );
+        l_visitor.visit( this.parsetree( p_stream, AgentParser::agent ) );
         return l_visitor;
     }
 
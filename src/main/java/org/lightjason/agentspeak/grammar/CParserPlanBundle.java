@@ -57,7 +57,7 @@ public final class CParserPlanBundle extends IBaseParser<IASTVisitorPlanBundle,
     public final IASTVisitorPlanBundle parse( final InputStream p_stream ) throws Exception
     {
         final IASTVisitorPlanBundle l_visitor = new CASTVisitorPlanBundle( m_actions );
-        l_visitor.visit( this.parser( p_stream ).planbundle() );
+        l_visitor.visit( this.parsetree( p_stream, PlanBundleParser::planbundle ) );
         return l_visitor;
     }
 
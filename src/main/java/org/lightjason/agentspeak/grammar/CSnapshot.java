@@ -0,0 +1,151 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.grammar;
+
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+
+/**
+ * snapshot of a parsed agent or plan-bundle source, which
+ * stores the result of the AST visitor
+ */
+public final class CSnapshot implements Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2466394476253539741L;
+    /**
+     * initial beliefs
+     */
+    private final Set<ILiteral> m_initialbeliefs;
+    /**
+     * plans
+     */
+    private final Set<IPlan> m_plans;
+    /**
+     * rules
+     */
+    private final Set<IRule> m_rules;
+    /**
+     * initial goal
+     */
+    private final ILiteral m_initialgoal;
+
+    /**
+     * ctor
+     *
+     * @param p_initialbeliefs initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     */
+    private CSnapshot( @Nonnull final Set<ILiteral> p_initialbeliefs, @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                       @Nullable final ILiteral p_initialgoal )
+    {
+        m_initialbeliefs = new LinkedHashSet<>( p_initialbeliefs );
+        m_plans = new LinkedHashSet<>( p_plans );
+        m_rules = new LinkedHashSet<>( p_rules );
+        m_initialgoal = p_initialgoal;
+    }
+
+    /**
+     * returns the initial beliefs
+     *
+     * @return unmodifiable set of literals
+     */
+    @Nonnull
+    public final Set<ILiteral> initialbeliefs()
+    {
+        return Collections.unmodifiableSet( m_initialbeliefs );
+    }
+
+    /**
+     * returns the plans
+     *
+     * @return unmodifiable set of plans
+     */
+    @Nonnull
+    public final Set<IPlan> plans()
+    {
+        return Collections.unmodifiableSet( m_plans );
+    }
+
+    /**
+     * returns the rules
+     *
+     * @return unmodifiable set of rules
+     */
+    @Nonnull
+    public final Set<IRule> rules()
+    {
+        return Collections.unmodifiableSet( m_rules );
+    }
+
+    /**
+     * returns the initial goal
+     *
+     * @return initial goal or null
+     */
+    @Nullable
+    public final ILiteral initialgoal()
+    {
+        return m_initialgoal;
+    }
+
+    /**
+     * creates a snapshot of an agent visitor
+     *
+     * @param p_visitor agent visitor
+     * @return snapshot
+     */
+    @Nonnull
+    public static CSnapshot from( @Nonnull final IASTVisitorAgent p_visitor )
+    {
+        return new CSnapshot( p_visitor.initialbeliefs(), p_visitor.plans(), p_visitor.rules(), p_visitor.initialgoal() );
+    }
+
+    /**
+     * creates a snapshot of a plan-bundle visitor
+     *
+     * @param p_visitor plan-bundle visitor
+     * @return snapshot
+     */
+    @Nonnull
+    public static CSnapshot from( @Nonnull final IASTVisitorPlanBundle p_visitor )
+    {
+        return new CSnapshot( p_visitor.initialbeliefs(), p_visitor.plans(), p_visitor.rules(), null );
+    }
+
+}
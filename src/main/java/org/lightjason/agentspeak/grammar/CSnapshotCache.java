@@ -0,0 +1,298 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.grammar;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * file-based snapshot cache, snapshots are stored as compressed
+ * binary files, which are named by the content hash of the source
+ * and the snapshot format, actions are stored by their name and
+ * are bound on restoring
+ */
+public final class CSnapshotCache implements ISnapshotCache
+{
+    /**
+     * file extension of snapshot files
+     */
+    private static final String EXTENSION = ".snapshot";
+    /**
+     * snapshot format version, must be increased
+     * on any change of the serialized structure
+     */
+    private static final int FORMAT = 1;
+    /**
+     * cache directory
+     */
+    private final Path m_directory;
+
+    /**
+     * ctor
+     *
+     * @param p_directory cache directory
+     */
+    private CSnapshotCache( @Nonnull final Path p_directory )
+    {
+        m_directory = p_directory;
+    }
+
+    @Nonnull
+    @Override
+    public final CSnapshot agent( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions ) throws Exception
+    {
+        final byte[] l_source = ByteStreams.toByteArray( p_stream );
+        final Path l_file = this.file( "agent", l_source );
+
+        final CSnapshot l_snapshot = read( l_file, p_actions );
+        return l_snapshot == null
+               ? write( l_file, ISnapshotCache.EMPTY.agent( new ByteArrayInputStream( l_source ), p_actions ) )
+               : l_snapshot;
+    }
+
+    @Nonnull
+    @Override
+    public final CSnapshot planbundle( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions ) throws Exception
+    {
+        final byte[] l_source = ByteStreams.toByteArray( p_stream );
+        final Path l_file = this.file( "planbundle", l_source );
+
+        final CSnapshot l_snapshot = read( l_file, p_actions );
+        return l_snapshot == null
+               ? write( l_file, ISnapshotCache.EMPTY.planbundle( new ByteArrayInputStream( l_source ), p_actions ) )
+               : l_snapshot;
+    }
+
+    /**
+     * returns the snapshot file of a source
+     *
+     * @param p_type source type
+     * @param p_source source content
+     * @return file path
+     */
+    @Nonnull
+    private Path file( @Nonnull final String p_type, @Nonnull final byte[] p_source )
+    {
+        return m_directory.resolve(
+            p_type + "-"
+            + Hashing.sha256().newHasher().putInt( FORMAT ).putString( p_type, StandardCharsets.UTF_8 ).putBytes( p_source ).hash()
+            + EXTENSION
+        );
+    }
+
+    /**
+     * reads a snapshot
+     *
+     * @param p_file snapshot file
+     * @param p_actions set with actions
+     * @return snapshot or null if the snapshot does not exist, has got another format or cannot be restored
+     */
+    private static CSnapshot read( @Nonnull final Path p_file, @Nonnull final Set<IAction> p_actions )
+    {
+        if ( !Files.isRegularFile( p_file ) )
+            return null;
+
+        try
+        (
+            final ObjectInputStream l_stream = new CSnapshotInputStream( new GZIPInputStream( Files.newInputStream( p_file ) ), p_actions )
+        )
+        {
+            return l_stream.readInt() == FORMAT
+                   ? (CSnapshot) l_stream.readObject()
+                   : null;
+        }
+        catch ( final IOException | ClassNotFoundException | RuntimeException l_exception )
+        {
+            return null;
+        }
+    }
+
+    /**
+     * writes a snapshot, the file is written to a temporary
+     * file first and moved into the cache afterwards
+     *
+     * @param p_file snapshot file
+     * @param p_snapshot snapshot
+     * @return snapshot
+     * @throws IOException on writing error
+     */
+    @Nonnull
+    private static CSnapshot write( @Nonnull final Path p_file, @Nonnull final CSnapshot p_snapshot ) throws IOException
+    {
+        final Path l_temporary = Files.createTempFile( p_file.getParent(), p_file.getFileName().toString(), ".tmp" );
+        try
+        {
+            try
+            (
+                final ObjectOutputStream l_stream = new CSnapshotOutputStream( new GZIPOutputStream( Files.newOutputStream( l_temporary ) ) )
+            )
+            {
+                l_stream.writeInt( FORMAT );
+                l_stream.writeObject( p_snapshot );
+            }
+            Files.move( l_temporary, p_file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_temporary );
+        }
+
+        return p_snapshot;
+    }
+
+    /**
+     * creates a snapshot cache
+     *
+     * @param p_directory cache directory
+     * @return snapshot cache
+     */
+    @Nonnull
+    public static ISnapshotCache from( @Nonnull final File p_directory )
+    {
+        if ( !p_directory.isDirectory() && !p_directory.mkdirs() )
+            throw new CIllegalArgumentException( CCommon.languagestring( CSnapshotCache.class, "directory", p_directory ) );
+
+        return new CSnapshotCache( p_directory.toPath() );
+    }
+
+
+    /**
+     * output stream, which replaces actions by their name
+     */
+    private static final class CSnapshotOutputStream extends ObjectOutputStream
+    {
+        /**
+         * ctor
+         *
+         * @param p_stream output stream
+         * @throws IOException on stream error
+         */
+        CSnapshotOutputStream( @Nonnull final OutputStream p_stream ) throws IOException
+        {
+            super( p_stream );
+            this.enableReplaceObject( true );
+        }
+
+        @Override
+        protected final Object replaceObject( final Object p_object ) throws IOException
+        {
+            return p_object instanceof IAction
+                   ? new CActionReference( ( (IAction) p_object ).name() )
+                   : p_object;
+        }
+    }
+
+
+    /**
+     * input stream, which binds actions by their name
+     */
+    private static final class CSnapshotInputStream extends ObjectInputStream
+    {
+        /**
+         * actions
+         */
+        private final Map<IPath, IAction> m_actions;
+
+        /**
+         * ctor
+         *
+         * @param p_stream input stream
+         * @param p_actions set with actions
+         * @throws IOException on stream error
+         */
+        CSnapshotInputStream( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions ) throws IOException
+        {
+            super( p_stream );
+            m_actions = p_actions.stream().collect( Collectors.toMap( IAction::name, Function.identity(), ( i, j ) -> i ) );
+            this.enableResolveObject( true );
+        }
+
+        @Override
+        protected final Object resolveObject( final Object p_object ) throws IOException
+        {
+            if ( !( p_object instanceof CActionReference ) )
+                return p_object;
+
+            final IAction l_action = m_actions.get( ( (CActionReference) p_object ).m_name );
+            if ( l_action == null )
+                throw new InvalidObjectException( ( (CActionReference) p_object ).m_name.toString() );
+
+            return l_action;
+        }
+    }
+
+
+    /**
+     * serializable reference of an action
+     */
+    private static final class CActionReference implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 3407584421361373573L;
+        /**
+         * action name
+         */
+        private final IPath m_name;
+
+        /**
+         * ctor
+         *
+         * @param p_name action name
+         */
+        CActionReference( @Nonnull final IPath p_name )
+        {
+            m_name = p_name;
+        }
+    }
+
+}
@@ -24,22 +24,35 @@
 package org.lightjason.agentspeak.grammar;
 
 import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.error.CIllegalStateException;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
 
 
 /**
- * generic default parser
+ * generic default parser, which parses with a two-stage strategy, first with
+ * SLL prediction and bail-out, on failure with full LL prediction
+ *
+ * @note lexer and parser instances are pooled per thread, the DFA cache is
+ * shared by the generated lexer and parser classes
  */
 public abstract class IBaseParser<T extends IASTVisitor, L extends Lexer, P extends Parser> implements IParser<T>
 {
@@ -55,6 +68,10 @@ public abstract class IBaseParser<T extends IASTVisitor, L extends Lexer, P exte
      * ctor parser reference
      */
     private final Constructor<P> m_ctorparser;
+    /**
+     * pool of lexer and parser of each thread
+     */
+    private final ThreadLocal<Pair<L, P>> m_pool = ThreadLocal.withInitial( this::instantiate );
 
 
     /**
@@ -71,27 +88,83 @@ public abstract class IBaseParser<T extends IASTVisitor, L extends Lexer, P exte
     }
 
     /**
-     * returns a parser component
+     * parses an input stream
      *
      * @param p_stream input stream
-     * @return parser (for using in visitor interface)
+     * @param p_rule start rule of the parser
+     * @tparam R parse tree type
+     * @return parse tree
      *
      * @throws IOException on io-stream errors
-     * @throws IllegalAccessException on lexer / parser method access error
-     * @throws InvocationTargetException on lexer / parser invocation error
-     * @throws InstantiationException on lexer / parser instantiation error
      */
-    protected final P parser( @Nonnull final InputStream p_stream ) throws IOException, IllegalAccessException, InvocationTargetException, InstantiationException
+    @Nonnull
+    protected final <R extends ParserRuleContext> R parsetree( @Nonnull final InputStream p_stream, @Nonnull final Function<P, R> p_rule ) throws IOException
     {
-        final L l_lexer = m_ctorlexer.newInstance( CharStreams.fromStream( p_stream ) );
-        l_lexer.removeErrorListeners();
-        l_lexer.addErrorListener( m_errorlistener );
+        return this.parsetree( CharStreams.fromStream( p_stream ), p_rule );
+    }
+
+    /**
+     * parses a character stream
+     *
+     * @param p_stream character stream
+     * @param p_rule start rule of the parser
+     * @tparam R parse tree type
+     * @return parse tree
+     */
+    @Nonnull
+    protected final <R extends ParserRuleContext> R parsetree( @Nonnull final CharStream p_stream, @Nonnull final Function<P, R> p_rule )
+    {
+        final Pair<L, P> l_pool = m_pool.get();
+
+        final L l_lexer = l_pool.getLeft();
+        l_lexer.setInputStream( p_stream );
 
-        final P l_parser = m_ctorparser.newInstance( new CommonTokenStream( l_lexer ) );
+        final CommonTokenStream l_tokens = new CommonTokenStream( l_lexer );
+        final P l_parser = l_pool.getRight();
+        l_parser.setTokenStream( l_tokens );
+
+        // first stage with SLL prediction, errors cancel the parsing without reporting
         l_parser.removeErrorListeners();
-        l_parser.addErrorListener( m_errorlistener );
+        l_parser.setErrorHandler( new BailErrorStrategy() );
+        l_parser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+
+        try
+        {
+            return p_rule.apply( l_parser );
+        }
+        catch ( final ParseCancellationException l_exception )
+        {
+            // second stage with LL prediction and error reporting
+            l_tokens.seek( 0 );
+            l_parser.reset();
+            l_parser.addErrorListener( m_errorlistener );
+            l_parser.setErrorHandler( new DefaultErrorStrategy() );
+            l_parser.getInterpreter().setPredictionMode( PredictionMode.LL );
+
+            return p_rule.apply( l_parser );
+        }
+    }
+
+    /**
+     * creates the lexer and parser of a thread
+     *
+     * @return pair of lexer and parser
+     */
+    @Nonnull
+    private Pair<L, P> instantiate()
+    {
+        try
+        {
+            final L l_lexer = m_ctorlexer.newInstance( (CharStream) null );
+            l_lexer.removeErrorListeners();
+            l_lexer.addErrorListener( m_errorlistener );
 
-        return l_parser;
+            return new ImmutablePair<>( l_lexer, m_ctorparser.newInstance( (TokenStream) null ) );
+        }
+        catch ( final IllegalAccessException | InvocationTargetException | InstantiationException l_exception )
+        {
+            throw new CIllegalStateException( l_exception );
+        }
     }
 
     /**
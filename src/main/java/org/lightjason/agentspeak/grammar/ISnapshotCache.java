@@ -0,0 +1,81 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.grammar;
+
+import org.lightjason.agentspeak.action.IAction;
+
+import javax.annotation.Nonnull;
+import java.io.InputStream;
+import java.util.Set;
+
+
+/**
+ * cache of parsed sources
+ */
+public interface ISnapshotCache
+{
+    /**
+     * empty cache, which parses on each call
+     */
+    ISnapshotCache EMPTY = new ISnapshotCache()
+    {
+        @Nonnull
+        @Override
+        public final CSnapshot agent( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions ) throws Exception
+        {
+            return CSnapshot.from( new CParserAgent( p_actions ).parse( p_stream ) );
+        }
+
+        @Nonnull
+        @Override
+        public final CSnapshot planbundle( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions ) throws Exception
+        {
+            return CSnapshot.from( new CParserPlanBundle( p_actions ).parse( p_stream ) );
+        }
+    };
+
+    /**
+     * returns the snapshot of an agent source
+     *
+     * @param p_stream agent source
+     * @param p_actions set with actions
+     * @return snapshot
+     * @throws Exception on parsing error
+     */
+    @Nonnull
+    CSnapshot agent( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions ) throws Exception;
+
+    /**
+     * returns the snapshot of a plan-bundle source
+     *
+     * @param p_stream plan-bundle source
+     * @param p_actions set with actions
+     * @return snapshot
+     * @throws Exception on parsing error
+     */
+    @Nonnull
+    CSnapshot planbundle( @Nonnull final InputStream p_stream, @Nonnull final Set<IAction> p_actions ) throws Exception;
+
+}
@@ -0,0 +1,211 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.instrumentation;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * lock-free histogram with logarithmic buckets,
+ * bucket 0 stores zero values and bucket i the values within [2^(i-1), 2^i - 1]
+ */
+public final class CHistogram
+{
+    /**
+     * number of buckets
+     */
+    private static final int BUCKETS = Long.SIZE;
+    /**
+     * bucket counter
+     */
+    private final AtomicLongArray m_buckets = new AtomicLongArray( BUCKETS );
+    /**
+     * number of values
+     */
+    private final LongAdder m_count = new LongAdder();
+    /**
+     * sum of values
+     */
+    private final LongAdder m_sum = new LongAdder();
+    /**
+     * maximum value
+     */
+    private final AtomicLong m_max = new AtomicLong();
+
+
+    /**
+     * records a value
+     *
+     * @param p_value value, negative values are recorded as zero
+     * @return self reference
+     */
+    @Nonnull
+    public final CHistogram record( final long p_value )
+    {
+        final long l_value = Math.max( 0, p_value );
+
+        m_buckets.incrementAndGet( Long.SIZE - Long.numberOfLeadingZeros( l_value ) );
+        m_count.increment();
+        m_sum.add( l_value );
+        if ( l_value > m_max.get() )
+            m_max.accumulateAndGet( l_value, Math::max );
+
+        return this;
+    }
+
+    /**
+     * removes all values
+     *
+     * @return self reference
+     */
+    @Nonnull
+    public final CHistogram clear()
+    {
+        for ( int i = 0; i < BUCKETS; i++ )
+            m_buckets.set( i, 0 );
+        m_count.reset();
+        m_sum.reset();
+        m_max.set( 0 );
+        return this;
+    }
+
+    /**
+     * creates an immutable snapshot of the histogram
+     *
+     * @return histogram snapshot
+     *
+     * @note the snapshot is not atomic, values which are recorded
+     * during the call can be counted partially
+     */
+    @Nonnull
+    public final IHistogram snapshot()
+    {
+        final long[] l_buckets = new long[BUCKETS];
+        for ( int i = 0; i < BUCKETS; i++ )
+            l_buckets[i] = m_buckets.get( i );
+
+        return new CSnapshot( l_buckets, m_count.sum(), m_sum.sum(), m_max.get() );
+    }
+
+
+    /**
+     * immutable snapshot of the histogram
+     */
+    private static final class CSnapshot implements IHistogram
+    {
+        /**
+         * bucket counter
+         */
+        private final long[] m_buckets;
+        /**
+         * number of values
+         */
+        private final long m_count;
+        /**
+         * sum of values
+         */
+        private final long m_sum;
+        /**
+         * maximum value
+         */
+        private final long m_max;
+
+        /**
+         * ctor
+         *
+         * @param p_buckets bucket counter
+         * @param p_count number of values
+         * @param p_sum sum of values
+         * @param p_max maximum value
+         */
+        CSnapshot( @Nonnull final long[] p_buckets, @Nonnegative final long p_count, @Nonnegative final long p_sum, @Nonnegative final long p_max )
+        {
+            m_buckets = p_buckets;
+            m_count = p_count;
+            m_sum = p_sum;
+            m_max = p_max;
+        }
+
+        @Nonnegative
+        @Override
+        public final long count()
+        {
+            return m_count;
+        }
+
+        @Nonnegative
+        @Override
+        public final long sum()
+        {
+            return m_sum;
+        }
+
+        @Nonnegative
+        @Override
+        public final long max()
+        {
+            return m_max;
+        }
+
+        @Nonnegative
+        @Override
+        public final double mean()
+        {
+            return m_count == 0 ? 0 : (double) m_sum / m_count;
+        }
+
+        @Nonnegative
+        @Override
+        public final long percentile( @Nonnegative final double p_quantile )
+        {
+            final long l_rank = (long) Math.ceil( Math.min( 1, Math.max( 0, p_quantile ) ) * m_count );
+
+            long l_count = 0;
+            for ( int i = 0; i < m_buckets.length; i++ )
+            {
+                l_count += m_buckets[i];
+                if ( ( l_count > 0 ) && ( l_count >= l_rank ) )
+                    return Math.min( m_max, ( 1L << i ) - 1 );
+            }
+
+            return m_max;
+        }
+
+        @Override
+        public final String toString()
+        {
+            return MessageFormat.format(
+                "count: {0} / mean: {1} / p50: {2} / p99: {3} / max: {4}",
+                m_count, this.mean(), this.percentile( 0.5 ), this.percentile( 0.99 ), m_max
+            );
+        }
+    }
+
+}
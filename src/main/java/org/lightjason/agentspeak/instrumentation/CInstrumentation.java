@@ -0,0 +1,509 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.instrumentation;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+/**
+ * lock-free instrumentation, which records the values
+ * into histograms and counters, the instrumentation can
+ * be shared between agents to aggregate the values
+ */
+public final class CInstrumentation implements IInstrumentation
+{
+    /**
+     * plan latency
+     */
+    private final Map<IPlan, CHistogram> m_plans = new ConcurrentHashMap<>();
+    /**
+     * action latency
+     */
+    private final Map<IPath, CHistogram> m_actions = new ConcurrentHashMap<>();
+    /**
+     * trigger queue depth
+     */
+    private final CHistogram m_triggerqueue = new CHistogram();
+    /**
+     * unification attempts
+     */
+    private final LongAdder m_unificationattempts = new LongAdder();
+    /**
+     * unification hits
+     */
+    private final LongAdder m_unificationhits = new LongAdder();
+    /**
+     * beliefbase events, the map is filled on
+     * construction and is read-only afterwards
+     */
+    private final Map<ITrigger.EType, LongAdder> m_beliefevents = new EnumMap<>( ITrigger.EType.class );
+    /**
+     * time of the creation or the last reset
+     */
+    private final AtomicLong m_starttime = new AtomicLong( System.nanoTime() );
+
+    /**
+     * ctor
+     */
+    private CInstrumentation()
+    {
+        Arrays.stream( ITrigger.EType.values() ).forEach( i -> m_beliefevents.put( i, new LongAdder() ) );
+    }
+
+    /**
+     * factory
+     *
+     * @return instrumentation
+     */
+    @Nonnull
+    public static CInstrumentation from()
+    {
+        return new CInstrumentation();
+    }
+
+    @Override
+    public final long start()
+    {
+        return System.nanoTime();
+    }
+
+    @Override
+    public final void plan( @Nonnull final IPlan p_plan, final long p_start )
+    {
+        CInstrumentation.histogram( m_plans, p_plan ).record( System.nanoTime() - p_start );
+    }
+
+    @Override
+    public final void action( @Nonnull final IAction p_action, final long p_start )
+    {
+        CInstrumentation.histogram( m_actions, p_action.name() ).record( System.nanoTime() - p_start );
+    }
+
+    @Override
+    public final void triggerqueue( @Nonnegative final int p_depth )
+    {
+        m_triggerqueue.record( p_depth );
+    }
+
+    @Override
+    public final void unification( final boolean p_hit )
+    {
+        m_unificationattempts.increment();
+        if ( p_hit )
+            m_unificationhits.increment();
+    }
+
+    @Override
+    public final void belief( @Nonnull final ITrigger p_trigger )
+    {
+        m_beliefevents.get( p_trigger.type() ).increment();
+    }
+
+    @Nonnull
+    @Override
+    public final IReport snapshot()
+    {
+        return new CReport(
+            System.nanoTime() - m_starttime.get(),
+            CInstrumentation.snapshot( m_plans ),
+            CInstrumentation.snapshot( m_actions ),
+            m_triggerqueue.snapshot(),
+            m_unificationattempts.sum(),
+            m_unificationhits.sum(),
+            Collections.unmodifiableMap(
+                m_beliefevents.entrySet()
+                              .stream()
+                              .collect( Collectors.toMap( Map.Entry::getKey, i -> i.getValue().sum(), ( i, j ) -> i, () -> new EnumMap<>( ITrigger.EType.class ) ) )
+            )
+        );
+    }
+
+    @Nonnull
+    @Override
+    public final IInstrumentation reset()
+    {
+        m_plans.clear();
+        m_actions.clear();
+        m_triggerqueue.clear();
+        m_unificationattempts.reset();
+        m_unificationhits.reset();
+        m_beliefevents.values().forEach( LongAdder::reset );
+        m_starttime.set( System.nanoTime() );
+        return this;
+    }
+
+    /**
+     * registers the instrumentation on the platform mbean server
+     *
+     * @param p_name object name, e.g. "org.lightjason.agentspeak:type=instrumentation,name=agents"
+     * @return object name
+     * @throws JMException on registration error
+     */
+    @Nonnull
+    public final ObjectName register( @Nonnull final String p_name ) throws JMException
+    {
+        final ObjectName l_name = new ObjectName( p_name );
+        ManagementFactory.getPlatformMBeanServer().registerMBean( new CMXBean( this ), l_name );
+        return l_name;
+    }
+
+    /**
+     * unregisters the instrumentation from the platform mbean server
+     *
+     * @param p_name object name
+     * @throws JMException on unregistration error
+     */
+    public static void unregister( @Nonnull final ObjectName p_name ) throws JMException
+    {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean( p_name );
+    }
+
+    /**
+     * returns the histogram of a key
+     *
+     * @param p_map histogram map
+     * @param p_key key
+     * @tparam T key type
+     * @return histogram
+     *
+     * @note the get call avoids the bin locking of computeIfAbsent for existing keys
+     */
+    @Nonnull
+    private static <T> CHistogram histogram( @Nonnull final Map<T, CHistogram> p_map, @Nonnull final T p_key )
+    {
+        final CHistogram l_histogram = p_map.get( p_key );
+        return l_histogram != null ? l_histogram : p_map.computeIfAbsent( p_key, i -> new CHistogram() );
+    }
+
+    /**
+     * creates a snapshot of a histogram map
+     *
+     * @param p_map histogram map
+     * @tparam T key type
+     * @return unmodifiable map with histogram snapshots
+     */
+    @Nonnull
+    private static <T> Map<T, IHistogram> snapshot( @Nonnull final Map<T, CHistogram> p_map )
+    {
+        return Collections.unmodifiableMap(
+            p_map.entrySet().stream().collect( Collectors.toMap( Map.Entry::getKey, i -> i.getValue().snapshot() ) )
+        );
+    }
+
+
+    /**
+     * immutable report
+     */
+    private static final class CReport implements IReport
+    {
+        /**
+         * time range
+         */
+        private final long m_time;
+        /**
+         * plan latency
+         */
+        private final Map<IPlan, IHistogram> m_plans;
+        /**
+         * action latency
+         */
+        private final Map<IPath, IHistogram> m_actions;
+        /**
+         * trigger queue depth
+         */
+        private final IHistogram m_triggerqueue;
+        /**
+         * unification attempts
+         */
+        private final long m_unificationattempts;
+        /**
+         * unification hits
+         */
+        private final long m_unificationhits;
+        /**
+         * beliefbase events
+         */
+        private final Map<ITrigger.EType, Long> m_beliefevents;
+
+        /**
+         * ctor
+         *
+         * @param p_time time range
+         * @param p_plans plan latency
+         * @param p_actions action latency
+         * @param p_triggerqueue trigger queue depth
+         * @param p_unificationattempts unification attempts
+         * @param p_unificationhits unification hits
+         * @param p_beliefevents beliefbase events
+         */
+        CReport( @Nonnegative final long p_time, @Nonnull final Map<IPlan, IHistogram> p_plans, @Nonnull final Map<IPath, IHistogram> p_actions,
+                 @Nonnull final IHistogram p_triggerqueue, @Nonnegative final long p_unificationattempts, @Nonnegative final long p_unificationhits,
+                 @Nonnull final Map<ITrigger.EType, Long> p_beliefevents
+        )
+        {
+            m_time = p_time;
+            m_plans = p_plans;
+            m_actions = p_actions;
+            m_triggerqueue = p_triggerqueue;
+            m_unificationattempts = p_unificationattempts;
+            m_unificationhits = p_unificationhits;
+            m_beliefevents = p_beliefevents;
+        }
+
+        @Nonnegative
+        @Override
+        public final long time()
+        {
+            return m_time;
+        }
+
+        @Nonnull
+        @Override
+        public final Map<IPlan, IHistogram> plans()
+        {
+            return m_plans;
+        }
+
+        @Nonnull
+        @Override
+        public final Map<IPath, IHistogram> actions()
+        {
+            return m_actions;
+        }
+
+        @Nonnull
+        @Override
+        public final IHistogram triggerqueue()
+        {
+            return m_triggerqueue;
+        }
+
+        @Nonnegative
+        @Override
+        public final long unificationattempts()
+        {
+            return m_unificationattempts;
+        }
+
+        @Nonnegative
+        @Override
+        public final long unificationhits()
+        {
+            return m_unificationhits;
+        }
+
+        @Nonnull
+        @Override
+        public final Map<ITrigger.EType, Long> beliefevents()
+        {
+            return m_beliefevents;
+        }
+
+        @Nonnull
+        @Override
+        public final Map<ITrigger.EType, Double> beliefeventrate()
+        {
+            final double l_seconds = Math.max( 1, m_time ) / (double) TimeUnit.SECONDS.toNanos( 1 );
+            return Collections.unmodifiableMap(
+                m_beliefevents.entrySet()
+                              .stream()
+                              .collect( Collectors.toMap( Map.Entry::getKey, i -> i.getValue() / l_seconds, ( i, j ) -> i, () -> new EnumMap<>( ITrigger.EType.class ) ) )
+            );
+        }
+
+        @Override
+        public final String toString()
+        {
+            return MessageFormat.format(
+                "unification: {0} / {1} - trigger queue: {2} - belief events: {3} - plans: {4} - actions: {5}",
+                m_unificationhits, m_unificationattempts, m_triggerqueue, m_beliefevents, m_plans.size(), m_actions.size()
+            );
+        }
+    }
+
+
+    /**
+     * jmx bean, which creates a report on each call
+     */
+    private static final class CMXBean implements IInstrumentationMXBean
+    {
+        /**
+         * instrumentation
+         */
+        private final IInstrumentation m_instrumentation;
+
+        /**
+         * ctor
+         *
+         * @param p_instrumentation instrumentation
+         */
+        CMXBean( @Nonnull final IInstrumentation p_instrumentation )
+        {
+            m_instrumentation = p_instrumentation;
+        }
+
+        @Override
+        public final long getTime()
+        {
+            return m_instrumentation.snapshot().time();
+        }
+
+        @Override
+        public final long getUnificationAttempts()
+        {
+            return m_instrumentation.snapshot().unificationattempts();
+        }
+
+        @Override
+        public final long getUnificationHits()
+        {
+            return m_instrumentation.snapshot().unificationhits();
+        }
+
+        @Override
+        public final double getTriggerQueueMean()
+        {
+            return m_instrumentation.snapshot().triggerqueue().mean();
+        }
+
+        @Override
+        public final long getTriggerQueueMax()
+        {
+            return m_instrumentation.snapshot().triggerqueue().max();
+        }
+
+        @Override
+        public final Map<String, Long> getBeliefEvents()
+        {
+            return m_instrumentation.snapshot().beliefevents().entrySet().stream()
+                                    .collect( Collectors.toMap( i -> i.getKey().name(), Map.Entry::getValue ) );
+        }
+
+        @Override
+        public final Map<String, Double> getBeliefEventRate()
+        {
+            return m_instrumentation.snapshot().beliefeventrate().entrySet().stream()
+                                    .collect( Collectors.toMap( i -> i.getKey().name(), Map.Entry::getValue ) );
+        }
+
+        @Override
+        public final Map<String, Long> getPlanCalls()
+        {
+            return CMXBean.plans( m_instrumentation.snapshot().plans(), IHistogram::count );
+        }
+
+        @Override
+        public final Map<String, Double> getPlanLatencyMean()
+        {
+            return CMXBean.plans( m_instrumentation.snapshot().plans(), IHistogram::mean );
+        }
+
+        @Override
+        public final Map<String, Long> getPlanLatency99()
+        {
+            return CMXBean.plans( m_instrumentation.snapshot().plans(), i -> i.percentile( 0.99 ) );
+        }
+
+        @Override
+        public final Map<String, Long> getActionCalls()
+        {
+            return CMXBean.actions( m_instrumentation.snapshot().actions(), IHistogram::count );
+        }
+
+        @Override
+        public final Map<String, Double> getActionLatencyMean()
+        {
+            return CMXBean.actions( m_instrumentation.snapshot().actions(), IHistogram::mean );
+        }
+
+        @Override
+        public final Map<String, Long> getActionLatency99()
+        {
+            return CMXBean.actions( m_instrumentation.snapshot().actions(), i -> i.percentile( 0.99 ) );
+        }
+
+        @Override
+        public final void reset()
+        {
+            m_instrumentation.reset();
+        }
+
+        /**
+         * maps the plan histograms, plans with equal trigger
+         * are distinguished by the plan hash
+         *
+         * @param p_plans plan histograms
+         * @param p_value value function
+         * @tparam N value type
+         * @return map with plan name and value
+         */
+        @Nonnull
+        private static <N> Map<String, N> plans( @Nonnull final Map<IPlan, IHistogram> p_plans, @Nonnull final Function<IHistogram, N> p_value )
+        {
+            return p_plans.entrySet().stream().collect( Collectors.toMap(
+                i -> MessageFormat.format( "{0} #{1}", i.getKey().trigger(), Integer.toHexString( i.getKey().hashCode() ) ),
+                i -> p_value.apply( i.getValue() )
+            ) );
+        }
+
+        /**
+         * maps the action histograms
+         *
+         * @param p_actions action histograms
+         * @param p_value value function
+         * @tparam N value type
+         * @return map with action name and value
+         */
+        @Nonnull
+        private static <N> Map<String, N> actions( @Nonnull final Map<IPath, IHistogram> p_actions, @Nonnull final Function<IHistogram, N> p_value )
+        {
+            return p_actions.entrySet().stream().collect( Collectors.toMap(
+                i -> i.getKey().toString(),
+                i -> p_value.apply( i.getValue() )
+            ) );
+        }
+    }
+
+}
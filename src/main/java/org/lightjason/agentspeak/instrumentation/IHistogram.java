@@ -0,0 +1,117 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.instrumentation;
+
+import javax.annotation.Nonnegative;
+
+
+/**
+ * histogram of recorded values
+ */
+public interface IHistogram
+{
+    /**
+     * empty histogram
+     */
+    IHistogram EMPTY = new IHistogram()
+    {
+        @Nonnegative
+        @Override
+        public final long count()
+        {
+            return 0;
+        }
+
+        @Nonnegative
+        @Override
+        public final long sum()
+        {
+            return 0;
+        }
+
+        @Nonnegative
+        @Override
+        public final long max()
+        {
+            return 0;
+        }
+
+        @Nonnegative
+        @Override
+        public final double mean()
+        {
+            return 0;
+        }
+
+        @Nonnegative
+        @Override
+        public final long percentile( @Nonnegative final double p_quantile )
+        {
+            return 0;
+        }
+    };
+
+    /**
+     * number of recorded values
+     *
+     * @return count
+     */
+    @Nonnegative
+    long count();
+
+    /**
+     * sum of the recorded values
+     *
+     * @return sum
+     */
+    @Nonnegative
+    long sum();
+
+    /**
+     * maximum of the recorded values
+     *
+     * @return maximum
+     */
+    @Nonnegative
+    long max();
+
+    /**
+     * arithmetic mean of the recorded values
+     *
+     * @return mean
+     */
+    @Nonnegative
+    double mean();
+
+    /**
+     * upper bound of a percentile
+     *
+     * @param p_quantile quantile in [0,1]
+     * @return upper bound of the bucket, which contains the percentile
+     */
+    @Nonnegative
+    long percentile( @Nonnegative final double p_quantile );
+
+}
@@ -0,0 +1,154 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.instrumentation;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * instrumentation of the agent execution, the recording
+ * methods are called on the hot paths of the agent cycle
+ * so the implementation must be thread-safe and lock-free
+ */
+public interface IInstrumentation
+{
+    /**
+     * disabled instrumentation, which does not read the clock and
+     * does not record anything, so the calls can be removed by the jit
+     */
+    IInstrumentation EMPTY = new IInstrumentation()
+    {
+        @Override
+        public final long start()
+        {
+            return 0;
+        }
+
+        @Override
+        public final void plan( @Nonnull final IPlan p_plan, final long p_start )
+        {
+        }
+
+        @Override
+        public final void action( @Nonnull final IAction p_action, final long p_start )
+        {
+        }
+
+        @Override
+        public final void triggerqueue( @Nonnegative final int p_depth )
+        {
+        }
+
+        @Override
+        public final void unification( final boolean p_hit )
+        {
+        }
+
+        @Override
+        public final void belief( @Nonnull final ITrigger p_trigger )
+        {
+        }
+
+        @Nonnull
+        @Override
+        public final IReport snapshot()
+        {
+            return IReport.EMPTY;
+        }
+
+        @Nonnull
+        @Override
+        public final IInstrumentation reset()
+        {
+            return this;
+        }
+    };
+
+    /**
+     * returns the start time of a measurement
+     *
+     * @return time stamp which is passed to the recording methods
+     */
+    long start();
+
+    /**
+     * records a plan execution
+     *
+     * @param p_plan plan
+     * @param p_start start time of the execution
+     */
+    void plan( @Nonnull final IPlan p_plan, final long p_start );
+
+    /**
+     * records an action execution
+     *
+     * @param p_action action
+     * @param p_start start time of the execution
+     */
+    void action( @Nonnull final IAction p_action, final long p_start );
+
+    /**
+     * records the depth of the trigger queue
+     *
+     * @param p_depth number of waiting trigger
+     */
+    void triggerqueue( @Nonnegative final int p_depth );
+
+    /**
+     * records an unification attempt of a plan trigger
+     *
+     * @param p_hit unification was successful
+     */
+    void unification( final boolean p_hit );
+
+    /**
+     * records a beliefbase event
+     *
+     * @param p_trigger beliefbase event
+     */
+    void belief( @Nonnull final ITrigger p_trigger );
+
+    /**
+     * creates an immutable report of the current values
+     *
+     * @return report
+     */
+    @Nonnull
+    IReport snapshot();
+
+    /**
+     * removes all recorded values
+     *
+     * @return self reference
+     */
+    @Nonnull
+    IInstrumentation reset();
+
+}
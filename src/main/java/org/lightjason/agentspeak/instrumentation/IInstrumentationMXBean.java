@@ -0,0 +1,135 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.instrumentation;
+
+import java.util.Map;
+
+
+/**
+ * jmx interface of the instrumentation, all
+ * latencies are defined in nano seconds
+ *
+ * @note the getter names follow the jmx naming convention
+ */
+public interface IInstrumentationMXBean
+{
+
+    /**
+     * time range of the values
+     *
+     * @return nano seconds since the creation or the last reset
+     */
+    long getTime();
+
+    /**
+     * number of unification attempts
+     *
+     * @return number of attempts
+     */
+    long getUnificationAttempts();
+
+    /**
+     * number of successful unifications
+     *
+     * @return number of hits
+     */
+    long getUnificationHits();
+
+    /**
+     * mean depth of the trigger queue
+     *
+     * @return mean depth
+     */
+    double getTriggerQueueMean();
+
+    /**
+     * maximum depth of the trigger queue
+     *
+     * @return maximum depth
+     */
+    long getTriggerQueueMax();
+
+    /**
+     * number of beliefbase events
+     *
+     * @return map with event type and number of events
+     */
+    Map<String, Long> getBeliefEvents();
+
+    /**
+     * rate of beliefbase events
+     *
+     * @return map with event type and events per second
+     */
+    Map<String, Double> getBeliefEventRate();
+
+    /**
+     * number of plan executions
+     *
+     * @return map with plan and number of executions
+     */
+    Map<String, Long> getPlanCalls();
+
+    /**
+     * mean latency of the plan executions
+     *
+     * @return map with plan and mean latency
+     */
+    Map<String, Double> getPlanLatencyMean();
+
+    /**
+     * 99th percentile of the plan execution latency
+     *
+     * @return map with plan and latency percentile
+     */
+    Map<String, Long> getPlanLatency99();
+
+    /**
+     * number of action calls
+     *
+     * @return map with action and number of calls
+     */
+    Map<String, Long> getActionCalls();
+
+    /**
+     * mean latency of the action calls
+     *
+     * @return map with action and mean latency
+     */
+    Map<String, Double> getActionLatencyMean();
+
+    /**
+     * 99th percentile of the action call latency
+     *
+     * @return map with action and latency percentile
+     */
+    Map<String, Long> getActionLatency99();
+
+    /**
+     * removes all recorded values
+     */
+    void reset();
+
+}
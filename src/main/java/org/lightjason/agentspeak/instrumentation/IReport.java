@@ -0,0 +1,169 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.instrumentation;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Map;
+
+
+/**
+ * immutable report of the instrumentation values,
+ * all latencies are defined in nano seconds
+ */
+public interface IReport
+{
+    /**
+     * empty report
+     */
+    IReport EMPTY = new IReport()
+    {
+        @Nonnegative
+        @Override
+        public final long time()
+        {
+            return 0;
+        }
+
+        @Nonnull
+        @Override
+        public final Map<IPlan, IHistogram> plans()
+        {
+            return Collections.emptyMap();
+        }
+
+        @Nonnull
+        @Override
+        public final Map<IPath, IHistogram> actions()
+        {
+            return Collections.emptyMap();
+        }
+
+        @Nonnull
+        @Override
+        public final IHistogram triggerqueue()
+        {
+            return IHistogram.EMPTY;
+        }
+
+        @Nonnegative
+        @Override
+        public final long unificationattempts()
+        {
+            return 0;
+        }
+
+        @Nonnegative
+        @Override
+        public final long unificationhits()
+        {
+            return 0;
+        }
+
+        @Nonnull
+        @Override
+        public final Map<ITrigger.EType, Long> beliefevents()
+        {
+            return Collections.emptyMap();
+        }
+
+        @Nonnull
+        @Override
+        public final Map<ITrigger.EType, Double> beliefeventrate()
+        {
+            return Collections.emptyMap();
+        }
+    };
+
+    /**
+     * time range of the report
+     *
+     * @return nano seconds since the creation or the last reset
+     */
+    @Nonnegative
+    long time();
+
+    /**
+     * execution latency of each plan
+     *
+     * @return map with plan and latency histogram
+     */
+    @Nonnull
+    Map<IPlan, IHistogram> plans();
+
+    /**
+     * execution latency and number of calls of each action
+     *
+     * @return map with action name and latency histogram
+     */
+    @Nonnull
+    Map<IPath, IHistogram> actions();
+
+    /**
+     * depth of the trigger queue on each cycle
+     *
+     * @return histogram of the queue depth
+     */
+    @Nonnull
+    IHistogram triggerqueue();
+
+    /**
+     * number of unification attempts of plan triggers
+     *
+     * @return number of attempts
+     */
+    @Nonnegative
+    long unificationattempts();
+
+    /**
+     * number of successful unifications of plan triggers
+     *
+     * @return number of hits
+     */
+    @Nonnegative
+    long unificationhits();
+
+    /**
+     * number of beliefbase events
+     *
+     * @return map with event type and number of events
+     */
+    @Nonnull
+    Map<ITrigger.EType, Long> beliefevents();
+
+    /**
+     * rate of beliefbase events
+     *
+     * @return map with event type and events per second
+     */
+    @Nonnull
+    Map<ITrigger.EType, Double> beliefeventrate();
+
+}
@@ -23,6 +23,9 @@
 
 package org.lightjason.agentspeak.language;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
@@ -30,7 +33,6 @@ import org.apache.commons.compress.compressors.deflate.DeflateCompressorOutputSt
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.commons.compress.compressors.pack200.Pack200CompressorOutputStream;
 import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
-import org.apache.commons.compress.utils.IOUtils;
 import org.apache.commons.io.output.NullOutputStream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -38,6 +40,7 @@ import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.error.CIllegalStateException;
 import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.CSlotIndex;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.unify.IUnifier;
 import org.lightjason.agentspeak.language.instantiable.IInstantiable;
@@ -46,12 +49,11 @@ import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
-import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -59,7 +61,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.Deflater;
 import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -69,6 +73,36 @@ import java.util.stream.Stream;
  */
 public final class CCommon
 {
+    /**
+     * cache of compressed sizes of single strings, the key
+     * is the compression algorithm and the content hash
+     */
+    private static final Cache<Pair<ECompression, HashCode>, Double> COMPRESSEDSIZE = CacheBuilder.newBuilder().maximumSize( 16384 ).build();
+    /**
+     * deflater with zlib wrapper of each thread
+     */
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial( () -> new Deflater( Deflater.DEFAULT_COMPRESSION, false ) );
+    /**
+     * deflater without wrapper of each thread
+     */
+    private static final ThreadLocal<Deflater> RAWDEFLATER = ThreadLocal.withInitial( () -> new Deflater( Deflater.DEFAULT_COMPRESSION, true ) );
+    /**
+     * output buffer of the deflater of each thread
+     */
+    private static final ThreadLocal<byte[]> DEFLATERBUFFER = ThreadLocal.withInitial( () -> new byte[4096] );
+    /**
+     * number of header and trailer bytes of the gzip format
+     */
+    private static final int GZIPFRAME = 18;
+    /**
+     * result of a failed trigger unification
+     */
+    private static final Pair<Boolean, Set<IVariable<?>>> FAILEDUNIFICATION = new ImmutablePair<>( false, Collections.emptySet() );
+    /**
+     * result of a ground trigger unification
+     */
+    private static final Pair<Boolean, Set<IVariable<?>>> GROUNDUNIFICATION = new ImmutablePair<>( true, Collections.emptySet() );
+
     /**
      * private ctor - avoid instantiation
      */
@@ -88,37 +122,54 @@ public final class CCommon
     @Nonnull
     public static IContext updatecontext( @Nonnull final IContext p_context, @Nonnull final Stream<IVariable<?>> p_unifiedvariables )
     {
-        p_unifiedvariables.parallel().forEach( i -> p_context.instancevariables().get( i.fqnfunctor() ).set( i.raw() ) );
+        // variable sets are small, so the update runs sequentially within the calling thread
+        p_unifiedvariables.sequential().forEach( i -> p_context.instancevariables().get( i.fqnfunctor() ).set( i.raw() ) );
         return p_context;
     }
 
     /**
-     * creates the instantiate execution context with default variables
+     * creates the instantiate execution context with default variables,
+     * the variables are set into a frame of the slot index, variables
+     * with unknown names extend the slot index of the context
      *
      * @param p_instance instance object
+     * @param p_slots slot index of the instance
      * @param p_agent agent
      * @param p_variable variable stream
      * @return context object
      */
     @Nonnull
-    public static IContext instantiate( @Nonnull final IInstantiable p_instance, @Nonnull final IAgent<?> p_agent, @Nonnull final Stream<IVariable<?>> p_variable )
+    public static CContext instantiate( @Nonnull final IInstantiable p_instance, @Nonnull final CSlotIndex p_slots, @Nonnull final IAgent<?> p_agent,
+                                        @Nonnull final Stream<IVariable<?>> p_variable )
     {
-        final Set<IVariable<?>> l_variables = p_instance.variables().parallel().map( i -> i.shallowcopy() ).collect( Collectors.toSet() );
+        final IVariable<?>[] l_frame = p_slots.frame();
+        final List<IVariable<?>> l_unknown = new ArrayList<>( 0 );
+
         Stream.concat(
             p_variable,
             p_agent.variablebuilder().apply( p_agent, p_instance )
-        )
-               .peek( l_variables::remove )
-               .forEach( l_variables::add );
+        ).sequential().forEach( i ->
+        {
+            final int l_slot = p_slots.slot( i.fqnfunctor() );
+            if ( l_slot < 0 )
+                l_unknown.add( i );
+            else
+                l_frame[l_slot] = i;
+        } );
 
-        return new CContext( p_agent, p_instance, Collections.unmodifiableSet( l_variables ) );
-    }
+        if ( l_unknown.isEmpty() )
+            return new CContext( p_agent, p_instance, p_slots, l_frame );
 
+        final CSlotIndex l_slots = p_slots.extend( l_unknown.stream().map( IVariable::fqnfunctor ).collect( Collectors.toList() ) );
+        final IVariable<?>[] l_extended = Arrays.copyOf( l_frame, l_slots.size() );
+        l_unknown.forEach( i -> l_extended[l_slots.slot( i.fqnfunctor() )] = i );
+        return new CContext( p_agent, p_instance, l_slots, l_extended );
+    }
 
     /**
      * unifies trigger and creates the set of variables
      *
-     * @note target trigger literal must be cloned to avoid variable overwriting
+     * @note ground triggers are unified by the functor and the existence of values
      * @param p_unifier unifier
      * @param p_source input trigger (with values)
      * @param p_target trigger (of a plan / rule)
@@ -130,15 +181,19 @@ public final class CCommon
     {
         // filter for avoid duplicated instantiation on non-existing values
         if ( !( p_source.literal().emptyValues() == p_target.literal().emptyValues() ) )
-            return new ImmutablePair<>( false, Collections.emptySet() );
+            return FAILEDUNIFICATION;
+
+        // a trigger without variables cannot fail the check of the variable number
+        if ( p_target.variablesize() == 0 )
+            return GROUNDUNIFICATION;
 
-        // unify variables, source trigger literal must be copied
-        final Set<IVariable<?>> l_variables = p_unifier.unify( p_source.literal(), p_target.literal().deepcopy().<ILiteral>raw() );
+        // unify variables, the compiled trigger literal creates new variables
+        final Set<IVariable<?>> l_variables = p_unifier.unify( p_source.literal(), p_target.matcher() );
 
         // check for completely unification (of all variables)
-        return l_variables.size() == CCommon.variablefrequency( p_target.literal() ).size()
+        return l_variables.size() == p_target.variablesize()
                ? new ImmutablePair<>( true, l_variables )
-               : new ImmutablePair<>( false, Collections.emptySet() );
+               : FAILEDUNIFICATION;
     }
 
     /**
@@ -320,6 +375,36 @@ public final class CCommon
         return Hashing.sipHash24().newHasher();
     }
 
+    /**
+     * mixes a value into a hash value (murmur3 mixing step),
+     * which is a cheap non-cryptographic hash for term structures
+     *
+     * @param p_hash current hash value
+     * @param p_value value
+     * @return mixed hash value
+     */
+    public static int mixhash( final int p_hash, final int p_value )
+    {
+        return Integer.rotateLeft( p_hash ^ ( Integer.rotateLeft( p_value * 0xcc9e2d51, 15 ) * 0x1b873593 ), 13 ) * 5 + 0xe6546b64;
+    }
+
+    /**
+     * finalize a mixed hash value (murmur3 finalization)
+     *
+     * @param p_hash mixed hash value
+     * @param p_length number of mixed values
+     * @return hash value
+     */
+    public static int finalizehash( final int p_hash, final int p_length )
+    {
+        int l_hash = p_hash ^ p_length;
+        l_hash ^= l_hash >>> 16;
+        l_hash *= 0x85ebca6b;
+        l_hash ^= l_hash >>> 13;
+        l_hash *= 0xc2b2ae35;
+        return l_hash ^ ( l_hash >>> 16 );
+    }
+
     // --- compression algorithm -------------------------------------------------------------------------------------------------------------------------------
 
     /**
@@ -388,30 +473,93 @@ public final class CCommon
         if ( p_first.equals( p_second ) )
             return 0;
 
-        final double l_first = compress( p_compression, p_first );
-        final double l_second = compress( p_compression, p_second );
-        return ( compress( p_compression, p_first + p_second ) - Math.min( l_first, l_second ) ) / Math.max( l_first, l_second );
+        return ncd( p_compression, p_first, compressedsize( p_compression, p_first ), p_second );
+    }
+
+    /**
+     * normalized-compression-distance of one string against many strings,
+     * the first string is compressed once only
+     *
+     * @param p_compression compression algorithm
+     * @param p_first first string
+     * @param p_others other strings
+     * @return stream of distances in [0,1] in order of the other strings
+     */
+    @Nonnull
+    public static DoubleStream ncd( @Nonnull final ECompression p_compression, @Nonnull final String p_first, @Nonnull final Stream<String> p_others )
+    {
+        final double l_first = compressedsize( p_compression, p_first );
+        return p_others.mapToDouble( i -> p_first.equals( i ) ? 0 : ncd( p_compression, p_first, l_first, i ) );
+    }
+
+    /**
+     * normalized-compression-distance with a known compressed size of the first string
+     *
+     * @param p_compression compression algorithm
+     * @param p_first first string
+     * @param p_firstsize compressed size of the first string
+     * @param p_second second string
+     * @return distance in [0,1]
+     */
+    private static double ncd( @Nonnull final ECompression p_compression, @Nonnull final String p_first, final double p_firstsize,
+                               @Nonnull final String p_second )
+    {
+        final double l_second = compressedsize( p_compression, p_second );
+        return ( compress( p_compression, ( p_first + p_second ).getBytes( StandardCharsets.UTF_8 ) ) - Math.min( p_firstsize, l_second ) )
+               / Math.max( p_firstsize, l_second );
     }
 
+    /**
+     * returns the cached compressed size of a string
+     *
+     * @param p_compression compression algorithm
+     * @param p_input input string
+     * @return number of compression bytes
+     */
+    private static double compressedsize( @Nonnull final ECompression p_compression, @Nonnull final String p_input )
+    {
+        final byte[] l_input = p_input.getBytes( StandardCharsets.UTF_8 );
+        final Pair<ECompression, HashCode> l_key = new ImmutablePair<>( p_compression, Hashing.murmur3_128().hashBytes( l_input ) );
+
+        final Double l_size = COMPRESSEDSIZE.getIfPresent( l_key );
+        if ( l_size != null )
+            return l_size;
+
+        final double l_compressed = compress( p_compression, l_input );
+        COMPRESSEDSIZE.put( l_key, l_compressed );
+        return l_compressed;
+    }
 
     /**
      * compression algorithm
      *
      * @param p_compression compression algorithm
-     * @param p_input input string
+     * @param p_input input bytes
      * @return number of compression bytes
      * @warning counting stream returns the correct number of bytes after flushing
      */
-    private static double compress( @Nonnull final ECompression p_compression, @Nonnull final String p_input )
+    private static double compress( @Nonnull final ECompression p_compression, @Nonnull final byte[] p_input )
     {
+        switch ( p_compression )
+        {
+            case DEFLATE:
+                return deflate( DEFLATER.get(), p_input );
+
+            case GZIP:
+                return GZIPFRAME + deflate( RAWDEFLATER.get(), p_input );
+
+            default:
+        }
+
         final DataOutputStream l_counting = new DataOutputStream( new NullOutputStream() );
 
         try (
-            final InputStream l_input = new ByteArrayInputStream( p_input.getBytes( StandardCharsets.UTF_8 ) );
-            final OutputStream l_compress = p_compression.get( l_counting )
+            final OutputStream l_compress = p_compression == ECompression.BZIP
+                                            ? new BZip2CompressorOutputStream( l_counting, BZip2CompressorOutputStream.chooseBlockSize( p_input.length ) )
+                                            : p_compression.get( l_counting )
         )
         {
-            IOUtils.copy( l_input, l_compress );
+            l_compress.write( p_input );
         }
         catch ( final IOException l_exception )
         {
@@ -421,6 +569,26 @@ public final class CCommon
         return l_counting.size();
     }
 
+    /**
+     * compresses with a reused deflater
+     *
+     * @param p_deflater deflater
+     * @param p_input input bytes
+     * @return number of compression bytes
+     */
+    private static long deflate( @Nonnull final Deflater p_deflater, @Nonnull final byte[] p_input )
+    {
+        final byte[] l_buffer = DEFLATERBUFFER.get();
+
+        p_deflater.reset();
+        p_deflater.setInput( p_input );
+        p_deflater.finish();
+        while ( !p_deflater.finished() )
+            p_deflater.deflate( l_buffer );
+
+        return p_deflater.getBytesWritten();
+    }
+
 
     /**
      * compression algorithm
@@ -23,14 +23,12 @@
 
 package org.lightjason.agentspeak.language;
 
-import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
-import com.google.common.hash.Hasher;
+import org.antlr.v4.runtime.CharStreams;
 import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.CIllegalStateException;
 import org.lightjason.agentspeak.grammar.CASTVisitorType;
 import org.lightjason.agentspeak.grammar.CErrorListener;
 import org.lightjason.agentspeak.grammar.IASTVisitorType;
@@ -42,17 +40,11 @@ import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.nio.charset.Charset;
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -76,13 +68,21 @@ public final class CLiteral implements ILiteral
      */
     private static final String AT = "@";
     /**
-     * literal values
+     * empty value array
      */
-    private final ImmutableMultimap<IPath, ITerm> m_values;
+    private static final ITerm[] EMPTYVALUES = new ITerm[0];
     /**
-     * literal values as list
+     * literal parser
+     */
+    private static final CParser PARSER = CParser.create();
+    /**
+     * literal values with path index, is build on demand
+     */
+    private transient volatile ImmutableMultimap<IPath, ITerm> m_values;
+    /**
+     * literal values in order
      */
-    private final List<ITerm> m_orderedvalues;
+    private final ITerm[] m_orderedvalues;
     /**
      * literals functor
      */
@@ -115,40 +115,37 @@ public final class CLiteral implements ILiteral
      * @param p_values initial list of values
      */
     public CLiteral( final boolean p_at, final boolean p_negated, @Nonnull final IPath p_functor, @Nonnull final Collection<ITerm> p_values )
+    {
+        this( p_at, p_negated, p_functor, p_values.isEmpty() ? EMPTYVALUES : p_values.toArray( new ITerm[p_values.size()] ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_at @ prefix is set
+     * @param p_negated negated flag
+     * @param p_functor functor of the literal
+     * @param p_values value array, which is owned by the literal
+     */
+    private CLiteral( final boolean p_at, final boolean p_negated, @Nonnull final IPath p_functor, @Nonnull final ITerm[] p_values )
     {
         m_at = p_at;
         m_negated = p_negated;
-        // create a full copy of the functor, because concurrency modification
-        m_functor = new CPath( p_functor );
-
-        // create immutable structures
-        if ( !p_values.isEmpty() )
+        // path is immutable, so no copy is needed
+        m_functor = p_functor;
+        m_orderedvalues = p_values;
+
+        // calculates object hash value and the structure hash value of the value definition
+        int l_hash = CCommon.mixhash( m_functor.hashCode(), ( m_negated ? 1 : 0 ) | ( m_at ? 2 : 0 ) );
+        int l_structurehash = CCommon.mixhash( m_functor.hashCode(), m_negated ? 1 : 0 );
+        for ( final ITerm l_term : m_orderedvalues )
         {
-            final Multimap<IPath, ITerm> l_values = LinkedListMultimap.create();
-            p_values.forEach( i -> l_values.put( i.fqnfunctor(), i ) );
-            m_values = ImmutableListMultimap.copyOf( l_values );
-            m_orderedvalues = Collections.unmodifiableList( new ArrayList<>( p_values ) );
-        }
-        else
-        {
-            m_orderedvalues = Collections.emptyList();
-            m_values = ImmutableListMultimap.of();
+            l_hash = CCommon.mixhash( l_hash, l_term.hashCode() );
+            l_structurehash = CCommon.mixhash( l_structurehash, l_term.structurehash() );
         }
 
-        // calculates object hash value
-        final Hasher l_hasher = CCommon.getTermHashing();
-        l_hasher.putInt( m_functor.hashCode() );
-        l_hasher.putBoolean( m_negated );
-        l_hasher.putBoolean( m_at );
-        m_orderedvalues.forEach( i -> l_hasher.putInt( i.hashCode() ) );
-        m_hash = l_hasher.hash().asInt();
-
-        // calculates the structure hash value of the value definition (need to start with value definition)
-        final Hasher l_valuehasher = CCommon.getTermHashing();
-        m_orderedvalues.forEach( i -> l_valuehasher.putInt( i.structurehash() ) );
-        l_valuehasher.putBoolean( m_negated );
-        l_valuehasher.putString( p_functor.path(), Charsets.UTF_8 );
-        m_structurehash = l_valuehasher.hash().asInt();
+        m_hash = CCommon.finalizehash( l_hash, m_orderedvalues.length );
+        m_structurehash = CCommon.finalizehash( l_structurehash, m_orderedvalues.length );
     }
 
     /**
@@ -160,11 +157,9 @@ public final class CLiteral implements ILiteral
      */
     public static ILiteral from( @Nonnull final String p_functor, @Nullable final ITerm... p_values )
     {
-        return from(
-            p_functor,
-            ( p_values == null ) || ( p_values.length == 0 )
-            ? Collections.emptySet()
-            : Arrays.stream( p_values ).collect( Collectors.toList() )
+        return new CLiteral(
+            p_functor.contains( AT ), p_functor.contains( NEGATION ), CPath.from( p_functor.replace( AT, "" ).replace( NEGATION, "" ) ),
+            ( p_values == null ) || ( p_values.length == 0 ) ? EMPTYVALUES : p_values.clone()
         );
     }
 
@@ -192,7 +187,7 @@ public final class CLiteral implements ILiteral
      */
     public static ILiteral from( @Nonnull final String p_functor, @Nonnull final Stream<ITerm> p_values )
     {
-        return from( p_functor, p_values.collect( Collectors.toList() ) );
+        return from( p_functor, p_values.toArray( ITerm[]::new ) );
     }
 
     /**
@@ -230,7 +225,7 @@ public final class CLiteral implements ILiteral
      */
     public static ILiteral from( final boolean p_at, final boolean p_negated, @Nonnull final IPath p_functor, @Nullable final ITerm... p_values )
     {
-        return from( p_at, p_negated, p_functor, ( p_values == null ) || ( p_values.length == 0 ) ? Stream.empty() : Arrays.stream( p_values ) );
+        return new CLiteral( p_at, p_negated, p_functor, ( p_values == null ) || ( p_values.length == 0 ) ? EMPTYVALUES : p_values.clone() );
     }
 
     /**
@@ -244,7 +239,19 @@ public final class CLiteral implements ILiteral
      */
     public static ILiteral from( final boolean p_at, final boolean p_negated, @Nonnull final IPath p_functor, @Nonnull final Stream<ITerm> p_values )
     {
-        return new CLiteral( p_at, p_negated, p_functor, p_values.collect( Collectors.toList() ) );
+        return new CLiteral( p_at, p_negated, p_functor, p_values.toArray( ITerm[]::new ) );
+    }
+
+    /**
+     * creates a literal builder
+     *
+     * @param p_functor functor path
+     * @return builder
+     */
+    @Nonnull
+    public static CBuilder builder( @Nonnull final IPath p_functor )
+    {
+        return new CBuilder( p_functor );
     }
 
     /**
@@ -258,7 +265,7 @@ public final class CLiteral implements ILiteral
     @Nonnull
     public static ILiteral parse( @Nonnull final String p_literal ) throws Exception
     {
-        return new CParser().parse( new ByteArrayInputStream( p_literal.getBytes( Charset.forName( "UTF-8" ) ) ) ).literal();
+        return PARSER.literal( p_literal );
     }
 
     @Nonnull
@@ -266,10 +273,10 @@ public final class CLiteral implements ILiteral
     public final Stream<ITerm> values( @Nullable final IPath... p_path )
     {
         return ( p_path == null ) || ( p_path.length < 1 )
-               ? m_values.values().stream()
+               ? Arrays.stream( m_orderedvalues )
                : p_path.length == 1
-                 ? m_values.asMap().get( p_path[0] ).stream()
-                 : m_values.asMap().get( p_path[0] ).stream()
+                 ? this.pathvalues().asMap().get( p_path[0] ).stream()
+                 : this.pathvalues().asMap().get( p_path[0] ).stream()
                            .filter( i -> i instanceof ILiteral )
                            .flatMap( i -> ( (ILiteral) i ).values( Arrays.copyOfRange( p_path, 1, p_path.length ) ) );
     }
@@ -279,11 +286,11 @@ public final class CLiteral implements ILiteral
     public final Stream<ITerm> orderedvalues( @Nullable final IPath... p_path )
     {
         return ( p_path == null ) || ( p_path.length < 1 )
-               ? m_orderedvalues.stream().sequential()
+               ? Arrays.stream( m_orderedvalues )
                : p_path.length == 1
-                 ? m_orderedvalues.stream()
-                                  .filter( i -> i.fqnfunctor().equals( p_path[0] ) ).sequential()
-                 : m_orderedvalues.stream()
+                 ? Arrays.stream( m_orderedvalues )
+                         .filter( i -> i.fqnfunctor().equals( p_path[0] ) )
+                 : Arrays.stream( m_orderedvalues )
                                   .filter( i -> i.fqnfunctor().equals( p_path[0] ) )
                                   .filter( i -> i instanceof ILiteral )
                                   .map( ITerm::<ILiteral>raw )
@@ -294,7 +301,20 @@ public final class CLiteral implements ILiteral
     @Override
     public final boolean emptyValues()
     {
-        return m_values.isEmpty();
+        return m_orderedvalues.length == 0;
+    }
+
+    @Override
+    public final int valuesize()
+    {
+        return m_orderedvalues.length;
+    }
+
+    @Nonnull
+    @Override
+    public final ITerm orderedvalue( final int p_index )
+    {
+        return m_orderedvalues[p_index];
     }
 
     @Override
@@ -318,57 +338,45 @@ public final class CLiteral implements ILiteral
     @Override
     public final boolean hasVariable()
     {
-        return m_orderedvalues.parallelStream().anyMatch( ITerm::hasVariable );
+        return Arrays.stream( m_orderedvalues ).anyMatch( ITerm::hasVariable );
     }
 
     @Nonnull
     @Override
     public final ILiteral unify( @Nonnull final IContext p_context )
     {
-        return new CLiteral(
-            m_at,
-            m_negated,
-            m_functor,
-            m_orderedvalues.stream()
-                           .map( i ->
-                           {
-                               if ( i instanceof IVariable<?> )
-                               {
-                                   final IVariable<?> l_variable = p_context.instancevariables().get( i.fqnfunctor() );
-                                   return ( l_variable == null ) || ( l_variable.allocated() ) ? CRawTerm.from( l_variable ) : l_variable;
-                               }
-                               if ( i instanceof ILiteral )
-                                   return ( (ILiteral) i ).unify( p_context );
-                               return i;
-                           } )
-                           .collect( Collectors.toList() )
-        );
+        final ITerm[] l_values = new ITerm[m_orderedvalues.length];
+        for ( int i = 0; i < l_values.length; i++ )
+            if ( m_orderedvalues[i] instanceof IVariable<?> )
+            {
+                final IVariable<?> l_variable = p_context.instancevariables().get( m_orderedvalues[i].fqnfunctor() );
+                l_values[i] = ( l_variable == null ) || ( l_variable.allocated() ) ? CRawTerm.from( l_variable ) : l_variable;
+            }
+            else
+                l_values[i] = m_orderedvalues[i] instanceof ILiteral
+                              ? ( (ILiteral) m_orderedvalues[i] ).unify( p_context )
+                              : m_orderedvalues[i];
+
+        return new CLiteral( m_at, m_negated, m_functor, l_values );
     }
 
     @Nonnull
     @Override
     public final ILiteral allocate( @Nonnull final IContext p_context )
     {
-        return new CLiteral(
-            m_at,
-            m_negated,
-            m_functor,
-            m_orderedvalues.stream()
-                           .map( i ->
-                           {
-                               if ( i instanceof IVariable<?> )
-                               {
-                                   final IVariable<?> l_variable = p_context.instancevariables().get( i.fqnfunctor() );
-                                   return l_variable == null
-                                          ? CRawTerm.EMPTY
-                                          : l_variable;
-                               }
-                               if ( i instanceof ILiteral )
-                                   return ( (ILiteral) i ).unify( p_context );
-                               return i;
-                           } )
-                           .collect( Collectors.toList() )
-        );
+        final ITerm[] l_values = new ITerm[m_orderedvalues.length];
+        for ( int i = 0; i < l_values.length; i++ )
+            if ( m_orderedvalues[i] instanceof IVariable<?> )
+            {
+                final IVariable<?> l_variable = p_context.instancevariables().get( m_orderedvalues[i].fqnfunctor() );
+                l_values[i] = l_variable == null ? CRawTerm.EMPTY : l_variable;
+            }
+            else
+                l_values[i] = m_orderedvalues[i] instanceof ILiteral
+                              ? ( (ILiteral) m_orderedvalues[i] ).unify( p_context )
+                              : m_orderedvalues[i];
+
+        return new CLiteral( m_at, m_negated, m_functor, l_values );
     }
 
     @Nonnull
@@ -416,33 +424,23 @@ public final class CLiteral implements ILiteral
     @Override
     public final ILiteral shallowcopy( @Nullable final IPath... p_prefix )
     {
+        // value array is immutable, so it can be shared
         return ( p_prefix == null ) || ( p_prefix.length == 0 )
-
-               ? new CLiteral(
-                   m_at, m_negated, m_functor,
-                   m_values.values()
-               )
-
-               : new CLiteral(
-                   m_at, m_negated, p_prefix[0].append( m_functor ),
-                   m_values.values()
-               );
+               ? new CLiteral( m_at, m_negated, m_functor, m_orderedvalues )
+               : new CLiteral( m_at, m_negated, p_prefix[0].append( m_functor ), m_orderedvalues );
     }
 
     @Nonnull
     @Override
     public final ILiteral shallowcopysuffix()
     {
-        return new CLiteral(
-            m_at, m_negated, CPath.from( m_functor.suffix() ),
-            m_values.values()
-        );
+        return new CLiteral( m_at, m_negated, CPath.from( m_functor.suffix() ), m_orderedvalues );
     }
 
     @Override
     public final String toString()
     {
-        return MessageFormat.format( "{0}{1}{2}{3}", m_negated ? NEGATION : "", m_at ? AT : "", m_functor, m_orderedvalues );
+        return MessageFormat.format( "{0}{1}{2}{3}", m_negated ? NEGATION : "", m_at ? AT : "", m_functor, Arrays.toString( m_orderedvalues ) );
     }
 
     @Override
@@ -453,34 +451,160 @@ public final class CLiteral implements ILiteral
 
     @Nonnull
     @Override
-    public final synchronized ITerm deepcopy( @Nullable final IPath... p_prefix )
+    public final ITerm deepcopy( @Nullable final IPath... p_prefix )
     {
-        return ( p_prefix == null ) || ( p_prefix.length == 0 )
+        return new CLiteral(
+            m_at, m_negated,
+            ( p_prefix == null ) || ( p_prefix.length == 0 ) ? m_functor : p_prefix[0].append( m_functor ),
+            this.deepcopyvalues()
+        );
+    }
 
-               ?
-               new CLiteral(
-                   m_at, m_negated, m_functor,
-                   m_values.values().stream().map( i -> i.deepcopy() ).collect( Collectors.toList() )
-               )
+    @Nonnull
+    @Override
+    public final ITerm deepcopysuffix()
+    {
+        return new CLiteral( m_at, m_negated, CPath.from( m_functor.suffix() ), this.deepcopyvalues() );
+    }
 
-               :
-               new CLiteral(
-                   m_at, m_negated, p_prefix[0].append( m_functor ),
-                   m_values.values().stream().map( i -> i.deepcopy() ).collect( Collectors.toList() )
-               );
+    /**
+     * returns the path-indexed values, the
+     * index is build on the first call
+     *
+     * @return multimap with path and values
+     */
+    @Nonnull
+    private ImmutableMultimap<IPath, ITerm> pathvalues()
+    {
+        ImmutableMultimap<IPath, ITerm> l_values = m_values;
+        if ( l_values == null )
+        {
+            final ImmutableListMultimap.Builder<IPath, ITerm> l_builder = ImmutableListMultimap.builder();
+            Arrays.stream( m_orderedvalues ).forEach( i -> l_builder.put( i.fqnfunctor(), i ) );
+            l_values = l_builder.build();
+            m_values = l_values;
+        }
+        return l_values;
     }
 
+    /**
+     * creates a deep-copy of the values
+     *
+     * @return value array
+     */
     @Nonnull
-    @Override
-    public final synchronized ITerm deepcopysuffix()
+    private ITerm[] deepcopyvalues()
     {
-        return new CLiteral(
-            m_at, m_negated, CPath.from( m_functor.suffix() ),
-            m_values.values().stream().map( i -> i.deepcopy() ).collect( Collectors.toList() )
-        );
+        if ( m_orderedvalues.length == 0 )
+            return EMPTYVALUES;
+
+        final ITerm[] l_values = new ITerm[m_orderedvalues.length];
+        for ( int i = 0; i < l_values.length; i++ )
+            l_values[i] = m_orderedvalues[i].deepcopy();
+        return l_values;
     }
 
 
+    /**
+     * literal builder, which collects the values
+     * without intermediate collections
+     */
+    public static final class CBuilder
+    {
+        /**
+         * functor
+         */
+        private final IPath m_functor;
+        /**
+         * negated flag
+         */
+        private boolean m_negated;
+        /**
+         * at flag
+         */
+        private boolean m_at;
+        /**
+         * values
+         */
+        private ITerm[] m_values = EMPTYVALUES;
+        /**
+         * number of values
+         */
+        private int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_functor functor
+         */
+        private CBuilder( @Nonnull final IPath p_functor )
+        {
+            m_functor = p_functor;
+        }
+
+        /**
+         * sets the negation
+         *
+         * @param p_negated negated flag
+         * @return self reference
+         */
+        @Nonnull
+        public final CBuilder negated( final boolean p_negated )
+        {
+            m_negated = p_negated;
+            return this;
+        }
+
+        /**
+         * sets the @ prefix
+         *
+         * @param p_at at flag
+         * @return self reference
+         */
+        @Nonnull
+        public final CBuilder at( final boolean p_at )
+        {
+            m_at = p_at;
+            return this;
+        }
+
+        /**
+         * adds values
+         *
+         * @param p_values values
+         * @return self reference
+         */
+        @Nonnull
+        public final CBuilder add( @Nonnull final ITerm... p_values )
+        {
+            if ( m_size + p_values.length > m_values.length )
+                m_values = Arrays.copyOf( m_values, Math.max( m_size + p_values.length, m_values.length * 2 ) );
+
+            System.arraycopy( p_values, 0, m_values, m_size, p_values.length );
+            m_size += p_values.length;
+            return this;
+        }
+
+        /**
+         * builds the literal, the builder is
+         * reset to empty values
+         *
+         * @return literal
+         */
+        @Nonnull
+        public final ILiteral build()
+        {
+            final ILiteral l_literal = new CLiteral(
+                m_at, m_negated, m_functor,
+                m_size == 0 ? EMPTYVALUES : m_size == m_values.length ? m_values : Arrays.copyOf( m_values, m_size )
+            );
+
+            m_values = EMPTYVALUES;
+            m_size = 0;
+            return l_literal;
+        }
+    }
+
     /**
      * literal parser
      */
@@ -491,7 +615,7 @@ public final class CLiteral implements ILiteral
          * ctor
          * @throws NoSuchMethodException on ctor-method call
          */
-        CParser() throws NoSuchMethodException
+        private CParser() throws NoSuchMethodException
         {
             super( new CErrorListener() );
         }
@@ -501,10 +625,42 @@ public final class CLiteral implements ILiteral
         public final IASTVisitorType parse( @Nonnull final InputStream p_stream ) throws Exception
         {
             final IASTVisitorType l_visitor = new CASTVisitorType();
-            l_visitor.visit( this.parser( p_stream ).literal_type() );
+            l_visitor.visit( this.parsetree( p_stream, TypeParser::literal_type ) );
             return l_visitor;
         }
 
+        /**
+         * parses a literal string
+         *
+         * @param p_literal literal string
+         * @return literal
+         */
+        @Nonnull
+        public final ILiteral literal( @Nonnull final String p_literal )
+        {
+            final IASTVisitorType l_visitor = new CASTVisitorType();
+            l_visitor.visit( this.parsetree( CharStreams.fromString( p_literal ), TypeParser::literal_type ) );
+            return l_visitor.literal();
+        }
+
+        /**
+         * creates the parser
+         *
+         * @return parser
+         */
+        @Nonnull
+        static CParser create()
+        {
+            try
+            {
+                return new CParser();
+            }
+            catch ( final NoSuchMethodException l_exception )
+            {
+                throw new CIllegalStateException( l_exception );
+            }
+        }
+
         @Override
         protected final Class<TypeLexer> lexerclass()
         {
@@ -68,6 +68,19 @@ public interface ILiteral extends ITerm, IShallowCopy<ILiteral>, Comparable<ILit
             return true;
         }
 
+        @Override
+        public final int valuesize()
+        {
+            return 0;
+        }
+
+        @Nonnull
+        @Override
+        public final ITerm orderedvalue( final int p_index )
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
         @Override
         public boolean negated()
         {
@@ -208,6 +221,22 @@ public interface ILiteral extends ITerm, IShallowCopy<ILiteral>, Comparable<ILit
      */
     boolean emptyValues();
 
+    /**
+     * returns the number of ordered values
+     *
+     * @return number of values
+     */
+    int valuesize();
+
+    /**
+     * returns an ordered value by its position
+     *
+     * @param p_index index of the value
+     * @return term
+     */
+    @Nonnull
+    ITerm orderedvalue( final int p_index );
+
     /**
      * getter of the literal for the negation
      *
@@ -29,15 +29,23 @@ import org.lightjason.agentspeak.language.instantiable.IInstantiable;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
+import java.io.Serializable;
 import java.text.MessageFormat;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 
 
 /**
- * execution context
+ * execution context, the variables are stored
+ * within a frame, which is indexed by the slot
+ * index of the instance
  *
  * @tparam T instance type (plan or rule)
  */
@@ -56,9 +64,17 @@ public final class CContext implements IContext
      */
     private final IInstantiable m_instance;
     /**
-     * plan variables with their data
+     * slot index of the variables
      */
-    private final Map<IPath, IVariable<?>> m_variables;
+    private final CSlotIndex m_slots;
+    /**
+     * variable frame, empty slots are null
+     */
+    private final IVariable<?>[] m_frame;
+    /**
+     * map view of the variable frame
+     */
+    private final Map<IPath, IVariable<?>> m_variables = new CFrameMap();
 
 
     /**
@@ -69,17 +85,51 @@ public final class CContext implements IContext
      * @param p_variables instance variables
      */
     public CContext( @Nonnull final IAgent<?> p_agent, @Nonnull final IInstantiable p_instance, @Nonnull final Collection<IVariable<?>> p_variables )
+    {
+        this( p_agent, p_instance, CSlotIndex.from( p_variables.stream() ), p_variables );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_agent agent
+     * @param p_instance instance object
+     * @param p_slots slot index
+     * @param p_variables instance variables
+     */
+    private CContext( @Nonnull final IAgent<?> p_agent, @Nonnull final IInstantiable p_instance, @Nonnull final CSlotIndex p_slots,
+                      @Nonnull final Collection<IVariable<?>> p_variables )
+    {
+        this( p_agent, p_instance, p_slots, new IVariable<?>[p_slots.size()] );
+        p_variables.forEach( i -> m_frame[p_slots.slot( i.fqnfunctor() )] = i );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_agent agent
+     * @param p_instance instance object
+     * @param p_slots slot index
+     * @param p_frame variable frame with the size of the slot index
+     */
+    public CContext( @Nonnull final IAgent<?> p_agent, @Nonnull final IInstantiable p_instance, @Nonnull final CSlotIndex p_slots,
+                     @Nonnull final IVariable<?>[] p_frame )
     {
         m_agent = p_agent;
         m_instance = p_instance;
-        m_variables = Collections.unmodifiableMap( p_variables.parallelStream().collect( Collectors.toMap( IVariable::fqnfunctor, i -> i ) ) );
+        m_slots = p_slots;
+        m_frame = p_frame;
     }
 
     @Nonnull
     @Override
     public final IContext duplicate()
     {
-        return new CContext( m_agent, m_instance, m_variables.values().parallelStream().map( i -> i.shallowcopy() ).collect( Collectors.toSet() ) );
+        final IVariable<?>[] l_frame = new IVariable<?>[m_frame.length];
+        for ( int i = 0; i < l_frame.length; i++ )
+            l_frame[i] = m_frame[i] == null ? null : m_frame[i].shallowcopy();
+
+        return new CContext( m_agent, m_instance, m_slots, l_frame );
     }
 
     @Nonnull
@@ -103,6 +153,17 @@ public final class CContext implements IContext
         return m_variables;
     }
 
+    /**
+     * returns the slot index of the variables
+     *
+     * @return slot index
+     */
+    @Nonnull
+    public final CSlotIndex slots()
+    {
+        return m_slots;
+    }
+
     @Override
     public final int hashCode()
     {
@@ -121,4 +182,101 @@ public final class CContext implements IContext
         return MessageFormat.format( "{0} [{1} | {2} | {3}]", super.toString(), m_variables.values(), m_instance, m_agent );
     }
 
+
+    /**
+     * unmodifiable map view of the variable frame
+     */
+    private final class CFrameMap extends AbstractMap<IPath, IVariable<?>> implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 6395123472917593305L;
+        /**
+         * entry set
+         */
+        private final Set<Entry<IPath, IVariable<?>>> m_entries = new CFrameEntries();
+
+        @Override
+        public final IVariable<?> get( final Object p_key )
+        {
+            final int l_slot = p_key instanceof IPath ? m_slots.slot( (IPath) p_key ) : -1;
+            return l_slot < 0 ? null : m_frame[l_slot];
+        }
+
+        @Override
+        public final boolean containsKey( final Object p_key )
+        {
+            return this.get( p_key ) != null;
+        }
+
+        @Nonnull
+        @Override
+        public final Set<Entry<IPath, IVariable<?>>> entrySet()
+        {
+            return m_entries;
+        }
+    }
+
+    /**
+     * entry set of the non-empty slots
+     */
+    private final class CFrameEntries extends AbstractSet<Map.Entry<IPath, IVariable<?>>> implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -2170357218374016934L;
+
+        @Nonnull
+        @Override
+        public final Iterator<Map.Entry<IPath, IVariable<?>>> iterator()
+        {
+            return new Iterator<Map.Entry<IPath, IVariable<?>>>()
+            {
+                /**
+                 * next non-empty slot
+                 */
+                private int m_slot = this.skip( 0 );
+
+                @Override
+                public final boolean hasNext()
+                {
+                    return m_slot < m_frame.length;
+                }
+
+                @Override
+                public final Map.Entry<IPath, IVariable<?>> next()
+                {
+                    if ( !this.hasNext() )
+                        throw new NoSuchElementException();
+
+                    final Map.Entry<IPath, IVariable<?>> l_entry = new AbstractMap.SimpleImmutableEntry<>( m_slots.name( m_slot ), m_frame[m_slot] );
+                    m_slot = this.skip( m_slot + 1 );
+                    return l_entry;
+                }
+
+                /**
+                 * returns the next non-empty slot
+                 *
+                 * @param p_slot start slot
+                 * @return slot
+                 */
+                private int skip( final int p_slot )
+                {
+                    int l_slot = p_slot;
+                    while ( ( l_slot < m_frame.length ) && ( m_frame[l_slot] == null ) )
+                        l_slot++;
+                    return l_slot;
+                }
+            };
+        }
+
+        @Override
+        public final int size()
+        {
+            return (int) Arrays.stream( m_frame ).filter( Objects::nonNull ).count();
+        }
+    }
+
 }
@@ -0,0 +1,201 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+
+/**
+ * slot index of the variables of a plan or rule, each variable
+ * name gets a fixed position within the variable frame of the
+ * execution context, so a frame is a flat array, which is created
+ * from the template variables and can be copied without hashing,
+ * extended slots (e.g. variables of the agent, which are not used
+ * within the plan or rule) are empty until a variable is set
+ */
+public final class CSlotIndex implements Serializable
+{
+    /**
+     * empty index
+     */
+    public static final CSlotIndex EMPTY = new CSlotIndex( new IPath[0], new IVariable<?>[0] );
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3260178530416294836L;
+    /**
+     * variable names in slot order
+     */
+    private final IPath[] m_names;
+    /**
+     * template variables of the first slots
+     */
+    private final IVariable<?>[] m_variables;
+    /**
+     * slot of each variable name
+     */
+    private final Map<IPath, Integer> m_slots;
+    /**
+     * hash code of the variable names
+     */
+    private final int m_hash;
+
+    /**
+     * ctor
+     *
+     * @param p_names unique variable names
+     * @param p_variables template variables of the first names
+     */
+    private CSlotIndex( @Nonnull final IPath[] p_names, @Nonnull final IVariable<?>[] p_variables )
+    {
+        final Map<IPath, Integer> l_slots = new HashMap<>();
+        int l_hash = 0;
+        for ( int i = 0; i < p_names.length; i++ )
+        {
+            l_slots.put( p_names[i], i );
+            l_hash += p_names[i].hashCode();
+        }
+
+        m_names = p_names;
+        m_variables = p_variables;
+        m_slots = Collections.unmodifiableMap( l_slots );
+        m_hash = l_hash;
+    }
+
+    /**
+     * creates a slot index, on equal variable
+     * names the first variable is used
+     *
+     * @param p_variables variable stream
+     * @return slot index
+     */
+    @Nonnull
+    public static CSlotIndex from( @Nonnull final Stream<IVariable<?>> p_variables )
+    {
+        final Map<IPath, IVariable<?>> l_variables = new LinkedHashMap<>();
+        p_variables.sequential().forEach( i -> l_variables.putIfAbsent( i.fqnfunctor(), i ) );
+        return new CSlotIndex(
+            l_variables.keySet().toArray( new IPath[l_variables.size()] ),
+            l_variables.values().toArray( new IVariable<?>[l_variables.size()] )
+        );
+    }
+
+    /**
+     * returns the number of slots
+     *
+     * @return size
+     */
+    public final int size()
+    {
+        return m_names.length;
+    }
+
+    /**
+     * returns the slot of a variable name
+     *
+     * @param p_name variable name
+     * @return slot or -1 if the name does not exist
+     */
+    public final int slot( @Nonnull final IPath p_name )
+    {
+        final Integer l_slot = m_slots.get( p_name );
+        return l_slot == null ? -1 : l_slot;
+    }
+
+    /**
+     * returns the name of a slot
+     *
+     * @param p_slot slot
+     * @return variable name
+     */
+    @Nonnull
+    public final IPath name( final int p_slot )
+    {
+        return m_names[p_slot];
+    }
+
+    /**
+     * creates a new frame with copies of the template variables
+     *
+     * @return variable frame
+     */
+    @Nonnull
+    public final IVariable<?>[] frame()
+    {
+        final IVariable<?>[] l_frame = new IVariable<?>[m_names.length];
+        for ( int i = 0; i < m_variables.length; i++ )
+            l_frame[i] = m_variables[i].shallowcopy();
+        return l_frame;
+    }
+
+    /**
+     * creates an index with additional empty
+     * slots behind the existing slots
+     *
+     * @param p_names variable names
+     * @return extended slot index
+     */
+    @Nonnull
+    public final CSlotIndex extend( @Nonnull final Collection<IPath> p_names )
+    {
+        final IPath[] l_names = p_names.stream().filter( i -> !m_slots.containsKey( i ) ).distinct().toArray( IPath[]::new );
+        if ( l_names.length == 0 )
+            return this;
+
+        final IPath[] l_extended = Arrays.copyOf( m_names, m_names.length + l_names.length );
+        System.arraycopy( l_names, 0, l_extended, m_names.length, l_names.length );
+        return new CSlotIndex( l_extended, m_variables );
+    }
+
+    @Override
+    public final int hashCode()
+    {
+        return m_hash;
+    }
+
+    @Override
+    public final boolean equals( final Object p_object )
+    {
+        return ( p_object != null ) && ( p_object instanceof CSlotIndex ) && ( this.hashCode() == p_object.hashCode() );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0}", m_slots );
+    }
+
+}
@@ -47,6 +47,10 @@ public interface IExecution extends Serializable
      * @param p_argument parameter of the action
      * @param p_return return values
      * @return fuzzy boolean
+     *
+     * @note the argument list of builtin actions can be a reused buffer, which is
+     * only valid during the call, so it must be copied if it is kept after the call
+     * (e.g. within a lazy stream or a sub-list view)
      */
     @Nonnull
     IFuzzyValue<Boolean> execute( final boolean p_parallel, @Nonnull final IContext p_context,
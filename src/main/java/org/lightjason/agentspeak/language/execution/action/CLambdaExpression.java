@@ -23,11 +23,11 @@
 
 package org.lightjason.agentspeak.language.execution.action;
 
-import org.apache.commons.lang3.tuple.ImmutableTriple;
-import org.apache.commons.lang3.tuple.Triple;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.CSlotIndex;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
@@ -36,14 +36,18 @@ import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.Serializable;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -56,6 +60,10 @@ public final class CLambdaExpression extends IBaseExecution<IVariable<?>>
      * serial id
      */
     private static final long serialVersionUID = 5128636076731831236L;
+    /**
+     * number of chunks of each worker thread on parallel execution
+     */
+    private static final int CHUNKS = 4;
     /**
      * initialization expression
      */
@@ -72,6 +80,14 @@ public final class CLambdaExpression extends IBaseExecution<IVariable<?>>
      * return variable
      */
     private final IVariable<?> m_return;
+    /**
+     * slot index of the body variables
+     */
+    private final CSlotIndex m_variables;
+    /**
+     * frame layout of the last execution context
+     */
+    private transient volatile CLayout m_layout;
 
 
     /**
@@ -105,6 +121,12 @@ public final class CLambdaExpression extends IBaseExecution<IVariable<?>>
         m_initialize = p_initialize;
         m_return = p_return;
         m_body = Collections.unmodifiableList( p_body );
+        m_variables = CSlotIndex.from(
+            Stream.concat(
+                m_body.stream().flatMap( IExecution::variables ),
+                Stream.concat( Stream.of( m_value ), Stream.of( m_return ).filter( Objects::nonNull ) )
+            )
+        );
     }
 
     @Nonnull
@@ -156,86 +178,231 @@ public final class CLambdaExpression extends IBaseExecution<IVariable<?>>
     }
 
     /**
-     * run sequential execution
+     * run sequential execution with one frame
      *
      * @param p_context execution context
      * @param p_input input list
-     * @return return list
+     * @return ordered return list
      */
     @Nonnull
     private List<?> executeSequential( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_input )
     {
-        final Triple<IContext, IVariable<?>, IVariable<?>> l_localcontext = this.getLocalContext( p_context );
-
-        return CCommon.flatten( p_input )
-                      .map( i ->
-                      {
-                          l_localcontext.getMiddle().set( i.raw() );
-                          m_body.forEach( j -> j.execute(
-                                  m_parallel,
-                                  l_localcontext.getLeft(),
-                                  Collections.<ITerm>emptyList(),
-                                  new LinkedList<>()
-                               ) );
-                          return l_localcontext.getRight() != null ? l_localcontext.getRight().raw() : null;
-                      } )
-                      .filter( Objects::nonNull )
-                      .collect( Collectors.toList() );
+        final ITerm[] l_input = CCommon.flatten( p_input ).toArray( ITerm[]::new );
+        final Object[] l_result = new Object[l_input.length];
+
+        this.execute( this.layout( p_context ), p_context, l_input, l_result, 0, l_input.length, false );
+        return CLambdaExpression.result( l_result );
     }
 
     /**
-     * run parallel execution
+     * run parallel execution, the input is split into
+     * chunks and each chunk is executed with its own frame
      *
      * @param p_context execution context
      * @param p_input input list
-     * @return return list
+     * @return ordered return list
      */
     @Nonnull
     private List<?> executeParallel( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_input )
     {
-        return CCommon.flatten( p_input )
-                      .parallel()
-                      .map( i ->
-                      {
-                          final Triple<IContext, IVariable<?>, IVariable<?>> l_localcontext = this.getLocalContext( p_context );
-                          l_localcontext.getMiddle().set( i.raw() );
-                          m_body.forEach( j -> j.execute(
-                                  m_parallel,
-                                  l_localcontext.getLeft(),
-                                  Collections.<ITerm>emptyList(),
-                                  new LinkedList<>()
-                                ) );
-                          return l_localcontext.getRight() != null ? l_localcontext.getRight().raw() : null;
-                      } )
-                      .filter( Objects::nonNull )
-                      .collect( Collectors.toList() );
+        final ITerm[] l_input = CCommon.flatten( p_input ).toArray( ITerm[]::new );
+        final Object[] l_result = new Object[l_input.length];
+        final CLayout l_layout = this.layout( p_context );
+        final int l_size = Math.max( 1, l_input.length / ( ForkJoinPool.getCommonPoolParallelism() * CHUNKS ) );
+
+        IntStream.range( 0, ( l_input.length + l_size - 1 ) / l_size )
+                 .parallel()
+                 .forEach( i -> this.execute( l_layout, p_context, l_input, l_result, i * l_size, Math.min( l_input.length, ( i + 1 ) * l_size ), true ) );
+
+        return CLambdaExpression.result( l_result );
     }
 
+    /**
+     * executes the body for a range of input elements with one frame
+     *
+     * @param p_layout frame layout
+     * @param p_context execution context
+     * @param p_input input array
+     * @param p_result result array
+     * @param p_from first index (inclusive)
+     * @param p_to last index (exclusive)
+     * @param p_reset resets the return variable for each element
+     */
+    private void execute( @Nonnull final CLayout p_layout, @Nonnull final IContext p_context, @Nonnull final ITerm[] p_input,
+                          @Nonnull final Object[] p_result, final int p_from, final int p_to, final boolean p_reset )
+    {
+        final IVariable<?>[] l_frame = p_layout.frame( p_context, m_variables );
+        final IContext l_context = new CContext( p_context.agent(), p_context.instance(), p_layout.slots(), l_frame );
+        final IVariable<?> l_iterator = l_frame[p_layout.iterator()];
+        final IVariable<?> l_return = p_layout.result() < 0 ? null : l_frame[p_layout.result()];
+        final List<ITerm> l_bodyreturn = new ArrayList<>();
+
+        for ( int i = p_from; i < p_to; i++ )
+        {
+            l_iterator.set( p_input[i].raw() );
+            if ( p_reset && ( l_return != null ) )
+                l_return.set( m_return.raw() );
+
+            for ( final IExecution l_execution : m_body )
+            {
+                l_bodyreturn.clear();
+                l_execution.execute( m_parallel, l_context, Collections.<ITerm>emptyList(), l_bodyreturn );
+            }
+
+            p_result[i] = l_return == null ? null : l_return.raw();
+        }
+    }
+
+    /**
+     * returns the frame layout of an execution context,
+     * the layout of the last context is reused
+     *
+     * @param p_context execution context
+     * @return frame layout
+     */
+    @Nonnull
+    private CLayout layout( @Nonnull final IContext p_context )
+    {
+        final CSlotIndex l_slots = p_context instanceof CContext
+                                   ? ( (CContext) p_context ).slots()
+                                   : CSlotIndex.from( p_context.instancevariables().values().stream() );
+
+        final CLayout l_layout = m_layout;
+        if ( ( l_layout != null ) && ( l_layout.context() == l_slots ) )
+            return l_layout;
+
+        m_layout = new CLayout( l_slots, m_variables, m_value.fqnfunctor(), m_return == null ? null : m_return.fqnfunctor() );
+        return m_layout;
+    }
 
     /**
-     * create the local context structure of the expression
+     * creates the return list without empty results
      *
-     * @param p_context local context
-     * @return tripel with context, iterator variable and return variable
+     * @param p_result result array
+     * @return ordered return list
      */
     @Nonnull
-    private Triple<IContext, IVariable<?>, IVariable<?>> getLocalContext( @Nonnull final IContext p_context )
+    private static List<?> result( @Nonnull final Object[] p_result )
     {
-        final IVariable<?> l_iterator = m_value.shallowcopy();
-        final IVariable<?> l_return = m_return != null ? m_return.shallowcopy() : null;
+        return Arrays.stream( p_result ).filter( Objects::nonNull ).collect( Collectors.toCollection( () -> new ArrayList<>( p_result.length ) ) );
+    }
 
-        final Set<IVariable<?>> l_variables = new HashSet<>( p_context.instancevariables().values() );
 
-        m_body.stream().flatMap( IExecution::variables ).forEach( l_variables::add );
-        l_variables.remove( l_iterator );
-        l_variables.add( l_iterator );
+    /**
+     * frame layout of a lambda expression within an execution
+     * context, the context variables are shared with the lambda
+     * frame, the body variables which are not defined within the
+     * context and the iterator and return variable are copied
+     */
+    private static final class CLayout implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -8457217040155623604L;
+        /**
+         * slot index of the execution context
+         */
+        private final CSlotIndex m_context;
+        /**
+         * slot index of the lambda frame
+         */
+        private final CSlotIndex m_slots;
+        /**
+         * lambda frame slot of each body variable slot
+         */
+        private final int[] m_variables;
+        /**
+         * slot of the iterator variable
+         */
+        private final int m_iterator;
+        /**
+         * slot of the return variable
+         */
+        private final int m_return;
+
+        /**
+         * ctor
+         *
+         * @param p_context slot index of the execution context
+         * @param p_variables slot index of the body variables
+         * @param p_iterator name of the iterator variable
+         * @param p_return name of the return variable
+         */
+        CLayout( @Nonnull final CSlotIndex p_context, @Nonnull final CSlotIndex p_variables, @Nonnull final IPath p_iterator, @Nullable final IPath p_return )
+        {
+            m_context = p_context;
+            m_slots = p_context.extend(
+                IntStream.range( 0, p_variables.size() ).mapToObj( p_variables::name ).collect( Collectors.toList() )
+            );
+            m_variables = IntStream.range( 0, p_variables.size() ).map( i -> m_slots.slot( p_variables.name( i ) ) ).toArray();
+            m_iterator = m_slots.slot( p_iterator );
+            m_return = p_return == null ? -1 : m_slots.slot( p_return );
+        }
 
-        if ( l_return != null )
+        /**
+         * slot index of the execution context
+         *
+         * @return slot index
+         */
+        @Nonnull
+        final CSlotIndex context()
         {
-            l_variables.remove( l_return );
-            l_variables.add( l_return );
+            return m_context;
         }
 
-        return new ImmutableTriple<>( new CContext( p_context.agent(), p_context.instance(), l_variables ), l_iterator, l_return );
+        /**
+         * slot index of the lambda frame
+         *
+         * @return slot index
+         */
+        @Nonnull
+        final CSlotIndex slots()
+        {
+            return m_slots;
+        }
+
+        /**
+         * slot of the iterator variable
+         *
+         * @return slot
+         */
+        final int iterator()
+        {
+            return m_iterator;
+        }
+
+        /**
+         * slot of the return variable
+         *
+         * @return slot or -1
+         */
+        final int result()
+        {
+            return m_return;
+        }
+
+        /**
+         * creates a lambda frame
+         *
+         * @param p_context execution context
+         * @param p_variables slot index of the body variables
+         * @return frame
+         */
+        @Nonnull
+        final IVariable<?>[] frame( @Nonnull final IContext p_context, @Nonnull final CSlotIndex p_variables )
+        {
+            final IVariable<?>[] l_frame = new IVariable<?>[m_slots.size()];
+            for ( final Map.Entry<IPath, IVariable<?>> l_variable : p_context.instancevariables().entrySet() )
+                l_frame[m_slots.slot( l_variable.getKey() )] = l_variable.getValue();
+
+            // iterator and return variable are always local, other body variables only if the context does not define them
+            final IVariable<?>[] l_body = p_variables.frame();
+            for ( int i = 0; i < l_body.length; i++ )
+                if ( ( l_frame[m_variables[i]] == null ) || ( m_variables[i] == m_iterator ) || ( m_variables[i] == m_return ) )
+                    l_frame[m_variables[i]] = l_body[i];
+
+            return l_frame;
+        }
     }
 }
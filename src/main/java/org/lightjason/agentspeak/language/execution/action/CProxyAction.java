@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.language.execution.action;
 
 import org.apache.commons.lang3.StringUtils;
 import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CActionIndex;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
@@ -38,9 +39,10 @@ import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -57,6 +59,10 @@ public final class CProxyAction implements IExecution
      * serial id
      */
     private static final long serialVersionUID = 4799005052331053271L;
+    /**
+     * package of the builtin actions
+     */
+    private static final String BUILTINPACKAGE = org.lightjason.agentspeak.common.CCommon.PACKAGEROOT + ".action.builtin.";
     /**
      * execution
      */
@@ -171,6 +177,9 @@ public final class CProxyAction implements IExecution
      * inner class for encapsulating action execution
      *
      * @warning execution must run variable repacing before action calling
+     * @note the argument list of a sequential call of a builtin action is a
+     * reused buffer, so it is only valid during the action call, other actions
+     * get an own argument list, because they can keep the arguments
      */
     private static class CActionWrapper implements IExecution
     {
@@ -187,10 +196,26 @@ public final class CProxyAction implements IExecution
          */
         private final IAction m_action;
         /**
-         * arguments as map with index for prevent
-         * result order on parallel execution
+         * argument executions in order
          */
-        private final Map<Integer, IExecution> m_arguments;
+        private final IExecution[] m_arguments;
+        /**
+         * argument terms in order, null for inner actions
+         */
+        private final ITerm[] m_terms;
+        /**
+         * inner actions in order, null for argument terms
+         */
+        private final CActionWrapper[] m_actions;
+        /**
+         * flag that the argument buffer can be used,
+         * which is valid for builtin actions only
+         */
+        private final boolean m_reuse;
+        /**
+         * argument buffer of each thread
+         */
+        private transient volatile ThreadLocal<CBuffer> m_buffer;
 
 
         /**
@@ -215,20 +240,32 @@ public final class CProxyAction implements IExecution
                 throw new CIllegalArgumentException(
                     org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentnumber", p_literal, m_action.minimalArgumentNumber() ) );
 
+            m_reuse = m_action.getClass().getName().startsWith( BUILTINPACKAGE ) || CActionIndex.class.equals( m_action.getClass().getEnclosingClass() );
+
             // resolve action arguments
-            m_arguments = Collections.unmodifiableMap( this.createSubExecutions( p_literal.orderedvalues().collect( Collectors.toList() ), p_actions ) );
+            m_arguments = p_literal.orderedvalues()
+                                   .map( i -> i instanceof ILiteral ? new CActionWrapper( i.term(), p_actions ) : new CTermWrapper<>( i ) )
+                                   .toArray( IExecution[]::new );
+
+            // flat invocation plan with the argument slots
+            m_terms = Arrays.stream( m_arguments )
+                            .map( i -> i instanceof CTermWrapper<?> ? ( (CTermWrapper<?>) i ).m_value : null )
+                            .toArray( ITerm[]::new );
+            m_actions = Arrays.stream( m_arguments )
+                              .map( i -> i instanceof CActionWrapper ? (CActionWrapper) i : null )
+                              .toArray( CActionWrapper[]::new );
         }
 
         @Override
         public final int hashCode()
         {
-            return m_action.hashCode() + m_arguments.hashCode();
+            return m_action.hashCode() + Arrays.hashCode( m_arguments );
         }
 
         @Override
         public final String toString()
         {
-            return MessageFormat.format( "{0}({1})", m_action, StringUtils.join( m_arguments.values(), ", " ) );
+            return MessageFormat.format( "{0}({1})", m_action, StringUtils.join( m_arguments, ", " ) );
         }
 
         @Override
@@ -243,11 +280,29 @@ public final class CProxyAction implements IExecution
                                              @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
         )
         {
-            return m_action.execute(
-                m_parallel, p_context,
-                this.subexecute( p_context, m_arguments ),
-                p_return
-            );
+            if ( m_parallel )
+                return this.call( p_context, this.subexecuteparallel( p_context ), p_return );
+
+            if ( m_arguments.length == 0 )
+                return this.call( p_context, Collections.emptyList(), p_return );
+
+            if ( !m_reuse )
+            {
+                final List<ITerm> l_arguments = new ArrayList<>( m_arguments.length );
+                this.subexecute( p_context, l_arguments );
+                return this.call( p_context, Collections.unmodifiableList( l_arguments ), p_return );
+            }
+
+            final CBuffer l_buffer = this.buffer();
+            try
+            {
+                this.subexecute( p_context, l_buffer.m_values );
+                return this.call( p_context, l_buffer.m_view, p_return );
+            }
+            finally
+            {
+                l_buffer.release();
+            }
         }
 
         @Nonnull
@@ -258,58 +313,155 @@ public final class CProxyAction implements IExecution
         }
 
         /**
-         * builds the map of execution arguments
+         * calls the action
          *
-         * @param p_elements collection with literal elements (term- / literal list of attributes & annotations)
-         * @param p_actions map with actions
-         * @return ordered execution structure
+         * @param p_context context structure
+         * @param p_argument arguments
+         * @param p_return return arguments
+         * @return action result
          */
         @Nonnull
-        private Map<Integer, IExecution> createSubExecutions( @Nonnull final Collection<? extends ITerm> p_elements,
-                                                              @Nonnull final Map<IPath, IAction> p_actions )
+        private IFuzzyValue<Boolean> call( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
         {
-            // convert collection to list and build map with indices
-            final List<? extends ITerm> l_elements = new LinkedList<>( p_elements );
-            return IntStream.range( 0, l_elements.size() )
-                            .boxed()
-                            .collect(
-                                Collectors.toMap(
-                                    i -> i,
-                                    i ->
-                                    {
-                                        final ITerm l_term = l_elements.get( i );
-                                        return l_term instanceof ILiteral
-                                               ? new CActionWrapper( l_term.term(), p_actions )
-                                               : new CTermWrapper<>( l_term );
-                                    }
-                                )
-                            );
+            final long l_start = p_context.agent().instrumentation().start();
+            final IFuzzyValue<Boolean> l_result = m_action.execute( m_parallel, p_context, p_argument, p_return );
+            p_context.agent().instrumentation().action( m_action, l_start );
+            return l_result;
         }
 
         /**
-         * execute inner structures
+         * returns an unused argument buffer of the current thread,
+         * a recursive call of the action gets a new buffer
+         *
+         * @return buffer
+         */
+        @Nonnull
+        private CBuffer buffer()
+        {
+            ThreadLocal<CBuffer> l_local = m_buffer;
+            if ( l_local == null )
+            {
+                l_local = ThreadLocal.withInitial( () -> new CBuffer( m_arguments.length ) );
+                m_buffer = l_local;
+            }
+
+            final CBuffer l_buffer = l_local.get();
+            return l_buffer.acquire() ? l_buffer : new CBuffer( m_arguments.length ).acquired();
+        }
+
+        /**
+         * execute inner structures sequentially, the results
+         * are written directly into the argument buffer
+         *
+         * @param p_context context structure
+         * @param p_arguments argument buffer
+         */
+        private void subexecute( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_arguments )
+        {
+            for ( int i = 0; i < m_terms.length; i++ )
+            {
+                if ( m_actions[i] == null )
+                {
+                    p_arguments.add( CCommon.replaceFromContext( p_context, m_terms[i] ) );
+                    continue;
+                }
+
+                final int l_start = p_arguments.size();
+                m_actions[i].execute( false, p_context, Collections.emptyList(), p_arguments );
+                for ( int j = l_start; j < p_arguments.size(); j++ )
+                    p_arguments.set( j, CCommon.replaceFromContext( p_context, p_arguments.get( j ) ) );
+            }
+        }
+
+        /**
+         * execute inner structures in parallel
          *
          * @param p_context context structure
-         * @param p_execution map with execution elements
          * @return return arguments of execution (flat list)
          */
         @Nonnull
-        private List<ITerm> subexecute( @Nonnull final IContext p_context, @Nonnull final Map<Integer, IExecution> p_execution )
+        private List<ITerm> subexecuteparallel( @Nonnull final IContext p_context )
+        {
+            return Collections.unmodifiableList(
+                IntStream.range( 0, m_arguments.length )
+                         .parallel()
+                         .mapToObj( i ->
+                         {
+                             final List<ITerm> l_return = new ArrayList<>();
+                             m_arguments[i].execute( true, p_context, Collections.emptyList(), l_return );
+                             return l_return;
+                         } )
+                         .flatMap( Collection::stream )
+                         .map( i -> CCommon.replaceFromContext( p_context, i ) )
+                         .collect( Collectors.toList() )
+            );
+        }
+    }
+
+
+    /**
+     * reusable argument buffer
+     */
+    private static final class CBuffer
+    {
+        /**
+         * argument values
+         */
+        private final ArrayList<ITerm> m_values;
+        /**
+         * read-only view of the values
+         */
+        private final List<ITerm> m_view;
+        /**
+         * usage flag
+         */
+        private boolean m_used;
+
+        /**
+         * ctor
+         *
+         * @param p_size initial size
+         */
+        CBuffer( final int p_size )
+        {
+            m_values = new ArrayList<>( p_size );
+            m_view = Collections.unmodifiableList( m_values );
+        }
+
+        /**
+         * marks the buffer as used
+         *
+         * @return true if the buffer was unused
+         */
+        final boolean acquire()
+        {
+            if ( m_used )
+                return false;
+
+            m_used = true;
+            return true;
+        }
+
+        /**
+         * marks a new buffer as used
+         *
+         * @return self reference
+         */
+        @Nonnull
+        final CBuffer acquired()
+        {
+            m_used = true;
+            return this;
+        }
+
+        /**
+         * clears the values and marks
+         * the buffer as unused
+         */
+        final void release()
         {
-            return Collections.unmodifiableList( CCommon.replaceFromContext(
-                p_context,
-                ( m_parallel
-                  ? p_execution.entrySet().parallelStream()
-                  : p_execution.entrySet()
-                               .stream() )
-                               .flatMap( i ->
-                               {
-                                   final List<ITerm> l_return = new LinkedList<>();
-                                   i.getValue().execute( m_parallel, p_context, Collections.emptyList(), l_return );
-                                   return l_return.stream();
-                               } )
-                               .collect( Collectors.toList() )
-            ) );
+            m_values.clear();
+            m_used = false;
         }
     }
 
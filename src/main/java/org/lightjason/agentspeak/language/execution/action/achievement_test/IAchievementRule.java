@@ -82,16 +82,33 @@ abstract class IAchievementRule<T extends ITerm> extends IBaseExecution<T>
         // first step is the unification of the caller literal, so variables will be set from the current execution context
         final ILiteral l_unified = p_value.allocate( p_context );
 
-        // second step execute backtracking rules sequential / parallel
+        // second step execute backtracking rules sequential / parallel, ground calls can be answered by the rule table
+        return p_context.agent().ruletable().apply( p_context, l_unified, i -> IAchievementRule.execute( p_parallel, p_context, i, l_rules ) );
+    }
+
+    /**
+     * execute backtracking rules
+     *
+     * @param p_parallel parallel execution
+     * @param p_context execution context
+     * @param p_unified allocated execution literal
+     * @param p_rules rules with equal functor
+     * @return boolean result
+     */
+    @Nonnull
+    @SuppressWarnings( "unchecked" )
+    private static IFuzzyValue<Boolean> execute( final boolean p_parallel, @Nonnull final IContext p_context, @Nonnull final ILiteral p_unified,
+                                                 @Nonnull final Collection<IRule> p_rules )
+    {
         return (
             p_parallel
-            ? l_rules.parallelStream()
-            : l_rules.stream()
+            ? p_rules.parallelStream()
+            : p_rules.stream()
         ).map( i ->
         {
 
-            // instantiate variables by unification of the rule literal
-            final Set<IVariable<?>> l_variables = p_context.agent().unifier().unify( l_unified, i.identifier() );
+            // instantiate variables by unification of the compiled rule literal, so the rule variables are not modified
+            final Set<IVariable<?>> l_variables = p_context.agent().unifier().unify( p_unified, i.matcher() );
 
             // execute rule
             final IFuzzyValue<Boolean> l_return = i.execute(
@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.language.execution.action.unify;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.expression.CCompiledExpression;
 import org.lightjason.agentspeak.language.execution.expression.IExpression;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.IVariable;
@@ -60,7 +61,7 @@ public final class CExpressionUnify extends CDefaultUnify
     public CExpressionUnify( final boolean p_parallel, @Nonnull final ILiteral p_literal, @Nonnull final IExpression p_expression )
     {
         super( p_parallel, p_literal );
-        m_expression = p_expression;
+        m_expression = CCompiledExpression.from( p_expression );
     }
 
 
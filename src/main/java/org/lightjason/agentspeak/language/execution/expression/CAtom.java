@@ -71,6 +71,17 @@ public class CAtom implements IExpression
         return CFuzzyValue.from( true );
     }
 
+    /**
+     * returns the atom value
+     *
+     * @return raw term or variable
+     */
+    @Nonnull
+    public final ITerm value()
+    {
+        return m_value;
+    }
+
     @Nonnull
     @Override
     public final Stream<IVariable<?>> variables()
@@ -0,0 +1,795 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.language.execution.expression;
+
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.expression.logical.CBinary;
+import org.lightjason.agentspeak.language.execution.expression.logical.CUnary;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CAdditive;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CComparable;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CMultiplicative;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CPower;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CRelational;
+import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * compiled expression, which evaluates an expression tree of
+ * atoms and operators with primitive values, constant subtrees
+ * are folded and logical operators are short-circuited, the
+ * results are equal to the generic expression execution
+ */
+public final class CCompiledExpression implements IExpression
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6231425542366532817L;
+    /**
+     * source expression
+     */
+    private final IExpression m_expression;
+    /**
+     * root node of the evaluation tree
+     */
+    private final IBaseNode m_node;
+
+
+    /**
+     * ctor
+     *
+     * @param p_expression source expression
+     * @param p_node root node
+     */
+    private CCompiledExpression( @Nonnull final IExpression p_expression, @Nonnull final IBaseNode p_node )
+    {
+        m_expression = p_expression;
+        m_node = p_node;
+    }
+
+    /**
+     * compiles an expression, subtrees which contain
+     * other executions (e.g. actions or rules) are not
+     * compiled, but their operands are
+     *
+     * @param p_expression expression
+     * @return compiled expression or input expression
+     */
+    @Nonnull
+    public static IExpression from( @Nonnull final IExpression p_expression )
+    {
+        if ( ( p_expression instanceof CCompiledExpression ) || ( p_expression instanceof CAtom ) || ( p_expression == IExpression.EMPTY ) )
+            return p_expression;
+
+        if ( CCompiledExpression.compilable( p_expression ) )
+            return new CCompiledExpression( p_expression, CCompiledExpression.node( p_expression ) );
+
+        if ( p_expression instanceof CUnary )
+        {
+            final IExpression l_expression = CCompiledExpression.from( ( (CUnary) p_expression ).expression() );
+            return l_expression == ( (CUnary) p_expression ).expression()
+                   ? p_expression
+                   : new CUnary( ( (CUnary) p_expression ).operator(), l_expression );
+        }
+
+        return p_expression instanceof IBaseBinary ? CCompiledExpression.binary( (IBaseBinary) p_expression ) : p_expression;
+    }
+
+    @Nonnull
+    @Override
+    public final IFuzzyValue<Boolean> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                               @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        p_return.add( CRawTerm.from( m_node.value( p_context ) ) );
+        return CFuzzyValue.from( true );
+    }
+
+    /**
+     * evaluates the expression to a boolean value
+     *
+     * @param p_context execution context
+     * @return boolean value
+     */
+    public final boolean bool( @Nonnull final IContext p_context )
+    {
+        return m_node.bool( p_context );
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<IVariable<?>> variables()
+    {
+        return m_expression.variables();
+    }
+
+    @Override
+    public final int hashCode()
+    {
+        return m_expression.hashCode();
+    }
+
+    @Override
+    public final boolean equals( final Object p_object )
+    {
+        return ( p_object != null ) && ( p_object instanceof IExpression ) && ( this.hashCode() == p_object.hashCode() );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return m_expression.toString();
+    }
+
+    /**
+     * checks if an expression consists only of atoms and operators
+     *
+     * @param p_expression expression
+     * @return compilable flag
+     */
+    private static boolean compilable( @Nonnull final IExpression p_expression )
+    {
+        if ( ( p_expression instanceof CAtom ) || ( p_expression == IExpression.EMPTY ) )
+            return true;
+
+        if ( p_expression instanceof CUnary )
+            return CCompiledExpression.compilable( ( (CUnary) p_expression ).expression() );
+
+        return CCompiledExpression.known( p_expression )
+               && CCompiledExpression.compilable( ( (IBaseBinary) p_expression ).leftHandSide() )
+               && CCompiledExpression.compilable( ( (IBaseBinary) p_expression ).rightHandSide() );
+    }
+
+    /**
+     * checks if an expression is a known binary expression
+     *
+     * @param p_expression expression
+     * @return known flag
+     */
+    private static boolean known( @Nonnull final IExpression p_expression )
+    {
+        return ( p_expression instanceof CAdditive ) || ( p_expression instanceof CMultiplicative ) || ( p_expression instanceof CPower )
+               || ( p_expression instanceof CRelational ) || ( p_expression instanceof CComparable ) || ( p_expression instanceof CBinary );
+    }
+
+    /**
+     * rebuilds a binary expression with compiled operands
+     *
+     * @param p_expression binary expression
+     * @return expression
+     */
+    @Nonnull
+    private static IExpression binary( @Nonnull final IBaseBinary p_expression )
+    {
+        if ( !CCompiledExpression.known( p_expression ) )
+            return p_expression;
+
+        final IExpression l_lefthandside = CCompiledExpression.from( p_expression.leftHandSide() );
+        final IExpression l_righthandside = CCompiledExpression.from( p_expression.rightHandSide() );
+        if ( ( l_lefthandside == p_expression.leftHandSide() ) && ( l_righthandside == p_expression.rightHandSide() ) )
+            return p_expression;
+
+        final EOperator l_operator = p_expression.operator();
+        if ( p_expression instanceof CAdditive )
+            return new CAdditive( l_operator, l_lefthandside, l_righthandside );
+        if ( p_expression instanceof CMultiplicative )
+            return new CMultiplicative( l_operator, l_lefthandside, l_righthandside );
+        if ( p_expression instanceof CPower )
+            return new CPower( l_operator, l_lefthandside, l_righthandside );
+        if ( p_expression instanceof CRelational )
+            return new CRelational( l_operator, l_lefthandside, l_righthandside );
+        if ( p_expression instanceof CComparable )
+            return new CComparable( l_operator, l_lefthandside, l_righthandside );
+
+        return new CBinary( l_operator, l_lefthandside, l_righthandside );
+    }
+
+    /**
+     * builds the evaluation node of an expression
+     * and folds constant operands
+     *
+     * @param p_expression compilable expression
+     * @return node
+     */
+    @Nonnull
+    private static IBaseNode node( @Nonnull final IExpression p_expression )
+    {
+        if ( p_expression == IExpression.EMPTY )
+            return new CConstantNode( true );
+
+        if ( p_expression instanceof CAtom )
+            return ( (CAtom) p_expression ).value() instanceof IVariable<?>
+                   ? new CVariableNode( (IVariable<?>) ( (CAtom) p_expression ).value() )
+                   : new CConstantNode( ( (CAtom) p_expression ).value().raw() );
+
+        if ( p_expression instanceof CUnary )
+            return CCompiledExpression.fold( new CNegationNode( CCompiledExpression.node( ( (CUnary) p_expression ).expression() ) ) );
+
+        final IBaseBinary l_expression = (IBaseBinary) p_expression;
+        final IBaseNode l_lefthandside = CCompiledExpression.node( l_expression.leftHandSide() );
+        final IBaseNode l_righthandside = CCompiledExpression.node( l_expression.rightHandSide() );
+
+        if ( l_expression.operator().isNumerical() )
+            return CCompiledExpression.fold( new CArithmeticNode( l_expression.operator(), l_lefthandside, l_righthandside ) );
+        if ( l_expression.operator().isRelational() )
+            return CCompiledExpression.fold( new CRelationalNode( l_expression.operator(), l_lefthandside, l_righthandside ) );
+        if ( l_expression.operator().isComparable() )
+            return CCompiledExpression.fold( new CComparableNode( l_expression.operator(), l_lefthandside, l_righthandside ) );
+
+        return CCompiledExpression.fold( new CLogicalNode( l_expression.operator(), l_lefthandside, l_righthandside ) );
+    }
+
+    /**
+     * folds a node with constant operands into a constant,
+     * on an evaluation error the node is kept, so the error
+     * is thrown on execution
+     *
+     * @param p_node node
+     * @return constant or input node
+     */
+    @Nonnull
+    private static IBaseNode fold( @Nonnull final IBaseNode p_node )
+    {
+        if ( !p_node.foldable() )
+            return p_node;
+
+        try
+        {
+            return new CConstantNode( p_node.value( null ) );
+        }
+        catch ( final RuntimeException l_exception )
+        {
+            return p_node;
+        }
+    }
+
+
+    /**
+     * evaluation node
+     */
+    private abstract static class IBaseNode implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 3866349328447233105L;
+
+        /**
+         * returns the boxed value
+         *
+         * @param p_context execution context
+         * @return value
+         */
+        @Nonnull
+        abstract Object value( @Nullable final IContext p_context );
+
+        /**
+         * returns the value as double
+         *
+         * @param p_context execution context
+         * @return double value
+         */
+        double number( @Nullable final IContext p_context )
+        {
+            return ( (Number) this.value( p_context ) ).doubleValue();
+        }
+
+        /**
+         * returns the value as long
+         *
+         * @param p_context execution context
+         * @return long value
+         */
+        long integral( @Nullable final IContext p_context )
+        {
+            return ( (Number) this.value( p_context ) ).longValue();
+        }
+
+        /**
+         * returns the value as boolean
+         *
+         * @param p_context execution context
+         * @return boolean value
+         */
+        boolean bool( @Nullable final IContext p_context )
+        {
+            return (Boolean) this.value( p_context );
+        }
+
+        /**
+         * node returns always a number
+         *
+         * @return numeric flag
+         */
+        boolean numeric()
+        {
+            return false;
+        }
+
+        /**
+         * node value is constant
+         *
+         * @return constant flag
+         */
+        boolean constant()
+        {
+            return false;
+        }
+
+        /**
+         * all operands are constant
+         *
+         * @return foldable flag
+         */
+        boolean foldable()
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * constant node
+     */
+    private static final class CConstantNode extends IBaseNode
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -4133917069962826553L;
+        /**
+         * value
+         */
+        private final Object m_value;
+        /**
+         * numeric flag
+         */
+        private final boolean m_numeric;
+        /**
+         * double value
+         */
+        private final double m_number;
+
+        /**
+         * ctor
+         *
+         * @param p_value value
+         */
+        CConstantNode( @Nullable final Object p_value )
+        {
+            m_value = p_value;
+            m_numeric = p_value instanceof Number;
+            m_number = m_numeric ? ( (Number) p_value ).doubleValue() : Double.NaN;
+        }
+
+        @Nonnull
+        @Override
+        final Object value( @Nullable final IContext p_context )
+        {
+            if ( m_value == null )
+                throw new CIllegalStateException( CCommon.languagestring( CCompiledExpression.class, "notallocated" ) );
+            return m_value;
+        }
+
+        @Override
+        final double number( @Nullable final IContext p_context )
+        {
+            return m_numeric ? m_number : super.number( p_context );
+        }
+
+        @Override
+        final boolean numeric()
+        {
+            return m_numeric;
+        }
+
+        @Override
+        final boolean constant()
+        {
+            return m_value != null;
+        }
+    }
+
+
+    /**
+     * variable node
+     */
+    private static final class CVariableNode extends IBaseNode
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 7735318095283718531L;
+        /**
+         * variable
+         */
+        private final IVariable<?> m_variable;
+
+        /**
+         * ctor
+         *
+         * @param p_variable variable
+         */
+        CVariableNode( @Nonnull final IVariable<?> p_variable )
+        {
+            m_variable = p_variable;
+        }
+
+        @Nonnull
+        @Override
+        final Object value( @Nullable final IContext p_context )
+        {
+            final Object l_value = org.lightjason.agentspeak.language.CCommon.replaceFromContext( p_context, m_variable ).raw();
+            if ( l_value == null )
+                throw new CIllegalStateException( CCommon.languagestring( CCompiledExpression.class, "notallocated" ) );
+            return l_value;
+        }
+    }
+
+
+    /**
+     * binary node
+     */
+    private abstract static class IBaseBinaryNode extends IBaseNode
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -2178212412683213052L;
+        /**
+         * operator
+         */
+        protected final EOperator m_operator;
+        /**
+         * left-hand-side node
+         */
+        protected final IBaseNode m_lefthandside;
+        /**
+         * right-hand-side node
+         */
+        protected final IBaseNode m_righthandside;
+
+        /**
+         * ctor
+         *
+         * @param p_operator operator
+         * @param p_lefthandside left-hand-side node
+         * @param p_righthandside right-hand-side node
+         */
+        IBaseBinaryNode( @Nonnull final EOperator p_operator, @Nonnull final IBaseNode p_lefthandside, @Nonnull final IBaseNode p_righthandside )
+        {
+            m_operator = p_operator;
+            m_lefthandside = p_lefthandside;
+            m_righthandside = p_righthandside;
+        }
+
+        @Override
+        final boolean foldable()
+        {
+            return m_lefthandside.constant() && m_righthandside.constant();
+        }
+    }
+
+
+    /**
+     * arithmetic node, modulo is calculated on
+     * long values, all other operators on double values
+     */
+    private static final class CArithmeticNode extends IBaseBinaryNode
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 5524935165361735584L;
+
+        /**
+         * ctor
+         *
+         * @param p_operator operator
+         * @param p_lefthandside left-hand-side node
+         * @param p_righthandside right-hand-side node
+         */
+        CArithmeticNode( @Nonnull final EOperator p_operator, @Nonnull final IBaseNode p_lefthandside, @Nonnull final IBaseNode p_righthandside )
+        {
+            super( p_operator, p_lefthandside, p_righthandside );
+        }
+
+        @Nonnull
+        @Override
+        final Object value( @Nullable final IContext p_context )
+        {
+            return m_operator == EOperator.MODULO ? (Object) this.integral( p_context ) : (Object) this.number( p_context );
+        }
+
+        @Override
+        final double number( @Nullable final IContext p_context )
+        {
+            switch ( m_operator )
+            {
+                case PLUS:
+                    return m_lefthandside.number( p_context ) + m_righthandside.number( p_context );
+
+                case MINUS:
+                    return m_lefthandside.number( p_context ) - m_righthandside.number( p_context );
+
+                case MULTIPLY:
+                    return m_lefthandside.number( p_context ) * m_righthandside.number( p_context );
+
+                case DIVIDE:
+                    return m_lefthandside.number( p_context ) / m_righthandside.number( p_context );
+
+                case POWER:
+                    return Math.pow( m_lefthandside.number( p_context ), m_righthandside.number( p_context ) );
+
+                default:
+                    return this.integral( p_context );
+            }
+        }
+
+        @Override
+        final long integral( @Nullable final IContext p_context )
+        {
+            return m_operator == EOperator.MODULO
+                   ? m_lefthandside.integral( p_context ) % m_righthandside.integral( p_context )
+                   : (long) this.number( p_context );
+        }
+
+        @Override
+        final boolean numeric()
+        {
+            return true;
+        }
+    }
+
+
+    /**
+     * relational node
+     */
+    private static final class CRelationalNode extends IBaseBinaryNode
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -1904813716530924474L;
+
+        /**
+         * ctor
+         *
+         * @param p_operator operator
+         * @param p_lefthandside left-hand-side node
+         * @param p_righthandside right-hand-side node
+         */
+        CRelationalNode( @Nonnull final EOperator p_operator, @Nonnull final IBaseNode p_lefthandside, @Nonnull final IBaseNode p_righthandside )
+        {
+            super( p_operator, p_lefthandside, p_righthandside );
+        }
+
+        @Nonnull
+        @Override
+        final Object value( @Nullable final IContext p_context )
+        {
+            return this.bool( p_context );
+        }
+
+        @Override
+        final boolean bool( @Nullable final IContext p_context )
+        {
+            final int l_compare = this.compare( p_context );
+            switch ( m_operator )
+            {
+                case GREATER:
+                    return l_compare > 0;
+
+                case GREATEREQUAL:
+                    return l_compare >= 0;
+
+                case LESS:
+                    return l_compare < 0;
+
+                default:
+                    return l_compare <= 0;
+            }
+        }
+
+        /**
+         * compares both operands
+         *
+         * @param p_context execution context
+         * @return compare value
+         */
+        @SuppressWarnings( "unchecked" )
+        private int compare( @Nullable final IContext p_context )
+        {
+            if ( m_lefthandside.numeric() && m_righthandside.numeric() )
+                return Double.compare( m_lefthandside.number( p_context ), m_righthandside.number( p_context ) );
+
+            final Object l_lefthandside = m_lefthandside.value( p_context );
+            final Object l_righthandside = m_righthandside.value( p_context );
+
+            return ( l_lefthandside instanceof Number ) && ( l_righthandside instanceof Number )
+                   ? Double.compare( ( (Number) l_lefthandside ).doubleValue(), ( (Number) l_righthandside ).doubleValue() )
+                   : ( (Comparable<Object>) l_lefthandside ).compareTo( l_righthandside );
+        }
+    }
+
+
+    /**
+     * equality node
+     */
+    private static final class CComparableNode extends IBaseBinaryNode
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 1766387373962063263L;
+
+        /**
+         * ctor
+         *
+         * @param p_operator operator
+         * @param p_lefthandside left-hand-side node
+         * @param p_righthandside right-hand-side node
+         */
+        CComparableNode( @Nonnull final EOperator p_operator, @Nonnull final IBaseNode p_lefthandside, @Nonnull final IBaseNode p_righthandside )
+        {
+            super( p_operator, p_lefthandside, p_righthandside );
+        }
+
+        @Nonnull
+        @Override
+        final Object value( @Nullable final IContext p_context )
+        {
+            return this.bool( p_context );
+        }
+
+        @Override
+        final boolean bool( @Nullable final IContext p_context )
+        {
+            return m_operator == EOperator.EQUAL ? this.equal( p_context ) : !this.equal( p_context );
+        }
+
+        /**
+         * checks equality of both operands
+         *
+         * @param p_context execution context
+         * @return equality flag
+         */
+        private boolean equal( @Nullable final IContext p_context )
+        {
+            if ( m_lefthandside.numeric() && m_righthandside.numeric() )
+                return Double.compare( m_lefthandside.number( p_context ), m_righthandside.number( p_context ) ) == 0;
+
+            final Object l_lefthandside = m_lefthandside.value( p_context );
+            final Object l_righthandside = m_righthandside.value( p_context );
+
+            return ( l_lefthandside instanceof Number ) && ( l_righthandside instanceof Number )
+                   ? Double.compare( ( (Number) l_lefthandside ).doubleValue(), ( (Number) l_righthandside ).doubleValue() ) == 0
+                   : l_lefthandside.equals( l_righthandside );
+        }
+    }
+
+
+    /**
+     * logical node with short-circuit evaluation
+     */
+    private static final class CLogicalNode extends IBaseBinaryNode
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -7426839584316375521L;
+
+        /**
+         * ctor
+         *
+         * @param p_operator operator
+         * @param p_lefthandside left-hand-side node
+         * @param p_righthandside right-hand-side node
+         */
+        CLogicalNode( @Nonnull final EOperator p_operator, @Nonnull final IBaseNode p_lefthandside, @Nonnull final IBaseNode p_righthandside )
+        {
+            super( p_operator, p_lefthandside, p_righthandside );
+        }
+
+        @Nonnull
+        @Override
+        final Object value( @Nullable final IContext p_context )
+        {
+            return this.bool( p_context );
+        }
+
+        @Override
+        final boolean bool( @Nullable final IContext p_context )
+        {
+            switch ( m_operator )
+            {
+                case AND:
+                    return m_lefthandside.bool( p_context ) && m_righthandside.bool( p_context );
+
+                case OR:
+                    return m_lefthandside.bool( p_context ) || m_righthandside.bool( p_context );
+
+                default:
+                    return m_lefthandside.bool( p_context ) ^ m_righthandside.bool( p_context );
+            }
+        }
+    }
+
+
+    /**
+     * negation node
+     */
+    private static final class CNegationNode extends IBaseNode
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 2390286315396553453L;
+        /**
+         * expression node
+         */
+        private final IBaseNode m_expression;
+
+        /**
+         * ctor
+         *
+         * @param p_expression expression node
+         */
+        CNegationNode( @Nonnull final IBaseNode p_expression )
+        {
+            m_expression = p_expression;
+        }
+
+        @Nonnull
+        @Override
+        final Object value( @Nullable final IContext p_context )
+        {
+            return this.bool( p_context );
+        }
+
+        @Override
+        final boolean bool( @Nullable final IContext p_context )
+        {
+            return !m_expression.bool( p_context );
+        }
+
+        @Override
+        final boolean foldable()
+        {
+            return m_expression.constant();
+        }
+    }
+}
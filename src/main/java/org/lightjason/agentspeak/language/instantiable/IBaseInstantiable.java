@@ -26,6 +26,8 @@ package org.lightjason.agentspeak.language.instantiable;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.CSlotIndex;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
@@ -66,6 +68,11 @@ public abstract class IBaseInstantiable implements IInstantiable
      * hash code
      */
     private final int m_hash;
+    /**
+     * slot index of the variables, which is created on the first instantiation
+     * and extended by variables of the agent, which are not used by the instance
+     */
+    private volatile CSlotIndex m_slots;
 
 
     /**
@@ -98,7 +105,31 @@ public abstract class IBaseInstantiable implements IInstantiable
     @Override
     public final IContext instantiate( @Nonnull final IAgent<?> p_agent, @Nonnull final Stream<IVariable<?>> p_variable )
     {
-        return CCommon.instantiate( this, p_agent, p_variable );
+        final CSlotIndex l_slots = this.slots();
+        final CContext l_context = CCommon.instantiate( this, l_slots, p_agent, p_variable );
+
+        if ( l_context.slots() != l_slots )
+            m_slots = l_context.slots();
+
+        return l_context;
+    }
+
+    /**
+     * returns the slot index of the variables
+     *
+     * @return slot index
+     */
+    @Nonnull
+    protected final CSlotIndex slots()
+    {
+        final CSlotIndex l_slots = m_slots;
+        if ( l_slots != null )
+            return l_slots;
+
+        // the index can only be created after the construction, because sub-classes add variables,
+        // a concurrent first call creates an equal index twice
+        m_slots = CSlotIndex.from( this.variables() );
+        return m_slots;
     }
 
     @Nonnull
@@ -28,6 +28,7 @@ import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.expression.CCompiledExpression;
 import org.lightjason.agentspeak.language.execution.expression.IExpression;
 import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -103,7 +104,7 @@ public final class CPlan extends IBaseInstantiable implements IPlan
         );
 
         m_triggerevent = p_event;
-        m_condition = p_condition;
+        m_condition = CCompiledExpression.from( p_condition );
     }
 
     @Nonnull
@@ -145,6 +146,9 @@ public final class CPlan extends IBaseInstantiable implements IPlan
 
         */
 
+        if ( m_condition instanceof CCompiledExpression )
+            return CFuzzyValue.from( ( (CCompiledExpression) m_condition ).bool( p_context ) );
+
         final List<ITerm> l_return = new LinkedList<>();
         return CFuzzyValue.from(
             m_condition.execute( false, p_context, Collections.emptyList(), l_return ).value()
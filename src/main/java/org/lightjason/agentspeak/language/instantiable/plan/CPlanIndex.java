@@ -0,0 +1,203 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.language.instantiable.plan;
+
+import com.google.common.collect.Sets;
+import org.lightjason.agentspeak.beliefbase.storage.CArgumentDiscriminator;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.instantiable.plan.statistic.CPlanStatistic;
+import org.lightjason.agentspeak.language.instantiable.plan.statistic.IPlanStatistic;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * lock-free plan index, plans are bucketed by
+ * the structure hash of the trigger, which contains
+ * the trigger type, functor, arity and the structure
+ * of the literal arguments, and by the first ground
+ * argument of the trigger literal, plans with a variable
+ * at this position are stored in a wildcard bucket, so a
+ * lookup returns the ground and wildcard plans only
+ */
+public final class CPlanIndex implements IPlanIndex
+{
+    /**
+     * index key of plans without ground first argument
+     */
+    private static final Object WILDCARD = new Object();
+    /**
+     * discriminator of the first ground argument
+     */
+    private static final Function<ILiteral, Object> DISCRIMINATOR = CArgumentDiscriminator.from( 0 );
+    /**
+     * index of plans with trigger structure hash and discriminator
+     */
+    private final ConcurrentMap<Integer, ConcurrentMap<Object, Set<IPlanStatistic>>> m_index = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     */
+    private CPlanIndex()
+    {
+    }
+
+    @Override
+    public final boolean put( @Nonnull final ITrigger p_trigger, @Nonnull final IPlanStatistic p_plan )
+    {
+        final boolean[] l_added = new boolean[1];
+        m_index.computeIfAbsent( p_trigger.structurehash(), i -> new ConcurrentHashMap<>() )
+               .compute( discriminator( p_trigger ), ( i, j ) ->
+               {
+                   final Set<IPlanStatistic> l_plans = j == null ? new ConcurrentSkipListSet<>() : j;
+                   l_added[0] = l_plans.add( p_plan );
+                   return l_plans;
+               } );
+        return l_added[0];
+    }
+
+    @Nonnull
+    @Override
+    public final Collection<IPlanStatistic> get( @Nonnull final ITrigger p_trigger )
+    {
+        final Map<Object, Set<IPlanStatistic>> l_bucket = m_index.get( p_trigger.structurehash() );
+        if ( l_bucket == null )
+            return Collections.emptySet();
+
+        // a trigger without ground first argument can be unified with all plans
+        final Object l_discriminator = discriminator( p_trigger );
+        if ( l_discriminator == WILDCARD )
+            return Collections.unmodifiableList( l_bucket.values().stream().flatMap( Collection::stream ).collect( Collectors.toList() ) );
+
+        final Set<IPlanStatistic> l_ground = l_bucket.getOrDefault( l_discriminator, Collections.emptySet() );
+        final Set<IPlanStatistic> l_wildcard = l_bucket.getOrDefault( WILDCARD, Collections.emptySet() );
+        return Collections.unmodifiableSet(
+            l_wildcard.isEmpty()
+            ? l_ground
+            : l_ground.isEmpty()
+              ? l_wildcard
+              : Sets.union( l_ground, l_wildcard )
+        );
+    }
+
+    @Nonnull
+    @Override
+    public final Collection<IPlanStatistic> removeAll( @Nonnull final ITrigger p_trigger )
+    {
+        final Map<Object, Set<IPlanStatistic>> l_bucket = m_index.get( p_trigger.structurehash() );
+        if ( l_bucket == null )
+            return Collections.emptySet();
+
+        final Set<IPlanStatistic> l_plans = l_bucket.remove( discriminator( p_trigger ) );
+        return l_plans == null ? Collections.emptySet() : Collections.unmodifiableSet( l_plans );
+    }
+
+    @Nonnull
+    @Override
+    public final Collection<IPlanStatistic> values()
+    {
+        return Collections.unmodifiableList(
+            m_index.values().stream().flatMap( i -> i.values().stream() ).flatMap( Collection::stream ).collect( Collectors.toList() )
+        );
+    }
+
+    @Nonnegative
+    @Override
+    public final int size()
+    {
+        return m_index.values().stream().flatMap( i -> i.values().stream() ).mapToInt( Set::size ).sum();
+    }
+
+    @Override
+    public final boolean isEmpty()
+    {
+        return m_index.values().stream().flatMap( i -> i.values().stream() ).allMatch( Set::isEmpty );
+    }
+
+    @Override
+    public final void clear()
+    {
+        m_index.clear();
+    }
+
+    @Override
+    public final String toString()
+    {
+        return m_index.values().toString();
+    }
+
+    /**
+     * returns the index key of the first
+     * ground argument of the trigger literal
+     *
+     * @param p_trigger trigger
+     * @return discriminator or wildcard
+     */
+    @Nonnull
+    private static Object discriminator( @Nonnull final ITrigger p_trigger )
+    {
+        final Object l_discriminator = DISCRIMINATOR.apply( p_trigger.literal() );
+        return l_discriminator == null ? WILDCARD : l_discriminator;
+    }
+
+
+    /**
+     * creates an empty index
+     *
+     * @return plan index
+     */
+    @Nonnull
+    public static IPlanIndex from()
+    {
+        return new CPlanIndex();
+    }
+
+    /**
+     * creates an index with plans
+     *
+     * @param p_plans plan stream
+     * @return plan index
+     */
+    @Nonnull
+    public static IPlanIndex from( @Nonnull final Stream<IPlan> p_plans )
+    {
+        final IPlanIndex l_index = new CPlanIndex();
+        p_plans.map( CPlanStatistic::from ).forEach( i -> l_index.put( i.plan().trigger(), i ) );
+        return l_index;
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.language.instantiable.plan;
+
+import org.lightjason.agentspeak.language.instantiable.plan.statistic.IPlanStatistic;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * plan index, which maps a trigger to all
+ * plans, which can be unified with the trigger
+ */
+public interface IPlanIndex
+{
+    /**
+     * empty index
+     */
+    IPlanIndex EMPTY = new IPlanIndex()
+    {
+        @Override
+        public final boolean put( @Nonnull final ITrigger p_trigger, @Nonnull final IPlanStatistic p_plan )
+        {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public final Collection<IPlanStatistic> get( @Nonnull final ITrigger p_trigger )
+        {
+            return Collections.emptySet();
+        }
+
+        @Nonnull
+        @Override
+        public final Collection<IPlanStatistic> removeAll( @Nonnull final ITrigger p_trigger )
+        {
+            return Collections.emptySet();
+        }
+
+        @Nonnull
+        @Override
+        public final Collection<IPlanStatistic> values()
+        {
+            return Collections.emptyList();
+        }
+
+        @Nonnegative
+        @Override
+        public final int size()
+        {
+            return 0;
+        }
+
+        @Override
+        public final boolean isEmpty()
+        {
+            return true;
+        }
+
+        @Override
+        public final void clear()
+        {
+        }
+    };
+
+
+    /**
+     * adds a plan
+     *
+     * @param p_trigger trigger
+     * @param p_plan plan statistic
+     * @return flag that the plan is added
+     */
+    boolean put( @Nonnull final ITrigger p_trigger, @Nonnull final IPlanStatistic p_plan );
+
+    /**
+     * returns all plans which can be matched by the trigger
+     *
+     * @param p_trigger trigger
+     * @return unmodifiable collection of plans
+     */
+    @Nonnull
+    Collection<IPlanStatistic> get( @Nonnull final ITrigger p_trigger );
+
+    /**
+     * removes all plans, which are stored with the trigger,
+     * a ground trigger does not remove plans with variables
+     *
+     * @param p_trigger trigger
+     * @return collection of removed plans
+     */
+    @Nonnull
+    Collection<IPlanStatistic> removeAll( @Nonnull final ITrigger p_trigger );
+
+    /**
+     * returns all plans
+     *
+     * @return unmodifiable collection of plans
+     */
+    @Nonnull
+    Collection<IPlanStatistic> values();
+
+    /**
+     * number of plans
+     *
+     * @return size
+     */
+    @Nonnegative
+    int size();
+
+    /**
+     * returns if the index is empty
+     *
+     * @return empty flag
+     */
+    boolean isEmpty();
+
+    /**
+     * removes all plans
+     */
+    void clear();
+
+}
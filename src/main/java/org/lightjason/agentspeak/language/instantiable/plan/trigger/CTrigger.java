@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.language.instantiable.plan.trigger;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.unify.CMatcher;
 
 import javax.annotation.Nonnull;
 import java.text.MessageFormat;
@@ -60,6 +61,11 @@ public final class CTrigger implements ITrigger
      * content hashcode
      */
     private final int m_structurehash;
+    /**
+     * compiled literal, which is
+     * created on the first unification
+     */
+    private transient volatile CMatcher m_matcher;
 
     /**
      * ctor
@@ -125,6 +131,21 @@ public final class CTrigger implements ITrigger
         return m_variables;
     }
 
+    @Nonnull
+    @Override
+    public final CMatcher matcher()
+    {
+        // only plan triggers are used as unification target, so the literal is compiled lazy,
+        // a concurrent first call compiles an equal matcher twice
+        CMatcher l_matcher = m_matcher;
+        if ( l_matcher == null )
+        {
+            l_matcher = CMatcher.from( m_literal );
+            m_matcher = l_matcher;
+        }
+        return l_matcher;
+    }
+
     @Override
     public final int structurehash()
     {
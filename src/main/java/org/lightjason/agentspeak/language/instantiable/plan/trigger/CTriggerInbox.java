@@ -0,0 +1,374 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan.trigger;
+
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalArgumentException;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * lock-free trigger inbox with a queue for each priority class,
+ * the queue depth is reserved with a compare-and-set before the
+ * trigger is enqueued, so the capacity is never exceeded
+ *
+ * @note deduplication compares the trigger type and the literal
+ * structure, so triggers with equal hash codes are not merged
+ */
+public final class CTriggerInbox implements ITriggerInbox
+{
+    /**
+     * queues of the priority classes, the first queue
+     * is drained first, the last queue is dropped first
+     */
+    private final List<Queue<CEntry>> m_queues;
+    /**
+     * priority class of each trigger type
+     */
+    private final int[] m_priority;
+    /**
+     * queued triggers for deduplication
+     */
+    private final Set<CEntry> m_unique;
+    /**
+     * capacity
+     */
+    private final int m_capacity;
+    /**
+     * overflow policy
+     */
+    private final EOverflow m_overflow;
+    /**
+     * queue depth
+     */
+    private final AtomicInteger m_size = new AtomicInteger();
+    /**
+     * largest queue depth
+     */
+    private final AtomicInteger m_maximum = new AtomicInteger();
+    /**
+     * number of rejected triggers
+     */
+    private final LongAdder m_rejected = new LongAdder();
+    /**
+     * number of dropped triggers
+     */
+    private final LongAdder m_dropped = new LongAdder();
+
+    /**
+     * ctor
+     *
+     * @param p_capacity capacity
+     * @param p_overflow overflow policy
+     * @param p_deduplicate deduplicate triggers
+     * @param p_priority trigger types of the priority classes
+     */
+    private CTriggerInbox( @Nonnegative final int p_capacity, @Nonnull final EOverflow p_overflow, final boolean p_deduplicate,
+                           @Nonnull final ITrigger.EType[] p_priority )
+    {
+        if ( p_capacity < 1 )
+            throw new CIllegalArgumentException( CCommon.languagestring( this, "capacity", p_capacity ) );
+
+        m_capacity = p_capacity;
+        m_overflow = p_overflow;
+        m_unique = p_deduplicate ? ConcurrentHashMap.newKeySet() : null;
+
+        // types without a priority class are put into the last class
+        m_priority = new int[ITrigger.EType.values().length];
+        Arrays.fill( m_priority, p_priority.length );
+        IntStream.range( 0, p_priority.length )
+                 .filter( i -> m_priority[p_priority[i].ordinal()] == p_priority.length )
+                 .forEach( i -> m_priority[p_priority[i].ordinal()] = i );
+
+        m_queues = Collections.unmodifiableList(
+            IntStream.rangeClosed( 0, p_priority.length )
+                     .mapToObj( i -> new ConcurrentLinkedQueue<CEntry>() )
+                     .collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * factory of an unbounded inbox with
+     * deduplication and without priorities
+     *
+     * @return inbox
+     */
+    @Nonnull
+    public static ITriggerInbox from()
+    {
+        return new CTriggerInbox( Integer.MAX_VALUE, EOverflow.REJECT, true, new ITrigger.EType[0] );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_capacity capacity
+     * @param p_overflow overflow policy
+     * @param p_deduplicate deduplicate triggers
+     * @param p_priority trigger types in descending priority, each type defines
+     * a priority class, types which are not listed are drained at last
+     * @return inbox
+     */
+    @Nonnull
+    public static ITriggerInbox from( @Nonnegative final int p_capacity, @Nonnull final EOverflow p_overflow, final boolean p_deduplicate,
+                                      @Nonnull final ITrigger.EType... p_priority )
+    {
+        return new CTriggerInbox( p_capacity, p_overflow, p_deduplicate, p_priority );
+    }
+
+    @Override
+    public final boolean push( @Nonnull final ITrigger p_trigger )
+    {
+        final CEntry l_entry = new CEntry( p_trigger );
+        if ( ( m_unique != null ) && ( !m_unique.add( l_entry ) ) )
+            return true;
+
+        if ( !this.reserve() )
+        {
+            if ( m_unique != null )
+                m_unique.remove( l_entry );
+            m_rejected.increment();
+            return false;
+        }
+
+        m_queues.get( m_priority[p_trigger.type().ordinal()] ).offer( l_entry );
+        return true;
+    }
+
+    @Nonnull
+    @Override
+    public final Collection<ITrigger> drain()
+    {
+        // triggers which are pushed during draining are kept for the next cycle
+        final int l_size = m_size.get();
+        if ( l_size == 0 )
+            return Collections.emptyList();
+
+        final List<ITrigger> l_triggers = new ArrayList<>( l_size );
+        for ( final Queue<CEntry> l_queue : m_queues )
+            while ( l_triggers.size() < l_size )
+            {
+                final CEntry l_entry = this.poll( l_queue );
+                if ( l_entry == null )
+                    break;
+
+                l_triggers.add( l_entry.m_trigger );
+            }
+
+        return l_triggers;
+    }
+
+    @Nonnegative
+    @Override
+    public final int size()
+    {
+        return m_size.get();
+    }
+
+    @Nonnegative
+    @Override
+    public final int capacity()
+    {
+        return m_capacity;
+    }
+
+    @Nonnegative
+    @Override
+    public final int maximum()
+    {
+        return m_maximum.get();
+    }
+
+    @Nonnegative
+    @Override
+    public final long rejected()
+    {
+        return m_rejected.sum();
+    }
+
+    @Nonnegative
+    @Override
+    public final long dropped()
+    {
+        return m_dropped.sum();
+    }
+
+    @Override
+    public final String toString()
+    {
+        return m_queues.stream()
+                       .flatMap( Collection::stream )
+                       .map( i -> i.m_trigger )
+                       .collect( Collectors.toList() )
+                       .toString();
+    }
+
+    /**
+     * reserves a slot of the queue depth, on overflow
+     * the slot of the dropped trigger is reused
+     *
+     * @return true if a slot is reserved
+     */
+    private boolean reserve()
+    {
+        while ( true )
+        {
+            final int l_size = m_size.get();
+            if ( l_size < m_capacity )
+            {
+                if ( m_size.compareAndSet( l_size, l_size + 1 ) )
+                {
+                    m_maximum.accumulateAndGet( l_size + 1, Math::max );
+                    return true;
+                }
+                continue;
+            }
+
+            if ( m_overflow == EOverflow.REJECT )
+                return false;
+
+            // the slot is released by poll, so it is reserved again for the new trigger
+            for ( int l_index = m_queues.size() - 1; l_index > -1; l_index-- )
+                if ( this.poll( m_queues.get( l_index ) ) != null )
+                {
+                    m_dropped.increment();
+                    break;
+                }
+        }
+    }
+
+    /**
+     * removes the head of a queue
+     *
+     * @param p_queue queue
+     * @return entry or null if the queue is empty
+     */
+    private CEntry poll( @Nonnull final Queue<CEntry> p_queue )
+    {
+        final CEntry l_entry = p_queue.poll();
+        if ( l_entry == null )
+            return null;
+
+        m_size.decrementAndGet();
+        if ( m_unique != null )
+            m_unique.remove( l_entry );
+        return l_entry;
+    }
+
+    /**
+     * checks the structure equality of two terms
+     *
+     * @param p_lhs left-hand term
+     * @param p_rhs right-hand term
+     * @return equality
+     */
+    private static boolean equal( @Nonnull final ITerm p_lhs, @Nonnull final ITerm p_rhs )
+    {
+        if ( p_lhs == p_rhs )
+            return true;
+
+        if ( ( p_lhs instanceof ILiteral ) && ( p_rhs instanceof ILiteral ) )
+            return equal( (ILiteral) p_lhs, (ILiteral) p_rhs );
+
+        return ( !( p_lhs instanceof ILiteral ) ) && ( !( p_rhs instanceof ILiteral ) )
+               && p_lhs.fqnfunctor().equals( p_rhs.fqnfunctor() )
+               && Objects.equals( p_lhs.raw(), p_rhs.raw() );
+    }
+
+    /**
+     * checks the structure equality of two literals
+     *
+     * @param p_lhs left-hand literal
+     * @param p_rhs right-hand literal
+     * @return equality
+     */
+    private static boolean equal( @Nonnull final ILiteral p_lhs, @Nonnull final ILiteral p_rhs )
+    {
+        if ( ( p_lhs.negated() != p_rhs.negated() ) || ( p_lhs.hasAt() != p_rhs.hasAt() )
+             || ( p_lhs.valuesize() != p_rhs.valuesize() ) || ( !p_lhs.fqnfunctor().equals( p_rhs.fqnfunctor() ) ) )
+            return false;
+
+        for ( int i = 0; i < p_lhs.valuesize(); i++ )
+            if ( !equal( p_lhs.orderedvalue( i ), p_rhs.orderedvalue( i ) ) )
+                return false;
+
+        return true;
+    }
+
+
+    /**
+     * queue entry, which defines the
+     * structure equality of the trigger
+     */
+    private static final class CEntry
+    {
+        /**
+         * trigger
+         */
+        private final ITrigger m_trigger;
+
+        /**
+         * ctor
+         *
+         * @param p_trigger trigger
+         */
+        CEntry( @Nonnull final ITrigger p_trigger )
+        {
+            m_trigger = p_trigger;
+        }
+
+        @Override
+        public final int hashCode()
+        {
+            return m_trigger.hashCode();
+        }
+
+        @Override
+        public final boolean equals( final Object p_object )
+        {
+            return ( p_object instanceof CEntry )
+                   && ( m_trigger.type() == ( (CEntry) p_object ).m_trigger.type() )
+                   && equal( m_trigger.literal(), ( (CEntry) p_object ).m_trigger.literal() );
+        }
+    }
+
+}
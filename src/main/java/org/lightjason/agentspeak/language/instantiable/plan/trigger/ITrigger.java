@@ -29,6 +29,7 @@ import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.IShallowCopy;
 import org.lightjason.agentspeak.language.IStructureHash;
+import org.lightjason.agentspeak.language.unify.CMatcher;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -102,6 +103,13 @@ public interface ITrigger extends Serializable, IStructureHash, IShallowCopy<ITr
             return 0;
         }
 
+        @Nonnull
+        @Override
+        public final CMatcher matcher()
+        {
+            return CMatcher.EMPTY;
+        }
+
         @Override
         public final int hashCode()
         {
@@ -136,6 +144,14 @@ public interface ITrigger extends Serializable, IStructureHash, IShallowCopy<ITr
      */
     int variablesize();
 
+    /**
+     * returns the compiled literal for unification
+     *
+     * @return matcher
+     */
+    @Nonnull
+    CMatcher matcher();
+
 
 
     /**
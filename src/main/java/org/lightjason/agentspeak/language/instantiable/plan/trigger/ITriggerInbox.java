@@ -0,0 +1,169 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.instantiable.plan.trigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * inbox of the triggers for the next agent cycle, any
+ * thread can push triggers into the inbox, but only the
+ * agent cycle drains it, so the implementation must be
+ * thread-safe for multiple producers and one consumer
+ */
+public interface ITriggerInbox
+{
+    /**
+     * empty inbox, which discards every trigger
+     */
+    ITriggerInbox EMPTY = new ITriggerInbox()
+    {
+        @Override
+        public final boolean push( @Nonnull final ITrigger p_trigger )
+        {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public final Collection<ITrigger> drain()
+        {
+            return Collections.emptyList();
+        }
+
+        @Nonnegative
+        @Override
+        public final int size()
+        {
+            return 0;
+        }
+
+        @Nonnegative
+        @Override
+        public final int capacity()
+        {
+            return 0;
+        }
+
+        @Nonnegative
+        @Override
+        public final int maximum()
+        {
+            return 0;
+        }
+
+        @Nonnegative
+        @Override
+        public final long rejected()
+        {
+            return 0;
+        }
+
+        @Nonnegative
+        @Override
+        public final long dropped()
+        {
+            return 0;
+        }
+    };
+
+    /**
+     * adds a trigger to the inbox
+     *
+     * @param p_trigger trigger
+     * @return false if the inbox rejects the trigger
+     */
+    boolean push( @Nonnull final ITrigger p_trigger );
+
+    /**
+     * removes the triggers of the inbox
+     *
+     * @return triggers ordered by priority
+     */
+    @Nonnull
+    Collection<ITrigger> drain();
+
+    /**
+     * number of queued triggers
+     *
+     * @return queue depth
+     */
+    @Nonnegative
+    int size();
+
+    /**
+     * maximum number of queued triggers
+     *
+     * @return capacity
+     */
+    @Nonnegative
+    int capacity();
+
+    /**
+     * largest queue depth which was reached
+     *
+     * @return queue depth
+     */
+    @Nonnegative
+    int maximum();
+
+    /**
+     * number of rejected triggers
+     *
+     * @return number of triggers
+     */
+    @Nonnegative
+    long rejected();
+
+    /**
+     * number of triggers which are
+     * dropped for newer triggers
+     *
+     * @return number of triggers
+     */
+    @Nonnegative
+    long dropped();
+
+
+
+    /**
+     * overflow policy if the inbox is full
+     */
+    enum EOverflow
+    {
+        /**
+         * rejects the new trigger
+         */
+        REJECT,
+        /**
+         * drops the oldest trigger of the
+         * lowest priority for the new trigger
+         */
+        DROPOLDEST
+    }
+
+}
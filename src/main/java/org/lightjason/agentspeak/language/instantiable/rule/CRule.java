@@ -32,6 +32,7 @@ import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.execution.action.achievement_test.CAchievementRuleLiteral;
 import org.lightjason.agentspeak.language.instantiable.IBaseInstantiable;
 import org.lightjason.agentspeak.language.instantiable.plan.annotation.IAnnotation;
+import org.lightjason.agentspeak.language.unify.CMatcher;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
@@ -55,6 +56,10 @@ public final class CRule extends IBaseInstantiable implements IRule
      * identifier of the rule
      */
     private final ILiteral m_id;
+    /**
+     * compiled identifier
+     */
+    private final CMatcher m_matcher;
 
     /**
      * ctor
@@ -73,6 +78,7 @@ public final class CRule extends IBaseInstantiable implements IRule
             ).reduce( 0, ( i, j ) -> i ^ j )
         );
         m_id = p_id;
+        m_matcher = CMatcher.from( p_id );
     }
 
     @Nonnull
@@ -82,6 +88,13 @@ public final class CRule extends IBaseInstantiable implements IRule
         return m_id;
     }
 
+    @Nonnull
+    @Override
+    public final CMatcher matcher()
+    {
+        return m_matcher;
+    }
+
     @Nonnull
     @Override
     @SuppressWarnings( "unchecked" )
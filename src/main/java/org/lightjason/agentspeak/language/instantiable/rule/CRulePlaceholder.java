@@ -29,9 +29,11 @@ import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.CSlotIndex;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.unify.CMatcher;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
@@ -77,6 +79,13 @@ public final class CRulePlaceholder implements IRule
         return m_id;
     }
 
+    @Nonnull
+    @Override
+    public final CMatcher matcher()
+    {
+        return CMatcher.from( m_id );
+    }
+
     @Nonnull
     @Override
     public final IRule replaceplaceholder( @Nonnull final Multimap<IPath, IRule> p_rules )
@@ -88,7 +97,7 @@ public final class CRulePlaceholder implements IRule
     @Override
     public final IContext instantiate( @Nonnull final IAgent<?> p_agent, @Nonnull final Stream<IVariable<?>> p_variable )
     {
-        return CCommon.instantiate( this, p_agent, p_variable );
+        return CCommon.instantiate( this, CSlotIndex.EMPTY, p_agent, p_variable );
     }
 
     @Nonnull
@@ -0,0 +1,206 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+
+/**
+ * rule table, which stores the results of rule calls by the
+ * ground input arguments, the unbound output variables of a call
+ * are stored as answer bindings, which are set into the caller
+ * context if the call is answered by the table
+ *
+ * @note the agent clears the table at each cycle, so belief
+ * changes within the current cycle are not seen by stored results
+ */
+public final class CRuleTable implements IRuleTable
+{
+    /**
+     * map with the rule call, the position of the output
+     * variables and the result with answer bindings
+     */
+    private final Map<Pair<ILiteral, List<Integer>>, CAnswer> m_results = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     */
+    private CRuleTable()
+    {
+    }
+
+    /**
+     * factory
+     *
+     * @return rule table
+     */
+    @Nonnull
+    public static IRuleTable from()
+    {
+        return new CRuleTable();
+    }
+
+    @Nonnull
+    @Override
+    public final IFuzzyValue<Boolean> apply( @Nonnull final IContext p_context, @Nonnull final ILiteral p_call,
+                                             @Nonnull final Function<ILiteral, IFuzzyValue<Boolean>> p_execution )
+    {
+        // output variables are replaced within the key, so calls with different variable names share their results
+        final List<IVariable<?>> l_output = new ArrayList<>();
+        final List<Integer> l_position = new ArrayList<>();
+        final Pair<ILiteral, List<Integer>> l_key = new ImmutablePair<>(
+            key( p_call.unify( p_context ), l_output, l_position ),
+            Collections.unmodifiableList( l_position )
+        );
+
+        // recursive rules store their results during the execution, so computeIfAbsent cannot be used
+        final CAnswer l_answer = m_results.get( l_key );
+        if ( l_answer != null )
+            return l_answer.bind( l_output );
+
+        final IFuzzyValue<Boolean> l_execution = p_execution.apply( p_call );
+        m_results.putIfAbsent( l_key, new CAnswer( l_execution, l_output ) );
+        return l_execution;
+    }
+
+    @Nonnull
+    @Override
+    public final IRuleTable clear()
+    {
+        m_results.clear();
+        return this;
+    }
+
+    @Nonnegative
+    @Override
+    public final int size()
+    {
+        return m_results.size();
+    }
+
+    /**
+     * builds the key literal of a call, unbound variables
+     * are replaced by an empty term and their index is
+     * stored by the position in the literal
+     *
+     * @param p_literal unified call literal
+     * @param p_output distinct output variables
+     * @param p_position variable index of each replaced term
+     * @return key literal
+     */
+    @Nonnull
+    private static ILiteral key( @Nonnull final ILiteral p_literal, @Nonnull final List<IVariable<?>> p_output, @Nonnull final List<Integer> p_position )
+    {
+        if ( !p_literal.hasVariable() )
+            return p_literal;
+
+        final ITerm[] l_values = new ITerm[p_literal.valuesize()];
+        for ( int i = 0; i < l_values.length; i++ )
+        {
+            final ITerm l_value = p_literal.orderedvalue( i );
+            if ( l_value instanceof IVariable<?> )
+            {
+                int l_index = p_output.indexOf( l_value );
+                if ( l_index < 0 )
+                {
+                    l_index = p_output.size();
+                    p_output.add( (IVariable<?>) l_value );
+                }
+
+                p_position.add( l_index );
+                l_values[i] = CRawTerm.EMPTY;
+            }
+            else
+                l_values[i] = l_value instanceof ILiteral ? key( (ILiteral) l_value, p_output, p_position ) : l_value;
+        }
+
+        return CLiteral.from( p_literal.hasAt(), p_literal.negated(), p_literal.fqnfunctor(), l_values );
+    }
+
+
+    /**
+     * result of a rule call with the values
+     * of the output variables
+     */
+    private static final class CAnswer
+    {
+        /**
+         * result
+         */
+        private final IFuzzyValue<Boolean> m_result;
+        /**
+         * values of the output variables, null if
+         * the variable is not bound by the call
+         */
+        private final Object[] m_values;
+
+        /**
+         * ctor
+         *
+         * @param p_result result
+         * @param p_output output variables after the call
+         */
+        CAnswer( @Nonnull final IFuzzyValue<Boolean> p_result, @Nonnull final List<IVariable<?>> p_output )
+        {
+            m_result = p_result;
+            m_values = p_output.stream().map( i -> i.allocated() ? i.raw() : null ).toArray();
+        }
+
+        /**
+         * sets the answer bindings into the output variables
+         *
+         * @param p_output output variables of the caller
+         * @return result
+         */
+        @Nonnull
+        @SuppressWarnings( "unchecked" )
+        final IFuzzyValue<Boolean> bind( @Nonnull final List<IVariable<?>> p_output )
+        {
+            for ( int i = 0; i < m_values.length; i++ )
+                if ( m_values[i] != null )
+                    ( (IVariable<Object>) p_output.get( i ) ).set( m_values[i] );
+
+            return m_result;
+        }
+    }
+
+}
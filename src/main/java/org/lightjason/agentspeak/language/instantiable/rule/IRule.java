@@ -33,6 +33,7 @@ import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.unify.CMatcher;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
@@ -60,6 +61,13 @@ public interface IRule extends IInstantiable
             return CLiteral.from( "empty" );
         }
 
+        @Nonnull
+        @Override
+        public final CMatcher matcher()
+        {
+            return CMatcher.EMPTY;
+        }
+
         @Nonnull
         @Override
         public final IRule replaceplaceholder( @Nonnull final Multimap<IPath, IRule> p_rules )
@@ -99,6 +107,14 @@ public interface IRule extends IInstantiable
     @Nonnull
     ILiteral identifier();
 
+    /**
+     * returns the compiled identifier for unification
+     *
+     * @return matcher
+     */
+    @Nonnull
+    CMatcher matcher();
+
     /**
      * replaces all placeholder objects and reinstantiate object
      *
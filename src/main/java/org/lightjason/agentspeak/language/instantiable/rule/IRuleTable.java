@@ -0,0 +1,100 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.language.instantiable.rule;
+
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.function.Function;
+
+
+/**
+ * table of rule results, which stores the results
+ * of rule calls with their answer bindings
+ */
+public interface IRuleTable
+{
+    /**
+     * empty table, which executes every call
+     */
+    IRuleTable EMPTY = new IRuleTable()
+    {
+        @Nonnull
+        @Override
+        public final IFuzzyValue<Boolean> apply( @Nonnull final IContext p_context, @Nonnull final ILiteral p_call,
+                                                 @Nonnull final Function<ILiteral, IFuzzyValue<Boolean>> p_execution )
+        {
+            return p_execution.apply( p_call );
+        }
+
+        @Nonnull
+        @Override
+        public final IRuleTable clear()
+        {
+            return this;
+        }
+
+        @Nonnegative
+        @Override
+        public final int size()
+        {
+            return 0;
+        }
+    };
+
+    /**
+     * returns the result of a rule call, if the call
+     * is stored the result is returned and the answer
+     * bindings are set, otherwise the call is executed
+     *
+     * @param p_context execution context
+     * @param p_call allocated rule call literal
+     * @param p_execution execution of the rule call
+     * @return rule result
+     */
+    @Nonnull
+    IFuzzyValue<Boolean> apply( @Nonnull final IContext p_context, @Nonnull final ILiteral p_call,
+                                @Nonnull final Function<ILiteral, IFuzzyValue<Boolean>> p_execution );
+
+    /**
+     * removes all results
+     *
+     * @return self reference
+     */
+    @Nonnull
+    IRuleTable clear();
+
+    /**
+     * number of stored results
+     *
+     * @return size
+     */
+    @Nonnegative
+    int size();
+
+}
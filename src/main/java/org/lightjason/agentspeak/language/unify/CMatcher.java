@@ -0,0 +1,300 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.unify;
+
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.variable.CRelocateMutexVariable;
+import org.lightjason.agentspeak.language.variable.CRelocateVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * compiled matcher of a literal with variables (plan trigger or rule head),
+ * the literal is flattened in pre-order into an instruction array, so
+ * the structure of a source literal is checked without any allocation
+ * and the variables are created only on a successful match, the results
+ * are equal to the recursive unification of a deep-copy of the literal
+ */
+public final class CMatcher implements Serializable
+{
+    /**
+     * empty matcher
+     */
+    public static final CMatcher EMPTY = new CMatcher( ILiteral.EMPTY );
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2947402457370384226L;
+    /**
+     * compiled literal
+     */
+    private final ILiteral m_literal;
+    /**
+     * operation of each instruction
+     */
+    private final EOperation[] m_operation;
+    /**
+     * term of each instruction
+     */
+    private final ITerm[] m_term;
+    /**
+     * number of values of a literal instruction
+     */
+    private final int[] m_size;
+    /**
+     * index of the next sibling instruction
+     */
+    private final int[] m_next;
+
+    /**
+     * ctor
+     *
+     * @param p_literal literal
+     */
+    private CMatcher( @Nonnull final ILiteral p_literal )
+    {
+        final List<ITerm> l_terms = new ArrayList<>();
+        CMatcher.flatten( p_literal, l_terms );
+
+        m_literal = p_literal;
+        m_operation = new EOperation[l_terms.size()];
+        m_term = l_terms.toArray( new ITerm[l_terms.size()] );
+        m_size = new int[m_term.length];
+        m_next = new int[m_term.length];
+
+        for ( int i = m_term.length - 1; i > -1; i-- )
+        {
+            m_operation[i] = EOperation.from( m_term[i] );
+            m_size[i] = m_operation[i] == EOperation.LITERAL ? ( (ILiteral) m_term[i] ).valuesize() : 0;
+            m_next[i] = i + 1;
+
+            // the next sibling of a literal follows its whole subtree
+            for ( int j = 0; j < m_size[i]; j++ )
+                m_next[i] = m_next[m_next[i]];
+        }
+    }
+
+    /**
+     * compiles a literal
+     *
+     * @param p_literal literal with variables
+     * @return matcher
+     */
+    @Nonnull
+    public static CMatcher from( @Nonnull final ILiteral p_literal )
+    {
+        return new CMatcher( p_literal );
+    }
+
+    /**
+     * returns the compiled literal
+     *
+     * @return literal
+     */
+    @Nonnull
+    public final ILiteral literal()
+    {
+        return m_literal;
+    }
+
+    /**
+     * unifies a source literal, the variables
+     * of the compiled literal are not modified
+     *
+     * @param p_source source literal (with data)
+     * @return set with allocated variables or an empty set if the structure does not match
+     */
+    @Nonnull
+    public final Set<IVariable<?>> unify( @Nonnull final ILiteral p_source )
+    {
+        if ( !this.match( p_source, 0, m_literal.valuesize() ) )
+            return Collections.emptySet();
+
+        final Set<IVariable<?>> l_variables = new HashSet<>();
+        this.bind( l_variables, p_source, 0, m_literal.valuesize() );
+        return l_variables;
+    }
+
+    @Override
+    public final int hashCode()
+    {
+        return m_literal.hashCode();
+    }
+
+    @Override
+    public final boolean equals( final Object p_object )
+    {
+        return ( p_object != null ) && ( p_object instanceof CMatcher ) && ( this.hashCode() == p_object.hashCode() );
+    }
+
+    @Override
+    public final String toString()
+    {
+        return m_literal.toString();
+    }
+
+    /**
+     * checks the structure of the source values, an empty value list
+     * on one side matches any values (like the recursive unification)
+     *
+     * @param p_source source literal
+     * @param p_index index of the first instruction
+     * @param p_size number of values of the compiled literal
+     * @return matching flag
+     */
+    private boolean match( @Nonnull final ILiteral p_source, final int p_index, final int p_size )
+    {
+        if ( ( p_size == 0 ) || ( p_source.emptyValues() ) )
+            return true;
+
+        if ( p_size != p_source.valuesize() )
+            return false;
+
+        for ( int i = 0, j = p_index; i < p_size; i++, j = m_next[j] )
+            if ( !this.match( p_source.orderedvalue( i ), j ) )
+                return false;
+
+        return true;
+    }
+
+    /**
+     * checks a single source value, variables match any value
+     *
+     * @param p_source source value
+     * @param p_index index of the instruction
+     * @return matching flag
+     */
+    private boolean match( @Nonnull final ITerm p_source, final int p_index )
+    {
+        if ( m_operation[p_index] == EOperation.VARIABLE )
+            return true;
+
+        if ( ( m_operation[p_index] == EOperation.CONSTANT ) || ( p_source instanceof IRawTerm<?> ) )
+            return p_source.equals( m_term[p_index] );
+
+        // a literal must be equal with the functor -> descent into the values
+        return ( p_source instanceof ILiteral )
+               && ( p_source.fqnfunctor().equals( m_term[p_index].fqnfunctor() ) )
+               && ( this.match( (ILiteral) p_source, p_index + 1, m_size[p_index] ) );
+    }
+
+    /**
+     * allocates the variables of a matched source literal,
+     * on repeated variables the first value is used
+     *
+     * @param p_variables variable set
+     * @param p_source source literal
+     * @param p_index index of the first instruction
+     * @param p_size number of values of the compiled literal
+     */
+    private void bind( @Nonnull final Set<IVariable<?>> p_variables, @Nonnull final ILiteral p_source, final int p_index, final int p_size )
+    {
+        if ( ( p_size == 0 ) || ( p_source.emptyValues() ) )
+            return;
+
+        for ( int i = 0, j = p_index; i < p_size; i++, j = m_next[j] )
+        {
+            final ITerm l_source = p_source.orderedvalue( i );
+
+            if ( ( m_operation[j] == EOperation.VARIABLE ) && ( !p_variables.contains( m_term[j] ) ) )
+                p_variables.add( CMatcher.allocate( m_term[j].term(), l_source ) );
+
+            if ( ( m_operation[j] == EOperation.LITERAL ) && ( l_source instanceof ILiteral ) )
+                this.bind( p_variables, (ILiteral) l_source, j + 1, m_size[j] );
+        }
+    }
+
+    /**
+     * creates the allocated copy of a variable, if source
+     * and target are variables a realocated variable is
+     * created for backtracking
+     *
+     * @param p_target target variable
+     * @param p_source source value
+     * @return variable
+     */
+    @Nonnull
+    private static IVariable<?> allocate( @Nonnull final IVariable<?> p_target, @Nonnull final ITerm p_source )
+    {
+        if ( p_source instanceof IVariable<?> )
+            return p_target.mutex()
+                   ? new CRelocateMutexVariable<>( p_target.fqnfunctor(), (IVariable<?>) p_source )
+                   : new CRelocateVariable<>( p_target.fqnfunctor(), (IVariable<?>) p_source );
+
+        return p_target.shallowcopy().<IVariable<Object>>term().set( p_source );
+    }
+
+    /**
+     * flattens the values of a literal in pre-order
+     *
+     * @param p_literal literal
+     * @param p_terms term list
+     */
+    private static void flatten( @Nonnull final ILiteral p_literal, @Nonnull final List<ITerm> p_terms )
+    {
+        p_literal.orderedvalues().forEach( i ->
+        {
+            p_terms.add( i );
+            if ( i instanceof ILiteral )
+                CMatcher.flatten( (ILiteral) i, p_terms );
+        } );
+    }
+
+
+    /**
+     * instruction operation
+     */
+    private enum EOperation
+    {
+        VARIABLE,
+        LITERAL,
+        CONSTANT;
+
+        /**
+         * returns the operation of a term
+         *
+         * @param p_term term
+         * @return operation
+         */
+        @Nonnull
+        public static EOperation from( @Nonnull final ITerm p_term )
+        {
+            if ( p_term instanceof IVariable<?> )
+                return VARIABLE;
+
+            return p_term instanceof ILiteral ? LITERAL : CONSTANT;
+        }
+    }
+
+}
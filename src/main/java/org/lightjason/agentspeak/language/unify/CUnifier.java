@@ -57,6 +57,11 @@ public final class CUnifier implements IUnifier
      * recursive unify algorithm
      */
     private final IAlgorithm m_recursive;
+    /**
+     * flag that compiled literals can be used, which is
+     * valid for the default algorithms only
+     */
+    private final boolean m_compiled;
 
     /**
      * ctor
@@ -76,6 +81,7 @@ public final class CUnifier implements IUnifier
     {
         m_hashbased = p_hashbased;
         m_recursive = p_recursive;
+        m_compiled = p_hashbased instanceof CHash && p_recursive instanceof CRecursive;
     }
 
     // --- inheritance & context modification ------------------------------------------------------------------------------------------------------------------
@@ -104,6 +110,13 @@ public final class CUnifier implements IUnifier
         return l_result;
     }
 
+    @Nonnull
+    @Override
+    public final Set<IVariable<?>> unify( @Nonnull final ILiteral p_source, @Nonnull final CMatcher p_target )
+    {
+        return m_compiled ? p_target.unify( p_source ) : IUnifier.super.unify( p_source, p_target );
+    }
+
     @Nonnull
     @Override
     public IFuzzyValue<Boolean> unify( @Nonnull final IContext p_context, @Nonnull final ILiteral p_literal, final long p_variables,
@@ -183,7 +196,10 @@ public final class CUnifier implements IUnifier
     }
 
     /**
-     * search all relevant literals within the agent beliefbase and unifies the variables
+     * search all relevant literals within the agent beliefbase and unifies the variables,
+     * the candidates are preselected by the beliefbase index and all candidates are
+     * matched sequentially against the compiled literal, so only the variables of a
+     * successful unification are created (custom algorithms unify a deep-copy instead)
      *
      * @param p_agent agent
      * @param p_literal literal search
@@ -192,10 +208,12 @@ public final class CUnifier implements IUnifier
      **/
     private List<Set<IVariable<?>>> variables( final IAgent<?> p_agent, final ILiteral p_literal, final long p_variablenumber )
     {
+        final CMatcher l_matcher = CMatcher.from( p_literal );
         return p_agent.beliefbase()
-                      .stream( p_literal.negated(), p_literal.fqnfunctor() )
+                      .stream( p_literal )
+                      .sequential()
                       .filter( i -> i.emptyValues() == p_literal.emptyValues() )
-                      .map( i -> this.unify( i, p_literal.deepcopy().<ILiteral>raw() ) )
+                      .map( i -> this.unify( i, l_matcher ) )
                       .filter( i -> p_variablenumber == i.size() )
                       .collect( Collectors.toList() );
     }
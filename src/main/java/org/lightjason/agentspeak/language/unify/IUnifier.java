@@ -76,6 +76,22 @@ public interface IUnifier
     @Nonnull
     Set<IVariable<?>> unify( @Nonnull final ILiteral p_source, @Nonnull final ILiteral p_target );
 
+    /**
+     * unifies a literal with a compiled literal,
+     * on default a deep-copy of the literal is unified
+     *
+     * @param p_source source literal (with data)
+     * @param p_target compiled target literal (with variables)
+     * @return set with allocated variables
+     *
+     * @note check input literal and result of correct unification
+     */
+    @Nonnull
+    default Set<IVariable<?>> unify( @Nonnull final ILiteral p_source, @Nonnull final CMatcher p_target )
+    {
+        return this.unify( p_source, p_target.literal().deepcopy().<ILiteral>raw() );
+    }
+
     /**
      * unifies the literal with the expression
      *
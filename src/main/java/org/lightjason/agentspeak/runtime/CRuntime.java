@@ -0,0 +1,517 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.runtime;
+
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.error.CIllegalStateException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+
+/**
+ * runtime to execute agent cycles on an executor, active agents
+ * are scheduled in small chunks, so idle workers can steal them,
+ * sleeping agents are not woken-up, they are only ticked within
+ * large chunks to count down the sleeping time
+ *
+ * @note the execution ordering of the agents within a cycle is not defined
+ */
+public final class CRuntime implements IRuntime
+{
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = CCommon.logger( IRuntime.class );
+    /**
+     * number of active agents which are executed within a single task
+     */
+    private static final int ACTIVECHUNK = 8;
+    /**
+     * number of sleeping agents which are executed within a single task
+     */
+    private static final int SLEEPINGCHUNK = 512;
+    /**
+     * agents
+     */
+    private final Set<IAgent<?>> m_agents = Collections.newSetFromMap( new ConcurrentHashMap<>() );
+    /**
+     * cycle counter
+     */
+    private final AtomicLong m_cycle = new AtomicLong();
+    /**
+     * statistic of the last cycle
+     */
+    private final AtomicReference<ICycleStatistic> m_statistic = new AtomicReference<>( ICycleStatistic.EMPTY );
+    /**
+     * executor
+     */
+    private final ExecutorService m_executor;
+    /**
+     * execution type
+     */
+    private final EExecution m_execution;
+    /**
+     * executor is created by the runtime and must be shutdown
+     */
+    private final boolean m_shutdown;
+
+
+    /**
+     * ctor
+     *
+     * @param p_execution execution type
+     * @param p_executor executor
+     * @param p_shutdown executor is shutdown on close
+     */
+    private CRuntime( @Nonnull final EExecution p_execution, @Nonnull final ExecutorService p_executor, final boolean p_shutdown )
+    {
+        m_execution = p_execution;
+        m_executor = p_executor;
+        m_shutdown = p_shutdown;
+    }
+
+    @Nonnull
+    @Override
+    public final IRuntime add( @Nonnull final IAgent<?> p_agent )
+    {
+        m_agents.add( p_agent );
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public final IRuntime remove( @Nonnull final IAgent<?> p_agent )
+    {
+        m_agents.remove( p_agent );
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public final IRuntime clear()
+    {
+        m_agents.clear();
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<IAgent<?>> stream()
+    {
+        return m_agents.stream();
+    }
+
+    @Nonnull
+    @Override
+    public final ICycleStatistic statistic()
+    {
+        return m_statistic.get();
+    }
+
+    @Override
+    public final IRuntime call() throws Exception
+    {
+        // split agents into active and sleeping agents, sleeping agents are not woken-up
+        final List<IAgent<?>> l_active = new ArrayList<>( m_agents.size() );
+        final List<IAgent<?>> l_sleeping = new ArrayList<>();
+        m_agents.forEach( i -> ( i.sleeping() ? l_sleeping : l_active ).add( i ) );
+
+        final long l_start = System.nanoTime();
+        final CAccumulator l_result = m_execution.execute( m_executor, l_active, l_sleeping );
+
+        m_statistic.set( new CStatistic( m_cycle.incrementAndGet(), System.nanoTime() - l_start, l_active.size(), l_sleeping.size(), l_result ) );
+        return this;
+    }
+
+    @Override
+    public final void close()
+    {
+        if ( m_shutdown )
+            m_executor.shutdown();
+    }
+
+    @Override
+    public final String toString()
+    {
+        return MessageFormat.format( "{0} ( {1} / agents: {2} / {3} )", super.toString(), m_execution, m_agents.size(), m_statistic.get() );
+    }
+
+
+    /**
+     * factory of a work-stealing runtime
+     * with the number of available processors
+     *
+     * @return runtime
+     */
+    @Nonnull
+    public static IRuntime workstealing()
+    {
+        return workstealing( Runtime.getRuntime().availableProcessors() );
+    }
+
+    /**
+     * factory of a work-stealing runtime
+     *
+     * @param p_parallelism number of worker threads
+     * @return runtime
+     */
+    @Nonnull
+    public static IRuntime workstealing( @Nonnegative final int p_parallelism )
+    {
+        return new CRuntime( EExecution.WORKSTEALING, new ForkJoinPool( p_parallelism ), true );
+    }
+
+    /**
+     * factory of a work-stealing runtime
+     *
+     * @param p_pool fork-join pool, which will not be shutdown by the runtime
+     * @return runtime
+     */
+    @Nonnull
+    public static IRuntime workstealing( @Nonnull final ForkJoinPool p_pool )
+    {
+        return new CRuntime( EExecution.WORKSTEALING, p_pool, false );
+    }
+
+    /**
+     * factory of a runtime which creates a task for each active
+     * agent, so it can be used with thread-per-task executors
+     * e.g. virtual threads
+     *
+     * @param p_executor executor, which will not be shutdown by the runtime
+     * @return runtime
+     */
+    @Nonnull
+    public static IRuntime executor( @Nonnull final ExecutorService p_executor )
+    {
+        return new CRuntime( EExecution.TASK, p_executor, false );
+    }
+
+
+    /**
+     * execution type
+     */
+    private enum EExecution
+    {
+        /**
+         * fork-join execution with recursive splitting
+         */
+        WORKSTEALING,
+        /**
+         * one task for each active agent
+         */
+        TASK;
+
+        /**
+         * executes all agents
+         *
+         * @param p_executor executor
+         * @param p_active active agents
+         * @param p_sleeping sleeping agents
+         * @return accumulated execution result
+         * @throws InterruptedException on interrupting the executor
+         * @throws ExecutionException on execution error
+         */
+        @Nonnull
+        public final CAccumulator execute( @Nonnull final ExecutorService p_executor, @Nonnull final List<IAgent<?>> p_active,
+                                           @Nonnull final List<IAgent<?>> p_sleeping ) throws InterruptedException, ExecutionException
+        {
+            switch ( this )
+            {
+                case WORKSTEALING:
+                    return ( (ForkJoinPool) p_executor ).invoke( new CSplitTask( p_active, p_sleeping ) );
+
+                case TASK:
+                    return tasks( p_executor, p_active, p_sleeping );
+
+                default:
+                    throw new CIllegalStateException( CCommon.languagestring( this, "unknownexecution", this ) );
+            }
+        }
+
+        /**
+         * executes each active agent within an own task
+         *
+         * @param p_executor executor
+         * @param p_active active agents
+         * @param p_sleeping sleeping agents
+         * @return accumulated execution result
+         * @throws InterruptedException on interrupting the executor
+         * @throws ExecutionException on execution error
+         */
+        @Nonnull
+        private static CAccumulator tasks( @Nonnull final ExecutorService p_executor, @Nonnull final List<IAgent<?>> p_active,
+                                           @Nonnull final List<IAgent<?>> p_sleeping ) throws InterruptedException, ExecutionException
+        {
+            final Collection<Callable<CAccumulator>> l_tasks = new ArrayList<>( p_active.size() + p_sleeping.size() / SLEEPINGCHUNK + 1 );
+            p_active.forEach( i -> l_tasks.add( () -> new CAccumulator().execute( Collections.singletonList( i ), true ) ) );
+            for ( int i = 0; i < p_sleeping.size(); i += SLEEPINGCHUNK )
+            {
+                final List<IAgent<?>> l_chunk = p_sleeping.subList( i, Math.min( i + SLEEPINGCHUNK, p_sleeping.size() ) );
+                l_tasks.add( () -> new CAccumulator().execute( l_chunk, false ) );
+            }
+
+            final CAccumulator l_result = new CAccumulator();
+            for ( final Future<CAccumulator> l_future : p_executor.invokeAll( l_tasks ) )
+                l_result.merge( l_future.get() );
+            return l_result;
+        }
+    }
+
+
+    /**
+     * fork-join task, which splits the agents recursively
+     */
+    private static final class CSplitTask extends RecursiveTask<CAccumulator>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4626491734931285416L;
+        /**
+         * agents
+         */
+        private final transient List<IAgent<?>> m_agents;
+        /**
+         * sleeping agents
+         */
+        private final transient List<IAgent<?>> m_sleeping;
+
+        /**
+         * ctor
+         *
+         * @param p_agents active agents
+         * @param p_sleeping sleeping agents
+         */
+        CSplitTask( @Nonnull final List<IAgent<?>> p_agents, @Nonnull final List<IAgent<?>> p_sleeping )
+        {
+            m_agents = p_agents;
+            m_sleeping = p_sleeping;
+        }
+
+        @Override
+        protected final CAccumulator compute()
+        {
+            if ( ( m_agents.size() <= ACTIVECHUNK ) && ( m_sleeping.size() <= SLEEPINGCHUNK ) )
+                return new CAccumulator().execute( m_agents, true ).execute( m_sleeping, false );
+
+            final int l_active = m_agents.size() / 2;
+            final int l_sleeping = m_sleeping.size() / 2;
+
+            final CSplitTask l_fork = new CSplitTask( m_agents.subList( 0, l_active ), m_sleeping.subList( 0, l_sleeping ) );
+            l_fork.fork();
+
+            return new CSplitTask( m_agents.subList( l_active, m_agents.size() ), m_sleeping.subList( l_sleeping, m_sleeping.size() ) )
+                .compute()
+                .merge( l_fork.join() );
+        }
+    }
+
+
+    /**
+     * accumulator of the execution results, which is
+     * used thread-local and merged after execution
+     */
+    private static final class CAccumulator
+    {
+        /**
+         * latency of active agents
+         */
+        private final LongSummaryStatistics m_latency = new LongSummaryStatistics();
+        /**
+         * number of failed agents
+         */
+        private long m_failed;
+
+        /**
+         * executes a list of agents
+         *
+         * @param p_agents agents
+         * @param p_measure measure latency
+         * @return self reference
+         */
+        @Nonnull
+        final CAccumulator execute( @Nonnull final List<IAgent<?>> p_agents, final boolean p_measure )
+        {
+            for ( final IAgent<?> l_agent : p_agents )
+            {
+                final long l_start = System.nanoTime();
+                try
+                {
+                    l_agent.call();
+                }
+                catch ( final Exception l_exception )
+                {
+                    LOGGER.warning( CCommon.languagestring( CRuntime.class, "agentexecution", l_agent, l_exception ) );
+                    m_failed++;
+                    continue;
+                }
+
+                if ( p_measure )
+                    m_latency.accept( System.nanoTime() - l_start );
+            }
+            return this;
+        }
+
+        /**
+         * merges another accumulator
+         *
+         * @param p_accumulator accumulator
+         * @return self reference
+         */
+        @Nonnull
+        final CAccumulator merge( @Nonnull final CAccumulator p_accumulator )
+        {
+            m_latency.combine( p_accumulator.m_latency );
+            m_failed += p_accumulator.m_failed;
+            return this;
+        }
+    }
+
+
+    /**
+     * immutable cycle statistic
+     */
+    private static final class CStatistic implements ICycleStatistic
+    {
+        /**
+         * cycle number
+         */
+        private final long m_cycle;
+        /**
+         * cycle time
+         */
+        private final long m_cycletime;
+        /**
+         * number of executed agents
+         */
+        private final long m_executed;
+        /**
+         * number of sleeping agents
+         */
+        private final long m_sleeping;
+        /**
+         * number of failed agents
+         */
+        private final long m_failed;
+        /**
+         * latency
+         */
+        private final LongSummaryStatistics m_latency;
+
+        /**
+         * ctor
+         *
+         * @param p_cycle cycle number
+         * @param p_cycletime cycle time
+         * @param p_executed number of executed agents
+         * @param p_sleeping number of sleeping agents
+         * @param p_result accumulated result
+         */
+        CStatistic( final long p_cycle, final long p_cycletime, final long p_executed, final long p_sleeping, @Nonnull final CAccumulator p_result )
+        {
+            m_cycle = p_cycle;
+            m_cycletime = p_cycletime;
+            m_executed = p_executed;
+            m_sleeping = p_sleeping;
+            m_failed = p_result.m_failed;
+            m_latency = p_result.m_latency;
+        }
+
+        @Override
+        public final long cycle()
+        {
+            return m_cycle;
+        }
+
+        @Override
+        public final long cycletime()
+        {
+            return m_cycletime;
+        }
+
+        @Override
+        public final long executed()
+        {
+            return m_executed;
+        }
+
+        @Override
+        public final long sleeping()
+        {
+            return m_sleeping;
+        }
+
+        @Override
+        public final long failed()
+        {
+            return m_failed;
+        }
+
+        @Override
+        public final LongSummaryStatistics latency()
+        {
+            final LongSummaryStatistics l_latency = new LongSummaryStatistics();
+            l_latency.combine( m_latency );
+            return l_latency;
+        }
+
+        @Override
+        public final double throughput()
+        {
+            return m_cycletime == 0 ? 0 : m_executed * 1e9 / m_cycletime;
+        }
+
+        @Override
+        public final String toString()
+        {
+            return MessageFormat.format(
+                "cycle: {0} / time: {1} ns / executed: {2} / sleeping: {3} / failed: {4} / throughput: {5} agents/s / latency: {6}",
+                m_cycle, m_cycletime, m_executed, m_sleeping, m_failed, this.throughput(), m_latency
+            );
+        }
+    }
+
+}
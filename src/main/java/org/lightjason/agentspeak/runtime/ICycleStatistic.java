@@ -0,0 +1,135 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.runtime;
+
+import java.util.LongSummaryStatistics;
+
+
+/**
+ * statistic of a single runtime cycle
+ */
+public interface ICycleStatistic
+{
+    /**
+     * empty statistic
+     */
+    ICycleStatistic EMPTY = new ICycleStatistic()
+    {
+        @Override
+        public final long cycle()
+        {
+            return 0;
+        }
+
+        @Override
+        public final long cycletime()
+        {
+            return 0;
+        }
+
+        @Override
+        public final long executed()
+        {
+            return 0;
+        }
+
+        @Override
+        public final long sleeping()
+        {
+            return 0;
+        }
+
+        @Override
+        public final long failed()
+        {
+            return 0;
+        }
+
+        @Override
+        public final LongSummaryStatistics latency()
+        {
+            return new LongSummaryStatistics();
+        }
+
+        @Override
+        public final double throughput()
+        {
+            return 0;
+        }
+    };
+
+
+    /**
+     * number of the cycle
+     *
+     * @return cycle number
+     */
+    long cycle();
+
+    /**
+     * wall-clock time of the cycle
+     *
+     * @return time in nano seconds
+     */
+    long cycletime();
+
+    /**
+     * number of active agents which are executed
+     *
+     * @return number of agents
+     */
+    long executed();
+
+    /**
+     * number of sleeping agents which are
+     * skipped from the execution
+     *
+     * @return number of agents
+     */
+    long sleeping();
+
+    /**
+     * number of agents which are failed
+     * with an exception
+     *
+     * @return number of agents
+     */
+    long failed();
+
+    /**
+     * latency of the agent cycle call
+     *
+     * @return statistic of the call latency in nano seconds
+     */
+    LongSummaryStatistics latency();
+
+    /**
+     * throughput of the cycle
+     *
+     * @return executed agents per second
+     */
+    double throughput();
+
+}
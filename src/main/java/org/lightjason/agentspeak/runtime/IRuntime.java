@@ -0,0 +1,91 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.runtime;
+
+import org.lightjason.agentspeak.agent.IAgent;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+
+/**
+ * runtime to execute the cycle of a set of agents,
+ * each call runs a single cycle of all agents
+ */
+public interface IRuntime extends Callable<IRuntime>, AutoCloseable
+{
+
+    /**
+     * adds an agent
+     *
+     * @param p_agent agent
+     * @return self reference
+     */
+    @Nonnull
+    IRuntime add( @Nonnull final IAgent<?> p_agent );
+
+    /**
+     * removes an agent
+     *
+     * @param p_agent agent
+     * @return self reference
+     */
+    @Nonnull
+    IRuntime remove( @Nonnull final IAgent<?> p_agent );
+
+    /**
+     * removes all agents
+     *
+     * @return self reference
+     */
+    @Nonnull
+    IRuntime clear();
+
+    /**
+     * stream of all agents
+     *
+     * @return agent stream
+     */
+    @Nonnull
+    Stream<IAgent<?>> stream();
+
+    /**
+     * returns the statistic of the last cycle
+     *
+     * @return cycle statistic
+     */
+    @Nonnull
+    ICycleStatistic statistic();
+
+    /**
+     * shutdown the runtime
+     *
+     * @note an executor which is not created by the runtime will not be shutdown
+     */
+    @Override
+    void close();
+
+}
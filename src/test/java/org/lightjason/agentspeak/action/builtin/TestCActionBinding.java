@@ -26,12 +26,31 @@ package org.lightjason.agentspeak.action.builtin;
 import org.junit.Assert;
 import org.junit.Test;
 import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.action.IAction;
 import org.lightjason.agentspeak.action.binding.IAgentAction;
 import org.lightjason.agentspeak.action.binding.IAgentActionFilter;
 import org.lightjason.agentspeak.agent.IBaseAgent;
 import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
-
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.LogManager;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -40,6 +59,25 @@ import java.util.stream.Stream;
  */
 public final class TestCActionBinding extends IBaseTest
 {
+    /**
+     * name of the sum action
+     */
+    private static final String ADD = "add";
+    /**
+     * name of the variable argument action
+     */
+    private static final String COUNT = "count";
+    /**
+     * bound actions of the execution agent
+     */
+    private static final Map<String, IAction> ACTIONS = CCommon.actionsFromAgentClass( CMethodBindingExecution.class )
+                                                               .collect( Collectors.toMap( i -> i.name().path(), i -> i ) );
+
+    static
+    {
+        // disable logger
+        LogManager.getLogManager().reset();
+    }
 
     /**
      * test class binding
@@ -99,6 +137,138 @@ public final class TestCActionBinding extends IBaseTest
     }
 
 
+    /**
+     * test execution of bound methods
+     * with primitive arguments and return values
+     *
+     * @throws Exception on any error
+     */
+    @Test
+    public final void methodexecution() throws Exception
+    {
+        final IContext l_context = TestCActionBinding.context();
+        final List<ITerm> l_return = new LinkedList<>();
+
+        Assert.assertTrue( ACTIONS.get( ADD ).execute( false, l_context, terms( 2, 3 ), l_return ).value() );
+        Assert.assertTrue( ACTIONS.get( "multiply" ).execute( false, l_context, terms( 1.5, 4.0 ), l_return ).value() );
+        Assert.assertTrue( ACTIONS.get( "store" ).execute( false, l_context, terms( "foo" ), l_return ).value() );
+
+        Assert.assertEquals( l_return.size(), 2 );
+        Assert.assertEquals( l_return.get( 0 ).<Number>raw(), 5 );
+        Assert.assertEquals( l_return.get( 1 ).<Number>raw(), 6.0 );
+        Assert.assertEquals( l_context.agent().<CMethodBindingExecution>raw().value(), "foo" );
+    }
+
+    /**
+     * test execution of bound methods
+     * with wrong arguments
+     *
+     * @throws Exception on any error
+     */
+    @Test
+    public final void methodexecutionerror() throws Exception
+    {
+        final IContext l_context = TestCActionBinding.context();
+        final List<ITerm> l_return = new LinkedList<>();
+
+        Assert.assertFalse( ACTIONS.get( ADD ).execute( false, l_context, terms( 2 ), l_return ).value() );
+        Assert.assertFalse( ACTIONS.get( ADD ).execute( false, l_context, terms( 2, 3, 4 ), l_return ).value() );
+        Assert.assertFalse( ACTIONS.get( ADD ).execute( false, l_context, terms( "a", "b" ), l_return ).value() );
+        Assert.assertFalse( ACTIONS.get( "multiply" ).execute( false, l_context, terms( 1.5, "b" ), l_return ).value() );
+        Assert.assertFalse( ACTIONS.get( COUNT ).execute( false, l_context, terms( 1, 2 ), l_return ).value() );
+
+        Assert.assertTrue( l_return.isEmpty() );
+    }
+
+    /**
+     * test execution of a bound method
+     * with variable arguments
+     *
+     * @throws Exception on any error
+     */
+    @Test
+    public final void methodvarargs() throws Exception
+    {
+        final IContext l_context = TestCActionBinding.context();
+        final List<ITerm> l_return = new LinkedList<>();
+
+        Assert.assertTrue( ACTIONS.get( COUNT ).execute( false, l_context, terms( "a", "b", "c" ), l_return ).value() );
+        Assert.assertTrue( ACTIONS.get( COUNT ).execute( false, l_context, Collections.emptyList(), l_return ).value() );
+
+        Assert.assertEquals( l_return.size(), 2 );
+        Assert.assertEquals( l_return.get( 0 ).<Number>raw(), 3 );
+        Assert.assertEquals( l_return.get( 1 ).<Number>raw(), 0 );
+    }
+
+    /**
+     * test serialization of a bound method
+     *
+     * @throws Exception on any error
+     */
+    @Test
+    public final void methodserialization() throws Exception
+    {
+        final IContext l_context = TestCActionBinding.context();
+        final List<ITerm> l_return = new LinkedList<>();
+
+        final ByteArrayOutputStream l_output = new ByteArrayOutputStream();
+        try
+            (
+                final ObjectOutputStream l_stream = new ObjectOutputStream( l_output )
+            )
+        {
+            l_stream.writeObject( ACTIONS.get( ADD ) );
+            l_stream.writeObject( ACTIONS.get( COUNT ) );
+        }
+
+        try
+            (
+                final ObjectInputStream l_stream = new ObjectInputStream( new ByteArrayInputStream( l_output.toByteArray() ) )
+            )
+        {
+            final IAction l_add = (IAction) l_stream.readObject();
+            final IAction l_count = (IAction) l_stream.readObject();
+
+            Assert.assertEquals( l_add.name(), ACTIONS.get( ADD ).name() );
+            Assert.assertTrue( l_add.execute( false, l_context, terms( 2, 3 ), l_return ).value() );
+            Assert.assertTrue( l_count.execute( false, l_context, terms( "a", "b" ), l_return ).value() );
+        }
+
+        Assert.assertEquals( l_return.size(), 2 );
+        Assert.assertEquals( l_return.get( 0 ).<Number>raw(), 5 );
+        Assert.assertEquals( l_return.get( 1 ).<Number>raw(), 2 );
+    }
+
+    /**
+     * creates an execution context
+     * with a new agent
+     *
+     * @return context
+     * @throws Exception on any error
+     */
+    private static IContext context() throws Exception
+    {
+        try
+            (
+                final InputStream l_asl = new ByteArrayInputStream( "+!main <- success.".getBytes( StandardCharsets.UTF_8 ) )
+            )
+        {
+            return new CContext( new CGenerator( l_asl ).generatesingle(), IPlan.EMPTY, Collections.emptySet() );
+        }
+    }
+
+    /**
+     * creates a term list
+     *
+     * @param p_values raw values
+     * @return term list
+     */
+    private static List<ITerm> terms( final Object... p_values )
+    {
+        return Stream.of( p_values ).map( CRawTerm::from ).collect( Collectors.toList() );
+    }
+
+
     /**
      * main test call
      *
@@ -306,4 +476,112 @@ public final class TestCActionBinding extends IBaseTest
     }
 
 
+    /**
+     * test class for method execution
+     */
+    @IAgentAction
+    private static final class CMethodBindingExecution extends IBaseAgent<CMethodBindingExecution>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4562319480227645716L;
+        /**
+         * stored value
+         */
+        private volatile String m_value = "";
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CMethodBindingExecution( final IAgentConfiguration<CMethodBindingExecution> p_configuration )
+        {
+            super( p_configuration );
+        }
+
+        /**
+         * returns the stored value
+         *
+         * @return value
+         */
+        final String value()
+        {
+            return m_value;
+        }
+
+        /**
+         * test binding method with primitive integer arguments
+         *
+         * @param p_first first value
+         * @param p_second second value
+         * @return sum
+         */
+        @IAgentActionFilter
+        private int add( final int p_first, final int p_second )
+        {
+            return p_first + p_second;
+        }
+
+        /**
+         * test binding method with primitive double arguments
+         *
+         * @param p_first first value
+         * @param p_second second value
+         * @return product
+         */
+        @IAgentActionFilter
+        private double multiply( final double p_first, final double p_second )
+        {
+            return p_first * p_second;
+        }
+
+        /**
+         * test binding method without return value
+         *
+         * @param p_value value
+         */
+        @IAgentActionFilter
+        private void store( final String p_value )
+        {
+            m_value = p_value;
+        }
+
+        /**
+         * test binding method with variable arguments
+         *
+         * @param p_values values
+         * @return number of values
+         */
+        @IAgentActionFilter
+        private int count( final String... p_values )
+        {
+            return p_values.length;
+        }
+    }
+
+    /**
+     * generator of the execution agent
+     */
+    private static final class CGenerator extends IBaseAgentGenerator<CMethodBindingExecution>
+    {
+        /**
+         * ctor
+         *
+         * @param p_stream asl stream
+         * @throws Exception on any error
+         */
+        CGenerator( final InputStream p_stream ) throws Exception
+        {
+            super( p_stream, Collections.emptySet() );
+        }
+
+        @Override
+        public final CMethodBindingExecution generatesingle( final Object... p_data )
+        {
+            return new CMethodBindingExecution( m_configuration );
+        }
+    }
+
 }
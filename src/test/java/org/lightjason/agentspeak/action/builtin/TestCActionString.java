@@ -44,6 +44,7 @@ import org.lightjason.agentspeak.action.builtin.string.CReverse;
 import org.lightjason.agentspeak.action.builtin.string.CSize;
 import org.lightjason.agentspeak.action.builtin.string.CStartsWith;
 import org.lightjason.agentspeak.action.builtin.string.CUpper;
+import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -423,6 +424,38 @@ public final class TestCActionString extends IBaseTest
     }
 
 
+    /**
+     * test normalized compression distance with
+     * deflate compression against pairwise calls
+     */
+    @Test
+    public final void ncddeflate()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final String l_first = "test";
+        final String l_second = "tests";
+        final String l_third = "this a complete other string";
+
+        new CNCD().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "DEFLATE", l_first, l_second, l_third, l_first ).map( CRawTerm::from ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assert.assertEquals( l_return.size(), 3 );
+        Assert.assertEquals(
+            l_return.get( 0 ).<Number>raw().doubleValue(),
+            CCommon.ncd( CCommon.ECompression.DEFLATE, l_first, l_second ), 0
+        );
+        Assert.assertEquals(
+            l_return.get( 1 ).<Number>raw().doubleValue(),
+            CCommon.ncd( CCommon.ECompression.DEFLATE, l_first, l_third ), 0
+        );
+        Assert.assertTrue( l_return.get( 1 ).<Number>raw().doubleValue() > l_return.get( 0 ).<Number>raw().doubleValue() );
+        Assert.assertEquals( l_return.get( 2 ).<Number>raw().doubleValue(), 0, 0 );
+    }
+
+
     /**
      * test normalized compression distance error
      */
@@ -42,6 +42,8 @@ import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
 import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.grammar.CSnapshotCache;
+import org.lightjason.agentspeak.grammar.ISnapshotCache;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
@@ -50,12 +52,17 @@ import org.lightjason.agentspeak.language.variable.CConstant;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.logging.LogManager;
 import java.util.stream.Collectors;
@@ -160,6 +167,82 @@ public final class TestCAgent extends IBaseTest
         );
     }
 
+    /**
+     * test snapshot cache, the agent is
+     * parsed once and restored afterwards
+     *
+     * @throws Exception on any error
+     */
+    @Test
+    public final void testSnapshotCache() throws Exception
+    {
+        final Path l_directory = Files.createTempDirectory( "snapshot" );
+        final ISnapshotCache l_cache = CSnapshotCache.from( l_directory.toFile() );
+
+        try
+        {
+            // first build parses the source and writes the snapshot
+            Assert.assertEquals( 26, this.snapshotagent( l_cache ) );
+
+            final File[] l_files = Objects.requireNonNull( l_directory.toFile().listFiles() );
+            Assert.assertEquals( 1, l_files.length );
+
+            // a rewritten snapshot gets a new modification time and content
+            final File l_file = l_files[0];
+            Assert.assertTrue( l_file.setLastModified( 0 ) );
+            final byte[] l_content = Files.readAllBytes( l_file.toPath() );
+
+            Assert.assertEquals( 26, this.snapshotagent( l_cache ) );
+            Assert.assertEquals( 1, Objects.requireNonNull( l_directory.toFile().listFiles() ).length );
+            Assert.assertEquals( 0, l_file.lastModified() );
+            Assert.assertArrayEquals( l_content, Files.readAllBytes( l_file.toPath() ) );
+
+            // a broken snapshot is a cache miss and will be replaced
+            Files.write( l_file.toPath(), new byte[]{1, 2, 3} );
+            Assert.assertTrue( l_file.setLastModified( 0 ) );
+
+            Assert.assertEquals( 26, this.snapshotagent( l_cache ) );
+            Assert.assertNotEquals( 0, l_file.lastModified() );
+            Assert.assertTrue( l_file.length() > 3 );
+        }
+        finally
+        {
+            try ( final Stream<Path> l_files = Files.walk( l_directory ) )
+            {
+                l_files.sorted( Comparator.reverseOrder() ).map( Path::toFile ).forEach( File::delete );
+            }
+        }
+    }
+
+    /**
+     * builds and runs an agent with a snapshot cache
+     *
+     * @param p_cache snapshot cache
+     * @return number of successful test results
+     * @throws Exception on any error
+     */
+    private int snapshotagent( @Nonnull final ISnapshotCache p_cache ) throws Exception
+    {
+        m_testlog.clear();
+        try
+        (
+            final InputStream l_stream = new FileInputStream( "src/test/resources/agent/language/generic.asl" )
+        )
+        {
+            final IAgent<?> l_agent = new CAgent.CAgentGenerator(
+                l_stream,
+                Stream.concat( Stream.of( new CTestResult(), new CEmptyPrint() ), CCommon.actionsFromPackage() ).collect( Collectors.toSet() ),
+                p_cache
+            ).generatesingle();
+
+            for ( int j = 0; j < 3; j++ )
+                l_agent.call();
+        }
+
+        Assert.assertTrue( m_testlog.stream().allMatch( Pair::getLeft ) );
+        return m_testlog.size();
+    }
+
     /**
      * manuell running test
      *
@@ -285,10 +368,23 @@ public final class TestCAgent extends IBaseTest
              */
             CAgentGenerator( final InputStream p_stream, final Set<IAction> p_actions ) throws Exception
             {
-                super( p_stream, p_actions, ( p_agent, p_runningcontext ) -> Stream.of(
+                this( p_stream, p_actions, ISnapshotCache.EMPTY );
+            }
+
+            /**
+             * ctor
+             *
+             * @param p_stream input stream
+             * @param p_actions set with action
+             * @param p_cache snapshot cache
+             * @throws Exception thrown on error
+             */
+            CAgentGenerator( final InputStream p_stream, final Set<IAction> p_actions, final ISnapshotCache p_cache ) throws Exception
+            {
+                super( p_stream, p_actions, Collections.emptySet(), ( p_agent, p_runningcontext ) -> Stream.of(
                     new CConstant<>( "MyConstInt", 123 ),
                     new CConstant<>( "MyConstString", "here is a test string" )
-                ) );
+                ), DEFAULTEXECUTIONPOLICY, p_cache );
             }
 
             @Override
@@ -0,0 +1,278 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent;
+
+import com.google.common.collect.Multimap;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.LogManager;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * test for the running plans of an agent
+ */
+public final class TestCAgentRunningPlans extends IBaseTest
+{
+    /**
+     * asl source
+     */
+    private static final String ASL = "src/test/resources/agent/runningplans.asl";
+    /**
+     * agent reference
+     */
+    private IAgent<?> m_agent;
+    /**
+     * running plans, which are seen by each plan
+     */
+    private final Map<String, Set<String>> m_record = new ConcurrentHashMap<>();
+
+
+    static
+    {
+        // disable logger
+        LogManager.getLogManager().reset();
+    }
+
+
+    /**
+     * initializing
+     *
+     * @throws Exception on any error
+     */
+    @Before
+    public void initialize() throws Exception
+    {
+        m_record.clear();
+        try
+            (
+                final InputStream l_asl = new FileInputStream( ASL )
+            )
+        {
+            m_agent = new CGenerator( l_asl ).generatesingle();
+        }
+    }
+
+    /**
+     * test the running plans and test goals
+     * of the executed plans within each cycle
+     *
+     * @throws Exception is thrown on agent execution error
+     */
+    @Test
+    public final void runningplans() throws Exception
+    {
+        Assume.assumeNotNull( m_agent );
+
+        // initial goal
+        m_agent.call();
+        Assert.assertEquals( paths( m_agent.runningplans() ), Collections.singleton( "main" ) );
+        Assert.assertEquals( m_record.get( "main" ), Collections.singleton( "main" ) );
+        Assert.assertEquals( m_record.size(), 1 );
+
+        // goals of the previous cycle and the immediately triggered goal,
+        // all test goals must be succeeded, so each plan has been recorded
+        final Set<String> l_running = Stream.of( "first", "second", "third" ).collect( Collectors.toSet() );
+
+        m_agent.call();
+        Assert.assertEquals( paths( m_agent.runningplans() ), l_running );
+        Assert.assertEquals( m_agent.runningplans().size(), 3 );
+        Assert.assertEquals( m_record.size(), 4 );
+        l_running.forEach( i -> Assert.assertTrue( m_record.containsKey( i ) ) );
+
+        // the immediately triggered plan is merged into the snapshot of the cycle
+        Assert.assertEquals( m_record.get( "third" ), l_running );
+        Assert.assertEquals( m_record.get( "second" ), l_running );
+
+        // snapshot is reset on a cycle without plans
+        m_agent.call();
+        Assert.assertTrue( m_agent.runningplans().isEmpty() );
+    }
+
+    /**
+     * main method for manual test
+     *
+     * @param p_args CLI arguments
+     * @throws Exception on any execution error
+     */
+    public static void main( final String[] p_args ) throws Exception
+    {
+        new TestCAgentRunningPlans().invoketest();
+    }
+
+    /**
+     * returns the paths of the running plans
+     *
+     * @param p_running running plans
+     * @return set with path strings
+     */
+    private static Set<String> paths( final Multimap<IPath, ILiteral> p_running )
+    {
+        return p_running.keySet().stream().map( IPath::path ).collect( Collectors.toSet() );
+    }
+
+
+    /**
+     * agent generator
+     */
+    private final class CGenerator extends IBaseAgentGenerator<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_stream asl stream
+         * @throws Exception on any error
+         */
+        CGenerator( final InputStream p_stream ) throws Exception
+        {
+            super( p_stream, Stream.of( new CRecord(), new CImmediate() ).collect( Collectors.toSet() ) );
+        }
+
+        @Override
+        public final CAgent generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 3279361470520938422L;
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+
+    /**
+     * action to record the running plans
+     */
+    private final class CRecord extends IBaseAction
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -6190418317562489375L;
+
+        @Nonnull
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "record" );
+        }
+
+        @Nonnegative
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 1;
+        }
+
+        @Nonnull
+        @Override
+        public final IFuzzyValue<Boolean> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                   @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+        {
+            m_record.put( p_argument.get( 0 ).<String>raw(), paths( p_context.agent().runningplans() ) );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * action to trigger a goal immediately
+     */
+    private final class CImmediate extends IBaseAction
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 8410262934836287301L;
+
+        @Nonnull
+        @Override
+        public final IPath name()
+        {
+            return CPath.from( "immediate" );
+        }
+
+        @Nonnegative
+        @Override
+        public final int minimalArgumentNumber()
+        {
+            return 1;
+        }
+
+        @Nonnull
+        @Override
+        public final IFuzzyValue<Boolean> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                   @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+        {
+            return p_context.agent().trigger(
+                CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( p_argument.get( 0 ).<String>raw() ) ),
+                true
+            );
+        }
+    }
+}
@@ -30,16 +30,25 @@ import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.unify.CHash;
+import org.lightjason.agentspeak.language.unify.CMatcher;
+import org.lightjason.agentspeak.language.unify.CRecursive;
+import org.lightjason.agentspeak.language.unify.CUnifier;
+import org.lightjason.agentspeak.language.unify.IUnifier;
+import org.lightjason.agentspeak.language.variable.IVariable;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -129,6 +138,97 @@ public final class TestCUnifier extends IBaseTest
         );
     }
 
+    /**
+     * compiled literal unification must be equal
+     * to the unification of a deep-copy
+     *
+     * @throws Exception parser exception
+     */
+    @Test
+    public final void matcher() throws Exception
+    {
+        final CUnifier l_unifier = new CUnifier();
+        final String[][] l_test = {
+            {"foo(X, Y)", "foo(1, 'bar')"},
+            {"foo(X, 3)", "foo(1, 2)"},
+            {"foo(X, X)", "foo(1, 2)"},
+            {"foo(bar(X), Y)", "foo(bar(1), 2)"},
+            {"foo(baz(X), Y)", "foo(bar(1), 2)"},
+            {"foo(bar(X), Y)", "foo(bar, 2)"},
+            {"foo(bar, Y)", "foo(bar(1), 2)"},
+            {"foo(bar(X, sub(Z)), Y)", "foo(bar(1, sub([1, 2])), 2)"},
+            {"foo(bar(X, sub(Z)), Y)", "foo(bar(1, sub(1, 2)), 2)"},
+            {"foo(X, Y)", "foo(1)"},
+            {"foo(X, Y)", "foo(A, 1)"},
+            {"foo(X)", "foo"}
+        };
+
+        for ( final String[] l_pair : l_test )
+        {
+            final ILiteral l_target = CLiteral.parse( l_pair[0] );
+            final ILiteral l_source = CLiteral.parse( l_pair[1] );
+
+            assertEquals(
+                MessageFormat.format( "compiled unification of [{0}] and [{1}] is wrong", l_target, l_source ),
+                TestCUnifier.variables( l_unifier.unify( l_source, l_target.deepcopy().<ILiteral>raw() ) ),
+                TestCUnifier.variables( l_unifier.unify( l_source, CMatcher.from( l_target ) ) )
+            );
+
+            assertTrue(
+                MessageFormat.format( "variables of [{0}] are modified", l_target ),
+                CMatcher.from( l_target ).literal().orderedvalues()
+                        .filter( j -> j instanceof IVariable<?> )
+                        .map( ITerm::<IVariable<?>>term )
+                        .noneMatch( IVariable::allocated )
+            );
+        }
+    }
+
+    /**
+     * custom algorithms must be used on
+     * unification with a compiled literal
+     *
+     * @throws Exception parser exception
+     */
+    @Test
+    public final void matchercustomalgorithm() throws Exception
+    {
+        final AtomicInteger l_calls = new AtomicInteger();
+        final IUnifier.IAlgorithm l_algorithm = new IUnifier.IAlgorithm()
+        {
+            @Override
+            public final <T extends ITerm> boolean unify( final Set<IVariable<?>> p_variables, final Stream<T> p_source, final Stream<T> p_target )
+            {
+                l_calls.incrementAndGet();
+                return false;
+            }
+        };
+        final CUnifier l_unifier = new CUnifier( l_algorithm, l_algorithm );
+
+        final ILiteral l_target = CLiteral.parse( "foo(bar(X), Y)" );
+        final ILiteral l_source = CLiteral.parse( "foo(bar(1), 2)" );
+
+        assertTrue( l_unifier.unify( l_source, CMatcher.from( l_target ) ).isEmpty() );
+        assertEquals( 1, l_calls.get() );
+
+        assertEquals(
+            TestCUnifier.variables( new CUnifier().unify( l_source, CMatcher.from( l_target ) ) ),
+            TestCUnifier.variables( new CUnifier( new CHash(), new CRecursive() ).unify( l_source, CMatcher.from( l_target ) ) )
+        );
+    }
+
+    /**
+     * returns the variables with values
+     *
+     * @param p_variables variable set
+     * @return set of string representations
+     */
+    private static Set<String> variables( final Set<IVariable<?>> p_variables )
+    {
+        return p_variables.stream().map( i -> i.getClass().getSimpleName() + i.fqnfunctor() + Objects.toString( i.raw() ) ).collect( Collectors.toSet() );
+    }
+
+
 
     /**
      * manuell running test
@@ -26,11 +26,18 @@ package org.lightjason.agentspeak.beliefbase;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.Test;
 import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.beliefbase.storage.CArgumentDiscriminator;
+import org.lightjason.agentspeak.beliefbase.storage.CConcurrentMultiStorage;
+import org.lightjason.agentspeak.beliefbase.storage.CLayeredStorage;
 import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
+import org.lightjason.agentspeak.beliefbase.storage.CStorageLayer;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.beliefbase.view.IViewGenerator;
 import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.variable.CVariable;
 
 import java.util.stream.IntStream;
 
@@ -88,6 +95,124 @@ public final class TestCView extends IBaseTest
     }
 
 
+    /**
+     * test argument index
+     */
+    @Test
+    public final void testArgumentIndex()
+    {
+        final String l_functor = "position";
+        final IView l_beliefbase = new CBeliefbase( new CMultiStorage<>( CArgumentDiscriminator.from( 0 ) ) ).create( "root" );
+
+        IntStream.range( 0, 100 )
+                 .boxed()
+                 .map( i -> CLiteral.from( l_functor, CRawTerm.from( i % 10 ), CRawTerm.from( i ) ) )
+                 .forEach( l_beliefbase::add );
+        l_beliefbase.add( CLiteral.from( l_functor, new CVariable<>( "X" ), CRawTerm.from( 100 ) ) );
+
+        final ILiteral l_ground = CLiteral.from( l_functor, CRawTerm.from( 3 ), new CVariable<>( "Y" ) );
+        final ILiteral l_free = CLiteral.from( l_functor, new CVariable<>( "X" ), new CVariable<>( "Y" ) );
+
+        assertEquals( "number of beliefs is incorrect", l_beliefbase.size(), 101 );
+        assertEquals( "number of indexed candidates is incorrect", l_beliefbase.stream( l_ground ).count(), 11 );
+        assertEquals( "number of unindexed candidates is incorrect", l_beliefbase.stream( l_free ).count(), 101 );
+
+        l_beliefbase.remove( CLiteral.from( l_functor, CRawTerm.from( 3 ), CRawTerm.from( 3 ) ) );
+        assertEquals( "number of indexed candidates after remove is incorrect", l_beliefbase.stream( l_ground ).count(), 10 );
+    }
+
+
+    /**
+     * test concurrent storage with parallel modification
+     */
+    @Test
+    public final void testConcurrentStorage()
+    {
+        final String l_functor = "counter";
+        final IView l_beliefbase = new CBeliefbase( new CConcurrentMultiStorage<>( CArgumentDiscriminator.from( 0 ) ) ).create( "root" );
+
+        IntStream.range( 0, 1000 )
+                 .parallel()
+                 .mapToObj( i -> CLiteral.from( l_functor, CRawTerm.from( i % 10 ), CRawTerm.from( i ) ) )
+                 .forEach( l_beliefbase::add );
+
+        assertEquals( "number of beliefs is incorrect", l_beliefbase.size(), 1000 );
+        assertEquals(
+            "number of indexed candidates is incorrect",
+            l_beliefbase.stream( CLiteral.from( l_functor, CRawTerm.from( 3 ), new CVariable<>( "Y" ) ) ).count(),
+            100
+        );
+
+        IntStream.range( 0, 1000 )
+                 .parallel()
+                 .filter( i -> i % 2 == 0 )
+                 .mapToObj( i -> CLiteral.from( l_functor, CRawTerm.from( i % 10 ), CRawTerm.from( i ) ) )
+                 .forEach( l_beliefbase::remove );
+
+        assertEquals( "number of beliefs after remove is incorrect", l_beliefbase.size(), 500 );
+    }
+
+
+    /**
+     * test shared layer with independent modifications
+     */
+    @Test
+    public final void testLayeredStorage()
+    {
+        final String l_functor = "fact";
+        final CStorageLayer<ILiteral> l_layer = CStorageLayer.from(
+            IntStream.range( 0, 100 ).mapToObj( i -> CLiteral.from( l_functor, CRawTerm.from( i % 10 ), CRawTerm.from( i ) ) ),
+            ILiteral::functor,
+            CArgumentDiscriminator.from( 0 )
+        );
+
+        final IView l_first = new CBeliefbase( new CLayeredStorage<>( l_layer, new CMultiStorage<>() ) ).create( "first" );
+        final IView l_second = new CBeliefbase( new CLayeredStorage<>( l_layer, new CMultiStorage<>() ) ).create( "second" );
+        final ILiteral l_ground = CLiteral.from( l_functor, CRawTerm.from( 3 ), new CVariable<>( "Y" ) );
+
+        l_first.remove( CLiteral.from( l_functor, CRawTerm.from( 3 ), CRawTerm.from( 3 ) ) );
+        l_first.add( CLiteral.from( l_functor, CRawTerm.from( 3 ), CRawTerm.from( 100 ) ) );
+        l_first.add( CLiteral.from( l_functor, CRawTerm.from( 4 ), CRawTerm.from( 4 ) ) );
+
+        assertEquals( "number of trigger is incorrect", l_first.trigger().count(), 2 );
+        assertEquals( "number of beliefs is incorrect", l_first.size(), 100 );
+        assertEquals( "number of streamed beliefs is incorrect", l_first.stream().count(), 100 );
+        assertEquals( "number of indexed candidates is incorrect", l_first.stream( l_ground ).count(), 10 );
+
+        assertEquals( "number of shared beliefs is incorrect", l_second.size(), 100 );
+        assertEquals( "number of shared indexed candidates is incorrect", l_second.stream( l_ground ).count(), 10 );
+
+        l_first.add( CLiteral.from( l_functor, CRawTerm.from( 3 ), CRawTerm.from( 3 ) ) );
+        assertEquals( "number of beliefs after re-add is incorrect", l_first.size(), 101 );
+
+        l_first.clear();
+        assertEquals( "number of beliefs after clear is incorrect", l_first.size(), 0 );
+        assertEquals( "number of shared beliefs after clear is incorrect", l_second.size(), 100 );
+    }
+
+
+    /**
+     * test event delta of the trigger
+     */
+    @Test
+    public final void testTriggerDelta()
+    {
+        final String l_first = "first";
+        final String l_second = "second";
+        final IView l_beliefbase = new CBeliefbase( new CMultiStorage<>() ).create( "root" );
+
+        l_beliefbase.add( CLiteral.from( l_first ) );
+        l_beliefbase.add( CLiteral.from( l_second ) );
+        l_beliefbase.add( CLiteral.from( l_first ) );
+
+        assertEquals( "number of trigger is incorrect", l_beliefbase.trigger().count(), 2 );
+        assertEquals( "number of trigger after read is incorrect", l_beliefbase.trigger().count(), 0 );
+
+        l_beliefbase.remove( CLiteral.from( l_second ) );
+        assertEquals( "number of trigger after remove is incorrect", l_beliefbase.trigger().count(), 1 );
+    }
+
+
     /**
      * manuell running test
      *
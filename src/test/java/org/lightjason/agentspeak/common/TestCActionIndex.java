@@ -0,0 +1,122 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.action.IAction;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * test of the build-time action index
+ */
+public final class TestCActionIndex extends IBaseTest
+{
+
+    /**
+     * test index generation and loading
+     *
+     * @throws IOException on index write error
+     */
+    @Test
+    public final void index() throws IOException
+    {
+        final String l_package = CCommon.PACKAGEROOT + ".action.builtin";
+        final Path l_directory = Files.createTempDirectory( "actionindex" );
+
+        final Map<String, Integer> l_scanned = CCommon.actionclasses( l_package )
+                                                      .map( CCommon::actioninstance )
+                                                      .filter( Objects::nonNull )
+                                                      .collect( Collectors.toMap( i -> i.name().toString(), IAction::minimalArgumentNumber ) );
+
+        final ClassLoader l_loader = Thread.currentThread().getContextClassLoader();
+        try
+        {
+            CActionIndex.main( new String[]{l_directory.toString(), l_package} );
+            Assert.assertTrue( l_directory.resolve( CActionIndex.RESOURCE ).toFile().isFile() );
+
+            // the loader reads only the generated index, the action classes are loaded on execution
+            try ( final URLClassLoader l_indexloader = new URLClassLoader( new URL[]{l_directory.toUri().toURL()}, null ) )
+            {
+                Thread.currentThread().setContextClassLoader( l_indexloader );
+
+                Assert.assertTrue( CActionIndex.indexed( l_package ) );
+                Assert.assertTrue( CActionIndex.indexed( l_package + ".math" ) );
+                Assert.assertFalse( CActionIndex.indexed( CCommon.PACKAGEROOT + ".agent" ) );
+
+                Assert.assertEquals(
+                    l_scanned,
+                    CActionIndex.actions( l_package ).collect( Collectors.toMap( i -> i.name().toString(), IAction::minimalArgumentNumber ) )
+                );
+            }
+        }
+        finally
+        {
+            Thread.currentThread().setContextClassLoader( l_loader );
+            try ( final Stream<Path> l_files = Files.walk( l_directory ) )
+            {
+                l_files.sorted( Comparator.reverseOrder() ).map( Path::toFile ).forEach( File::delete );
+            }
+        }
+
+        Assert.assertFalse( l_directory.toFile().exists() );
+    }
+
+    /**
+     * test that the build writes the index
+     * of the builtin actions
+     */
+    @Test
+    public final void build()
+    {
+        Assert.assertTrue( CActionIndex.indexed( CCommon.PACKAGEROOT + ".action.builtin" ) );
+    }
+
+
+    /**
+     * manual test
+     *
+     * @param p_args commandline arguments
+     * @throws IOException on index write error
+     */
+    public static void main( final String[] p_args ) throws IOException
+    {
+        new TestCActionIndex().invoketest();
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * test of execution policy
+ */
+public final class TestCExecutionPolicy extends IBaseTest
+{
+
+    /**
+     * test switching at the threshold
+     */
+    @Test
+    public final void threshold()
+    {
+        final IExecutionPolicy l_policy = CExecutionPolicy.threshold( 3 );
+
+        Assert.assertFalse( l_policy.stream( elements( 3 ) ).isParallel() );
+        Assert.assertTrue( l_policy.stream( elements( 4 ) ).isParallel() );
+
+        Assert.assertFalse( CExecutionPolicy.SEQUENTIAL.stream( elements( 1000 ) ).isParallel() );
+        Assert.assertTrue( CExecutionPolicy.PARALLEL.stream( elements( 1 ) ).isParallel() );
+    }
+
+    /**
+     * test streams with unknown size
+     */
+    @Test
+    public final void apply()
+    {
+        Assert.assertFalse( CExecutionPolicy.SEQUENTIAL.apply( elements( 10 ).parallelStream() ).isParallel() );
+        Assert.assertFalse( CExecutionPolicy.threshold( 5 ).apply( elements( 10 ).parallelStream() ).isParallel() );
+        Assert.assertTrue( CExecutionPolicy.PARALLEL.apply( elements( 10 ).stream() ).isParallel() );
+    }
+
+    /**
+     * test execution on the calling thread
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void caller() throws Exception
+    {
+        final Thread l_thread = Thread.currentThread();
+        Assert.assertEquals( CExecutionPolicy.SEQUENTIAL.execute( Thread::currentThread ), l_thread );
+        Assert.assertEquals( CExecutionPolicy.PARALLEL.execute( Thread::currentThread ), l_thread );
+    }
+
+    /**
+     * test execution on a dedicated pool
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void pool() throws Exception
+    {
+        final ForkJoinPool l_pool = new ForkJoinPool( 1 );
+        final ForkJoinPool l_outer = new ForkJoinPool( 1 );
+        final IExecutionPolicy l_policy = CExecutionPolicy.pool( l_pool );
+
+        try
+        {
+            final Thread l_thread = l_policy.execute( Thread::currentThread );
+            Assert.assertTrue( l_thread instanceof ForkJoinWorkerThread );
+            Assert.assertEquals( ( (ForkJoinWorkerThread) l_thread ).getPool(), l_pool );
+
+            // nested calls on the pool run inline
+            Assert.assertEquals( (int) l_policy.execute( () -> l_policy.execute( () -> ForkJoinTask.getPool() == l_pool ? 1 : 0 ) ), 1 );
+
+            // calls of a worker of another pool are blocked by the pool
+            Assert.assertEquals(
+                l_outer.submit( () -> IntStream.range( 0, 8 ).map( i -> execute( l_policy, i ) ).sum() ).get().intValue(),
+                28
+            );
+        }
+        finally
+        {
+            l_pool.shutdownNow();
+            l_outer.shutdownNow();
+        }
+    }
+
+    /**
+     * test exception of a task
+     *
+     * @throws Exception on execution error
+     */
+    @Test( expected = IllegalStateException.class )
+    public final void exception() throws Exception
+    {
+        final ForkJoinPool l_pool = new ForkJoinPool( 1 );
+        try
+        {
+            CExecutionPolicy.pool( l_pool ).execute( () ->
+            {
+                throw new IllegalStateException();
+            } );
+        }
+        finally
+        {
+            l_pool.shutdownNow();
+        }
+    }
+
+
+    /**
+     * creates a list of elements
+     *
+     * @param p_size size
+     * @return list
+     */
+    private static List<Integer> elements( final int p_size )
+    {
+        return Collections.unmodifiableList( IntStream.range( 0, p_size ).boxed().collect( Collectors.toList() ) );
+    }
+
+    /**
+     * executes a value task
+     *
+     * @param p_policy execution policy
+     * @param p_value value
+     * @return value
+     */
+    private static int execute( final IExecutionPolicy p_policy, final int p_value )
+    {
+        try
+        {
+            return p_policy.execute( () -> p_value );
+        }
+        catch ( final Exception l_exception )
+        {
+            throw new RuntimeException( l_exception );
+        }
+    }
+
+
+    /**
+     * main test call
+     *
+     * @param p_args command line arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCExecutionPolicy().invoketest();
+    }
+
+}
@@ -67,6 +67,35 @@ public final class TestCPath extends IBaseTest
         Assert.assertNotEquals( CPath.from( "foo/bar" ), CPath.from( "bar/foo" ) );
     }
 
+    /**
+     * test immutability
+     */
+    @Test
+    public final void immutable()
+    {
+        final IPath l_path = CPath.from( "immutable/path" );
+
+        Assert.assertEquals( l_path.pushback( "suffix" ), "immutable/path/suffix" );
+        Assert.assertEquals( l_path.remove( 0 ), "path" );
+        Assert.assertEquals( l_path.reverse(), "path/immutable" );
+        Assert.assertEquals( l_path.upper(), "IMMUTABLE/PATH" );
+        Assert.assertEquals( l_path, "immutable/path" );
+        Assert.assertEquals( l_path.hashCode(), new CPath( "immutable", "path" ).hashCode() );
+    }
+
+    /**
+     * test intern pool
+     */
+    @Test
+    public final void pool()
+    {
+        final String l_path = "pool/path";
+
+        Assert.assertSame( CPath.from( l_path ), CPath.from( l_path ) );
+        Assert.assertEquals( CPath.from( l_path ), new CPath( l_path ) );
+        Assert.assertEquals( CPath.from( "" ), IPath.EMPTY );
+    }
+
 
     /**
      * manual test
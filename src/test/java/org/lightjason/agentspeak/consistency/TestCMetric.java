@@ -48,11 +48,15 @@ import javax.annotation.Nonnull;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -171,6 +175,93 @@ public final class TestCMetric extends IBaseTest
     }
 
 
+    /**
+     * test incremental consistency, metric values are recalculated
+     * only for changed agents and results match a calculation from scratch
+     *
+     * @throws Exception on consistency error
+     */
+    @Test
+    public final void consistencyincremental() throws Exception
+    {
+        Assume.assumeNotNull( m_literals );
+
+        final AtomicInteger l_calls = new AtomicInteger();
+        final IMetric l_metric = new CSymmetricDifference();
+        final IConsistency l_incremental = CConsistency.incremental( new CAll(), ( i, j ) ->
+        {
+            l_calls.incrementAndGet();
+            return l_metric.apply( i, j );
+        }, 200 );
+
+        final List<CAgent> l_agents = Stream.of(
+            m_literals,
+            Stream.concat( m_literals.stream(), Stream.of( CLiteral.from( "diff" ) ) ).collect( Collectors.toSet() ),
+            Collections.singleton( CLiteral.from( "toplevel" ) ),
+            Stream.of( CLiteral.from( "first/sub1" ), CLiteral.from( "other" ) ).collect( Collectors.toSet() )
+        ).map( this::agent ).collect( Collectors.toList() );
+
+        l_agents.forEach( l_incremental::add );
+
+        l_incremental.call();
+        assertEquals( 6, l_calls.get() );
+
+        final IConsistency l_full = CConsistency.incremental( new CAll(), l_metric, 200 );
+        l_agents.forEach( l_full::add );
+        l_full.call();
+        l_agents.forEach( i -> assertEquals( l_full.value( i ), l_incremental.value( i ), 1e-3 ) );
+
+        l_incremental.call();
+        assertEquals( 6, l_calls.get() );
+
+        final ILiteral l_changed = CLiteral.from( "changed" );
+        l_agents.get( 2 ).beliefbase().generate( m_generator, l_changed.functorpath() ).add( l_changed );
+        l_incremental.call();
+        assertEquals( 9, l_calls.get() );
+
+        final IConsistency l_changedfull = CConsistency.incremental( new CAll(), l_metric, 200 );
+        l_agents.forEach( l_changedfull::add );
+        l_changedfull.call();
+        l_agents.forEach( i -> assertEquals( l_changedfull.value( i ), l_incremental.value( i ), 1e-3 ) );
+    }
+
+    /**
+     * test incremental consistency with sparse neighbours, the
+     * result must not depend on the history of the calls (the
+     * large epsilon lets the fixpoint iteration converge)
+     *
+     * @throws Exception on consistency error
+     */
+    @Test
+    public final void consistencysparse() throws Exception
+    {
+        Assume.assumeNotNull( m_literals );
+
+        final IConsistency l_consistency = CConsistency.incremental( new CAll(), new CSymmetricDifference(), 200, 0.5, 1 );
+        final List<CAgent> l_agents = Stream.of(
+            Stream.of( "a", "b", "c", "d", "e" ).map( CLiteral::from ).collect( Collectors.toSet() ),
+            Collections.singleton( CLiteral.from( "a" ) ),
+            Stream.of( "a", "b", "c", "d" ).map( CLiteral::from ).collect( Collectors.toSet() )
+        ).map( this::agent ).collect( Collectors.toList() );
+        l_agents.forEach( l_consistency::add );
+
+        l_consistency.call();
+
+        assertEquals( 3, l_consistency.statistic().getN() );
+        assertEquals( 1, l_consistency.stream().mapToDouble( Map.Entry::getValue ).sum(), 1e-6 );
+        assertTrue( l_consistency.stream().allMatch( i -> i.getValue() >= 0 ) );
+
+        // the second agent gets equal to the first one, so the first agent must choose the third one as neighbour
+        Stream.of( "b", "c", "d", "e" ).map( CLiteral::from ).forEach( i -> l_agents.get( 1 ).beliefbase().generate( m_generator, i.functorpath() ).add( i ) );
+        l_consistency.call();
+
+        final IConsistency l_full = CConsistency.incremental( new CAll(), new CSymmetricDifference(), 200, 0.5, 1 );
+        l_agents.forEach( l_full::add );
+        l_full.call();
+        l_agents.forEach( i -> assertEquals( l_full.value( i ), l_consistency.value( i ), 1e-3 ) );
+    }
+
+
     /**
      * runs the check
      *
@@ -0,0 +1,227 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.instrumentation;
+
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IExecutionPolicy;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.fuzzy.operator.IFuzzyBundle;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.unify.IUnifier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.logging.LogManager;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the instrumentation
+ */
+public final class TestCInstrumentation extends IBaseTest
+{
+    /**
+     * number of cycles
+     */
+    private static final int CYCLES = 5;
+
+    static
+    {
+        // disable logger
+        LogManager.getLogManager().reset();
+    }
+
+
+    /**
+     * test histogram values
+     */
+    @Test
+    public final void histogram()
+    {
+        final CHistogram l_histogram = new CHistogram();
+        IntStream.rangeClosed( 1, 100 ).forEach( l_histogram::record );
+
+        final IHistogram l_snapshot = l_histogram.snapshot();
+        assertEquals( 100, l_snapshot.count() );
+        assertEquals( 5050, l_snapshot.sum() );
+        assertEquals( 100, l_snapshot.max() );
+        assertEquals( 50.5, l_snapshot.mean(), 0 );
+        assertEquals( 63, l_snapshot.percentile( 0.5 ) );
+        assertEquals( 100, l_snapshot.percentile( 1 ) );
+
+        assertEquals( 0, l_histogram.clear().snapshot().count() );
+        assertEquals( 100, l_snapshot.count() );
+    }
+
+    /**
+     * test the disabled instrumentation
+     */
+    @Test
+    public final void empty()
+    {
+        assertEquals( 0, IInstrumentation.EMPTY.start() );
+        assertEquals( IReport.EMPTY, IInstrumentation.EMPTY.snapshot() );
+    }
+
+    /**
+     * test recording of an agent execution
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void agent() throws Exception
+    {
+        final CInstrumentation l_instrumentation = CInstrumentation.from();
+
+        try
+        (
+            final InputStream l_asl = new ByteArrayInputStream(
+                "!main. +!main <- X = math/max( 1, 2 ); +value( X ); !main.".getBytes( StandardCharsets.UTF_8 )
+            )
+        )
+        {
+            final CAgent l_agent = new CGenerator( l_asl, l_instrumentation ).generatesingle();
+            for ( int i = 0; i < CYCLES; i++ )
+                l_agent.call();
+
+            assertEquals( l_instrumentation, l_agent.instrumentation() );
+        }
+
+        final IReport l_report = l_instrumentation.snapshot();
+        assertEquals( 1, l_report.plans().size() );
+        assertEquals( CYCLES, l_report.plans().values().iterator().next().count() );
+        assertEquals( CYCLES, l_report.actions().get( CPath.from( "math/max" ) ).count() );
+        assertEquals( CYCLES, l_report.triggerqueue().count() );
+        assertEquals( CYCLES, l_report.unificationhits() );
+        assertTrue( l_report.unificationattempts() >= l_report.unificationhits() );
+        assertTrue( l_report.beliefevents().get( ITrigger.EType.ADDBELIEF ) > 0 );
+        assertTrue( l_report.beliefeventrate().get( ITrigger.EType.ADDBELIEF ) > 0 );
+
+        assertEquals( 0, l_instrumentation.reset().snapshot().plans().size() );
+    }
+
+
+    /**
+     * main method for manual test
+     *
+     * @param p_args CLI arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCInstrumentation().invoketest();
+    }
+
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -2358637432147542516L;
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+    /**
+     * agent generator with instrumentation
+     */
+    private static final class CGenerator extends IBaseAgentGenerator<CAgent>
+    {
+        /**
+         * instrumentation
+         */
+        private final IInstrumentation m_instrumentation;
+
+        /**
+         * ctor
+         *
+         * @param p_stream asl stream
+         * @param p_instrumentation instrumentation
+         * @throws Exception on any error
+         */
+        CGenerator( final InputStream p_stream, final IInstrumentation p_instrumentation ) throws Exception
+        {
+            super( p_stream, CCommon.actionsFromPackage().collect( Collectors.toSet() ) );
+            m_instrumentation = p_instrumentation;
+        }
+
+        @Override
+        protected final IAgentConfiguration<CAgent> configuration( @Nonnull final IFuzzyBundle<Boolean> p_fuzzy, @Nonnull final Collection<ILiteral> p_initalbeliefs,
+                                                                   @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                                                                   @Nullable final ILiteral p_initialgoal, @Nonnull final IUnifier p_unifier,
+                                                                   @Nonnull final IVariableBuilder p_variablebuilder,
+                                                                   @Nonnull final IExecutionPolicy p_executionpolicy )
+        {
+            return new CDefaultAgentConfiguration<CAgent>(
+                p_fuzzy, p_initalbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_variablebuilder, p_executionpolicy
+            )
+            {
+                @Nonnull
+                @Override
+                public final IInstrumentation instrumentation()
+                {
+                    return m_instrumentation;
+                }
+            };
+        }
+
+        @Override
+        public final CAgent generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+}
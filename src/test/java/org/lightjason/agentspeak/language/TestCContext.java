@@ -0,0 +1,125 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.rule.CRule;
+import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * test of execution context
+ */
+public final class TestCContext extends IBaseTest
+{
+
+    /**
+     * test variable frame of an instantiation
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void frame() throws Exception
+    {
+        final IPath l_first = CPath.from( "X" );
+        final IPath l_unused = CPath.from( "Z" );
+        final IRule l_rule = new CRule( CLiteral.parse( "foo(X, Y)" ), Collections.emptyList() );
+        final IContext l_context = l_rule.instantiate( IAgent.EMPTY, Stream.of( new CVariable<>( l_first, 5 ), new CVariable<>( l_unused, 3 ) ) );
+
+        Assert.assertEquals( l_context.instancevariables().size(), 3 );
+        Assert.assertEquals( l_context.instancevariables().get( l_first ).<Number>raw().intValue(), 5 );
+        Assert.assertEquals( l_context.instancevariables().get( l_unused ).<Number>raw().intValue(), 3 );
+        Assert.assertFalse( l_context.instancevariables().get( CPath.from( "Y" ) ).allocated() );
+        Assert.assertNull( l_context.instancevariables().get( CPath.from( "A" ) ) );
+
+        final IContext l_duplicate = l_context.duplicate();
+        l_duplicate.instancevariables().get( l_first ).set( null );
+        Assert.assertEquals( l_context.instancevariables().get( l_first ).<Number>raw().intValue(), 5 );
+        Assert.assertFalse( l_duplicate.instancevariables().get( l_first ).allocated() );
+        Assert.assertEquals( l_duplicate.instancevariables().keySet(), l_context.instancevariables().keySet() );
+
+        final IContext l_next = l_rule.instantiate( IAgent.EMPTY, Stream.of( new CVariable<>( l_first, 7 ) ) );
+        Assert.assertEquals( l_next.instancevariables().size(), 2 );
+        Assert.assertFalse( l_next.instancevariables().containsKey( l_unused ) );
+        Assert.assertEquals( l_next.instancevariables().get( l_first ).<Number>raw().intValue(), 7 );
+    }
+
+    /**
+     * test that unified variables are set
+     * within the calling thread
+     */
+    @Test
+    public final void updatecontext()
+    {
+        final IContext l_context = new CContext(
+            IAgent.EMPTY, IPlan.EMPTY,
+            IntStream.range( 0, 256 ).mapToObj( i -> new CVariable<>( "V" + i ) ).collect( Collectors.toList() )
+        );
+        final Set<Thread> l_threads = Collections.synchronizedSet( new HashSet<>() );
+
+        CCommon.updatecontext(
+            l_context,
+            IntStream.range( 0, 256 )
+                     .mapToObj( i -> new CVariable<>( "V" + i, i ) )
+                     .collect( Collectors.toList() )
+                     .parallelStream()
+                     .peek( i -> l_threads.add( Thread.currentThread() ) )
+                     .map( i -> (IVariable<?>) i )
+        );
+
+        Assert.assertEquals( l_threads, Collections.singleton( Thread.currentThread() ) );
+        Assert.assertTrue(
+            IntStream.range( 0, 256 ).allMatch( i -> l_context.instancevariables().get( CPath.from( "V" + i ) ).<Number>raw().intValue() == i )
+        );
+    }
+
+
+    /**
+     * main test call
+     *
+     * @param p_args command line arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCContext().invoketest();
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.expression.CAtom;
+import org.lightjason.agentspeak.language.execution.expression.CCompiledExpression;
+import org.lightjason.agentspeak.language.execution.expression.EOperator;
+import org.lightjason.agentspeak.language.execution.expression.IExpression;
+import org.lightjason.agentspeak.language.execution.expression.logical.CBinary;
+import org.lightjason.agentspeak.language.execution.expression.logical.CUnary;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CAdditive;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CComparable;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CMultiplicative;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CPower;
+import org.lightjason.agentspeak.language.execution.expression.numerical.CRelational;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * test of expression compiling
+ */
+public final class TestCExpression extends IBaseTest
+{
+
+    /**
+     * test compiled expressions against the generic execution
+     */
+    @Test
+    public final void compiled()
+    {
+        final IVariable<?> l_number = new CVariable<>( "X", 7L );
+        final IVariable<?> l_real = new CVariable<>( "Y", 2.5 );
+        final IVariable<?> l_string = new CVariable<>( "S", "abc" );
+        final IContext l_context = new CContext( IAgent.EMPTY, IPlan.EMPTY, Stream.of( l_number, l_real, l_string ).collect( ArrayList::new, List::add, List::addAll ) );
+
+        Stream.of(
+            new CAdditive( EOperator.PLUS, new CAtom( new CVariable<>( "X" ) ), new CAtom( 3 ) ),
+            new CMultiplicative( EOperator.MODULO, new CAtom( new CVariable<>( "X" ) ), new CAtom( 4 ) ),
+            new CMultiplicative( EOperator.DIVIDE, new CAtom( new CVariable<>( "Y" ) ), new CAtom( 2 ) ),
+            new CPower( EOperator.POWER, new CAtom( 2 ), new CAtom( 10 ) ),
+            new CRelational( EOperator.GREATER, new CAtom( new CVariable<>( "X" ) ), new CAtom( new CVariable<>( "Y" ) ) ),
+            new CRelational( EOperator.LESSEQUAL, new CAtom( new CVariable<>( "S" ) ), new CAtom( "abd" ) ),
+            new CComparable( EOperator.EQUAL, new CAtom( new CVariable<>( "X" ) ), new CAtom( 7.0 ) ),
+            new CComparable( EOperator.NOTEQUAL, new CAtom( new CVariable<>( "S" ) ), new CAtom( "abc" ) ),
+            new CUnary(
+                EOperator.NEGATION,
+                new CBinary(
+                    EOperator.AND,
+                    new CRelational( EOperator.LESS, new CAtom( new CVariable<>( "Y" ) ), new CAtom( 3 ) ),
+                    new CBinary( EOperator.XOR, new CAtom( true ), new CAtom( false ) )
+                )
+            )
+        ).forEach( i ->
+        {
+            final IExpression l_compiled = CCompiledExpression.from( i );
+            Assert.assertTrue( i.toString(), l_compiled instanceof CCompiledExpression );
+            Assert.assertEquals( i.toString(), TestCExpression.execute( i, l_context ), TestCExpression.execute( l_compiled, l_context ) );
+        } );
+    }
+
+
+    /**
+     * test constant folding
+     */
+    @Test
+    public final void folding()
+    {
+        final IExpression l_expression = CCompiledExpression.from(
+            new CRelational(
+                EOperator.GREATER,
+                new CAdditive( EOperator.PLUS, new CAtom( 2 ), new CAtom( 3 ) ),
+                new CMultiplicative( EOperator.MULTIPLY, new CAtom( 2 ), new CAtom( 2 ) )
+            )
+        );
+
+        Assert.assertEquals( TestCExpression.execute( l_expression, IContext.EMPTYPLAN ), true );
+        Assert.assertEquals( l_expression.toString(), "2 + 3 > 2 * 2" );
+    }
+
+
+    /**
+     * executes an expression
+     *
+     * @param p_expression expression
+     * @param p_context context
+     * @return raw result value
+     */
+    private static Object execute( final IExpression p_expression, final IContext p_context )
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        Assert.assertTrue( p_expression.execute( false, p_context, Collections.emptyList(), l_return ).value() );
+        Assert.assertEquals( l_return.size(), 1 );
+        return l_return.get( 0 ).raw();
+    }
+
+
+    /**
+     * main test call
+     *
+     * @param p_args command line arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCExpression().invoketest();
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.action.CLambdaExpression;
+import org.lightjason.agentspeak.language.execution.action.CRawAction;
+import org.lightjason.agentspeak.language.execution.action.CSingleAssignment;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.variable.CVariable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * test of lambda expression
+ */
+public final class TestCLambdaExpression extends IBaseTest
+{
+    /**
+     * number of input elements
+     */
+    private static final int SIZE = 10000;
+
+    /**
+     * test sequential and parallel execution with ordered return values
+     */
+    @Test
+    public final void execute()
+    {
+        final List<Integer> l_input = IntStream.range( 0, SIZE ).boxed().collect( Collectors.toList() );
+
+        Stream.of( false, true ).forEach( i ->
+        {
+            final IContext l_context = new CContext(
+                IAgent.EMPTY,
+                IPlan.EMPTY,
+                Stream.of( new CVariable<>( "L", l_input ), new CVariable<>( "R" ) ).collect( Collectors.toList() )
+            );
+
+            Assert.assertTrue(
+                new CLambdaExpression(
+                    i,
+                    new CRawAction<>( new CVariable<>( "L" ) ),
+                    new CVariable<>( "Y" ),
+                    new CVariable<>( "R" ),
+                    Collections.singletonList( new CSingleAssignment<>( new CVariable<>( "R" ), new CRawAction<>( new CVariable<>( "Y" ) ) ) )
+                ).execute( false, l_context, Collections.emptyList(), Collections.emptyList() ).value()
+            );
+
+            Assert.assertEquals(
+                l_input.stream().map( Number::doubleValue ).collect( Collectors.toList() ),
+                l_context.instancevariables().get( CPath.from( "R" ) ).<List<?>>raw().stream()
+                         .map( j -> ( (Number) j ).doubleValue() )
+                         .collect( Collectors.toList() )
+            );
+        } );
+    }
+
+
+    /**
+     * main test call
+     *
+     * @param p_args command line arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCLambdaExpression().invoketest();
+    }
+
+}
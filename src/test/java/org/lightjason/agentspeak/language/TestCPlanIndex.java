@@ -0,0 +1,168 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.language.instantiable.plan.CPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.CPlanIndex;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlanIndex;
+import org.lightjason.agentspeak.language.instantiable.plan.statistic.CPlanStatistic;
+import org.lightjason.agentspeak.language.instantiable.plan.statistic.IPlanStatistic;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * test of plan index
+ */
+public final class TestCPlanIndex extends IBaseTest
+{
+    /**
+     * trigger literal with ground argument
+     */
+    private static final String GROUND = "foo(1)";
+    /**
+     * other trigger literal with ground argument
+     */
+    private static final String OTHER = "foo(2)";
+
+    /**
+     * test adding and getting plans
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void get() throws Exception
+    {
+        final IPlan l_ground = TestCPlanIndex.plan( GROUND );
+        final IPlan l_other = TestCPlanIndex.plan( OTHER );
+        final IPlan l_variable = TestCPlanIndex.plan( "foo(X)" );
+        final IPlan l_arity = TestCPlanIndex.plan( "foo(1, 2)" );
+        final IPlan l_functor = TestCPlanIndex.plan( "bar(1)" );
+
+        final IPlanIndex l_index = CPlanIndex.from( Stream.of( l_ground, l_other, l_variable, l_arity, l_functor ) );
+        Assert.assertEquals( l_index.size(), 5 );
+        Assert.assertEquals( l_index.values().size(), 5 );
+        Assert.assertFalse( l_index.put( l_ground.trigger(), CPlanStatistic.from( l_ground ) ) );
+
+        Assert.assertEquals( TestCPlanIndex.plans( l_index.get( TestCPlanIndex.trigger( GROUND ) ) ), Stream.of( l_ground, l_variable ).collect( Collectors.toSet() ) );
+        Assert.assertEquals( TestCPlanIndex.plans( l_index.get( TestCPlanIndex.trigger( OTHER ) ) ), Stream.of( l_other, l_variable ).collect( Collectors.toSet() ) );
+        Assert.assertEquals( TestCPlanIndex.plans( l_index.get( TestCPlanIndex.trigger( "foo(3)" ) ) ), Collections.singleton( l_variable ) );
+        Assert.assertEquals(
+            TestCPlanIndex.plans( l_index.get( TestCPlanIndex.trigger( "foo(Y)" ) ) ),
+            Stream.of( l_ground, l_other, l_variable ).collect( Collectors.toSet() )
+        );
+        Assert.assertEquals( TestCPlanIndex.plans( l_index.get( TestCPlanIndex.trigger( "foo(1, 2)" ) ) ), Collections.singleton( l_arity ) );
+        Assert.assertEquals( TestCPlanIndex.plans( l_index.get( TestCPlanIndex.trigger( "bar(1)" ) ) ), Collections.singleton( l_functor ) );
+        Assert.assertTrue( l_index.get( CTrigger.from( ITrigger.EType.DELETEGOAL, CLiteral.parse( GROUND ) ) ).isEmpty() );
+        Assert.assertTrue( l_index.get( TestCPlanIndex.trigger( "baz(1)" ) ).isEmpty() );
+    }
+
+    /**
+     * test removing plans
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void remove() throws Exception
+    {
+        final IPlan l_ground = TestCPlanIndex.plan( GROUND );
+        final IPlan l_other = TestCPlanIndex.plan( OTHER );
+        final IPlan l_variable = TestCPlanIndex.plan( "foo(X)" );
+
+        final IPlanIndex l_index = CPlanIndex.from( Stream.of( l_ground, l_other, l_variable ) );
+
+        // a ground trigger does not remove the plans with variables
+        Assert.assertEquals( TestCPlanIndex.plans( l_index.removeAll( TestCPlanIndex.trigger( GROUND ) ) ), Collections.singleton( l_ground ) );
+        Assert.assertEquals( TestCPlanIndex.plans( l_index.get( TestCPlanIndex.trigger( GROUND ) ) ), Collections.singleton( l_variable ) );
+        Assert.assertTrue( l_index.removeAll( TestCPlanIndex.trigger( GROUND ) ).isEmpty() );
+        Assert.assertEquals( l_index.size(), 2 );
+
+        Assert.assertEquals( TestCPlanIndex.plans( l_index.removeAll( TestCPlanIndex.trigger( "foo(Z)" ) ) ), Collections.singleton( l_variable ) );
+        Assert.assertEquals( TestCPlanIndex.plans( l_index.get( TestCPlanIndex.trigger( OTHER ) ) ), Collections.singleton( l_other ) );
+        Assert.assertEquals( l_index.size(), 1 );
+
+        Assert.assertTrue( l_index.put( l_ground.trigger(), CPlanStatistic.from( l_ground ) ) );
+        Assert.assertEquals( l_index.size(), 2 );
+
+        l_index.clear();
+        Assert.assertTrue( l_index.isEmpty() );
+        Assert.assertTrue( l_index.get( TestCPlanIndex.trigger( OTHER ) ).isEmpty() );
+    }
+
+    /**
+     * creates an add-goal trigger
+     *
+     * @param p_literal literal
+     * @return trigger
+     * @throws Exception on parsing error
+     */
+    private static ITrigger trigger( final String p_literal ) throws Exception
+    {
+        return CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.parse( p_literal ) );
+    }
+
+    /**
+     * creates an empty plan
+     *
+     * @param p_literal trigger literal
+     * @return plan
+     * @throws Exception on parsing error
+     */
+    private static IPlan plan( final String p_literal ) throws Exception
+    {
+        return new CPlan( TestCPlanIndex.trigger( p_literal ), Collections.emptyList(), Collections.emptySet() );
+    }
+
+    /**
+     * returns the plans of statistic objects
+     *
+     * @param p_plans plan statistics
+     * @return plan set
+     */
+    private static Set<IPlan> plans( final Collection<IPlanStatistic> p_plans )
+    {
+        return p_plans.stream().map( IPlanStatistic::plan ).collect( Collectors.toSet() );
+    }
+
+    /**
+     * manual test
+     *
+     * @param p_args arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCPlanIndex().invoketest();
+    }
+
+}
@@ -0,0 +1,290 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.action.CProxyAction;
+import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.variable.CVariable;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * test of proxy action
+ */
+public final class TestCProxyAction extends IBaseTest
+{
+    /**
+     * expected arguments of the outer action
+     */
+    private static final List<Object> EXPECTED = Collections.unmodifiableList( Arrays.asList( 1L, 7L, 3L, 4L, "a" ) );
+    /**
+     * name of the outer action
+     */
+    private static final String COLLECT = "collect";
+
+    /**
+     * test nested action results
+     */
+    @Test
+    public final void nested()
+    {
+        final Queue<List<Object>> l_calls = new ConcurrentLinkedQueue<>();
+        final IExecution l_proxy = proxy( collect( l_calls ), i -> CLiteral.from( COLLECT, i ) );
+        final IContext l_context = context();
+
+        Assert.assertTrue( l_proxy.execute( false, l_context, Collections.emptyList(), Collections.emptyList() ).value() );
+        Assert.assertTrue( l_proxy.execute( false, l_context, Collections.emptyList(), Collections.emptyList() ).value() );
+
+        Assert.assertEquals( l_calls.size(), 2 );
+        l_calls.forEach( i -> Assert.assertEquals( i, EXPECTED ) );
+    }
+
+    /**
+     * test concurrent calls of the same proxy
+     */
+    @Test
+    public final void concurrent()
+    {
+        final Queue<List<Object>> l_calls = new ConcurrentLinkedQueue<>();
+        final IExecution l_proxy = proxy( collect( l_calls ), i -> CLiteral.from( COLLECT, i ) );
+
+        IntStream.range( 0, 1000 )
+                 .parallel()
+                 .forEach( i -> l_proxy.execute( false, context(), Collections.emptyList(), Collections.emptyList() ) );
+
+        Assert.assertEquals( l_calls.size(), 1000 );
+        l_calls.forEach( i -> Assert.assertEquals( i, EXPECTED ) );
+    }
+
+    /**
+     * test parallel argument execution
+     */
+    @Test
+    public final void parallel()
+    {
+        final Queue<List<Object>> l_calls = new ConcurrentLinkedQueue<>();
+        final IExecution l_proxy = proxy( collect( l_calls ), i -> CLiteral.from( true, false, CPath.from( COLLECT ), i.stream() ) );
+
+        Assert.assertTrue( l_proxy.execute( false, context(), Collections.emptyList(), Collections.emptyList() ).value() );
+        Assert.assertEquals( l_calls.peek(), EXPECTED );
+    }
+
+
+    /**
+     * test a recursive call of the same proxy
+     * within the outer action
+     */
+    @Test
+    public final void reentrant()
+    {
+        final Queue<List<Object>> l_calls = new ConcurrentLinkedQueue<>();
+        final AtomicReference<IExecution> l_proxy = new AtomicReference<>();
+        final IBody l_collect = collect( l_calls );
+        final AtomicBoolean l_first = new AtomicBoolean( true );
+
+        l_proxy.set( proxy( ( i, j ) ->
+        {
+            if ( l_first.compareAndSet( true, false ) )
+                l_proxy.get().execute( false, context(), Collections.emptyList(), Collections.emptyList() );
+            l_collect.accept( i, j );
+        }, i -> CLiteral.from( COLLECT, i ) ) );
+
+        Assert.assertTrue( l_proxy.get().execute( false, context(), Collections.emptyList(), Collections.emptyList() ).value() );
+        Assert.assertEquals( l_calls.size(), 2 );
+        l_calls.forEach( i -> Assert.assertEquals( i, EXPECTED ) );
+    }
+
+    /**
+     * test that a non-builtin action can
+     * keep the argument list after the call
+     */
+    @Test
+    public final void keeparguments()
+    {
+        final Queue<List<ITerm>> l_calls = new ConcurrentLinkedQueue<>();
+        final IExecution l_proxy = proxy( ( i, j ) -> l_calls.add( i ), i -> CLiteral.from( COLLECT, i ) );
+
+        Assert.assertTrue( l_proxy.execute( false, context(), Collections.emptyList(), Collections.emptyList() ).value() );
+        Assert.assertTrue( l_proxy.execute( false, context(), Collections.emptyList(), Collections.emptyList() ).value() );
+
+        Assert.assertEquals( l_calls.size(), 2 );
+        l_calls.forEach( i -> Assert.assertEquals( i.stream().map( ITerm::raw ).collect( Collectors.toList() ), EXPECTED ) );
+    }
+
+
+    /**
+     * creates the collect execution,
+     * which stores a copy of the arguments
+     *
+     * @param p_calls argument lists of the calls
+     * @return execution
+     */
+    private static IBody collect( @Nonnull final Queue<List<Object>> p_calls )
+    {
+        return ( i, j ) -> p_calls.add( i.stream().map( ITerm::raw ).collect( Collectors.toList() ) );
+    }
+
+    /**
+     * creates the proxy of
+     * collect( 1, sum( 2, X ), swap( 3, 4 ), "a" )
+     *
+     * @param p_collect execution of the outer action
+     * @param p_literal literal of the outer action
+     * @return proxy action
+     */
+    private static IExecution proxy( @Nonnull final IBody p_collect, @Nonnull final Function<List<ITerm>, ILiteral> p_literal )
+    {
+        final Map<IPath, IAction> l_actions = Stream.of(
+            new CAction( COLLECT, p_collect ),
+            new CAction( "sum", ( i, j ) -> j.add( CRawTerm.from( i.stream().mapToLong( n -> n.<Number>raw().longValue() ).sum() ) ) ),
+            new CAction( "swap", ( i, j ) ->
+            {
+                j.add( i.get( 1 ) );
+                j.add( i.get( 0 ) );
+            } )
+        ).collect( Collectors.toMap( IAction::name, i -> i ) );
+
+        return new CProxyAction(
+            l_actions,
+            p_literal.apply( Arrays.asList(
+                CRawTerm.from( 1L ),
+                CLiteral.from( "sum", CRawTerm.from( 2L ), new CVariable<>( "X" ) ),
+                CLiteral.from( "swap", CRawTerm.from( 4L ), CRawTerm.from( 3L ) ),
+                CRawTerm.from( "a" )
+            ) )
+        );
+    }
+
+    /**
+     * creates an execution context with X = 5
+     *
+     * @return context
+     */
+    private static IContext context()
+    {
+        return new CContext( IAgent.EMPTY, IPlan.EMPTY, Collections.singleton( new CVariable<>( "X", 5L ) ) );
+    }
+
+
+    /**
+     * main test call
+     *
+     * @param p_args command line arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCProxyAction().invoketest();
+    }
+
+
+    /**
+     * test action
+     */
+    private static final class CAction extends IBaseAction
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -2366624385419367521L;
+        /**
+         * name
+         */
+        private final IPath m_name;
+        /**
+         * execution with arguments and return values
+         */
+        private final IBody m_body;
+
+        /**
+         * ctor
+         *
+         * @param p_name name
+         * @param p_body execution
+         */
+        CAction( @Nonnull final String p_name, @Nonnull final IBody p_body )
+        {
+            m_name = CPath.from( p_name );
+            m_body = p_body;
+        }
+
+        @Nonnull
+        @Override
+        public final IPath name()
+        {
+            return m_name;
+        }
+
+        @Nonnull
+        @Override
+        public final IFuzzyValue<Boolean> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                   @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+        {
+            m_body.accept( p_argument, p_return );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+    /**
+     * serializable execution of the test action
+     */
+    @FunctionalInterface
+    private interface IBody extends java.io.Serializable
+    {
+        /**
+         * executes the action
+         *
+         * @param p_argument arguments
+         * @param p_return return values
+         */
+        void accept( @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return );
+    }
+
+}
@@ -0,0 +1,300 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.fuzzy.CFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.operator.IFuzzyBundle;
+import org.lightjason.agentspeak.language.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.instantiable.rule.CRuleTable;
+import org.lightjason.agentspeak.language.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.instantiable.rule.IRuleTable;
+import org.lightjason.agentspeak.language.unify.IUnifier;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.LogManager;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+
+/**
+ * test of rule table
+ */
+public final class TestCRuleTable extends IBaseTest
+{
+
+    /**
+     * fibonacci rule, which counts the executions of the rule bodies
+     */
+    private static final String FIBONACCI = "!main."
+                                            + " fibonacci(X, R)"
+                                            + " :- X <= 2; R = 1; test/count"
+                                            + " :- X > 2; TA = X - 1; TB = X - 2; $fibonacci(TA,A); $fibonacci(TB,B); R = A+B; test/count."
+                                            + " +!main <- $fibonacci(20, R); test/result(R).";
+
+    static
+    {
+        // disable logger
+        LogManager.getLogManager().reset();
+    }
+
+
+    /**
+     * test ground and non-ground rule calls
+     */
+    @Test
+    public final void table()
+    {
+        final AtomicInteger l_executions = new AtomicInteger();
+        final IRuleTable l_table = CRuleTable.from();
+        final IContext l_context = new CContext( IAgent.EMPTY, IPlan.EMPTY, Collections.singleton( new CVariable<>( "X" ) ) );
+
+        final ILiteral l_ground = CLiteral.from( "reach", CRawTerm.from( "a" ), CRawTerm.from( "b" ) );
+        final ILiteral l_free = CLiteral.from( "reach", CRawTerm.from( "a" ), new CVariable<>( "X" ) );
+
+        l_table.apply( l_context, l_ground, i -> CFuzzyValue.from( l_executions.incrementAndGet() > 0 ) );
+        l_table.apply( l_context, l_ground, i -> CFuzzyValue.from( l_executions.incrementAndGet() > 0 ) );
+        Assert.assertEquals( l_executions.get(), 1 );
+        Assert.assertEquals( l_table.size(), 1 );
+
+        l_table.apply( l_context, l_free, i -> CFuzzyValue.from( l_executions.incrementAndGet() > 0 ) );
+        l_table.apply( l_context, l_free, i -> CFuzzyValue.from( l_executions.incrementAndGet() > 0 ) );
+        Assert.assertEquals( l_executions.get(), 2 );
+        Assert.assertEquals( l_table.size(), 2 );
+
+        Assert.assertEquals( l_table.clear().size(), 0 );
+    }
+
+    /**
+     * test answer bindings of output variables
+     */
+    @Test
+    @SuppressWarnings( "unchecked" )
+    public final void binding()
+    {
+        final AtomicInteger l_executions = new AtomicInteger();
+        final IRuleTable l_table = CRuleTable.from();
+        final IPath l_variable = CPath.from( "Y" );
+        final Function<IContext, ILiteral> l_call = i -> CLiteral.from( "reach", CRawTerm.from( "a" ), new CVariable<>( l_variable ) ).allocate( i );
+
+        final IContext l_first = new CContext( IAgent.EMPTY, IPlan.EMPTY, Collections.singleton( new CVariable<>( l_variable ) ) );
+        l_table.apply( l_first, l_call.apply( l_first ), i ->
+        {
+            l_executions.incrementAndGet();
+            ( (IVariable<Object>) l_first.instancevariables().get( l_variable ) ).set( "b" );
+            return CFuzzyValue.from( true );
+        } );
+
+        // the output variable of the second call is bound by the stored answer
+        final IContext l_second = new CContext( IAgent.EMPTY, IPlan.EMPTY, Collections.singleton( new CVariable<>( l_variable ) ) );
+        Assert.assertTrue( l_table.apply( l_second, l_call.apply( l_second ), i -> CFuzzyValue.from( l_executions.incrementAndGet() < 0 ) ).value() );
+        Assert.assertEquals( l_executions.get(), 1 );
+        Assert.assertEquals( l_second.instancevariables().get( l_variable ).<String>raw(), "b" );
+    }
+
+    /**
+     * test a recursive rule, which is
+     * answered by the table
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void fibonacci() throws Exception
+    {
+        final AtomicInteger l_executions = new AtomicInteger();
+        final AtomicReference<Number> l_result = new AtomicReference<>();
+
+        try
+        (
+            final InputStream l_asl = new ByteArrayInputStream( FIBONACCI.getBytes( StandardCharsets.UTF_8 ) )
+        )
+        {
+            new CGenerator(
+                l_asl,
+                Stream.of(
+                    new CAction( "test/count", i -> l_executions.incrementAndGet() ),
+                    new CAction( "test/result", i -> l_result.set( i.get( 0 ).<Number>raw() ) )
+                ).collect( Collectors.toSet() )
+            ).generatesingle().call();
+        }
+
+        Assert.assertEquals( l_result.get().intValue(), 6765 );
+        Assert.assertTrue( MessageFormat.format( "rule bodies are executed {0} times", l_executions.get() ), l_executions.get() <= 20 );
+    }
+
+
+    /**
+     * main test call
+     *
+     * @param p_args command line arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCRuleTable().invoketest();
+    }
+
+
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 2917216440536880164L;
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+    /**
+     * agent generator with rule table
+     */
+    private static final class CGenerator extends IBaseAgentGenerator<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_stream asl stream
+         * @param p_actions actions
+         * @throws Exception on any error
+         */
+        CGenerator( final InputStream p_stream, final Set<IAction> p_actions ) throws Exception
+        {
+            super( p_stream, p_actions );
+        }
+
+        @Override
+        protected final IAgentConfiguration<CAgent> configuration( @Nonnull final IFuzzyBundle<Boolean> p_fuzzy, @Nonnull final Collection<ILiteral> p_initalbeliefs,
+                                                                   @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                                                                   @Nullable final ILiteral p_initialgoal, @Nonnull final IUnifier p_unifier,
+                                                                   @Nonnull final IVariableBuilder p_variablebuilder )
+        {
+            return new CDefaultAgentConfiguration<CAgent>( p_fuzzy, p_initalbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_variablebuilder )
+            {
+                @Nonnull
+                @Override
+                public final IRuleTable ruletable()
+                {
+                    return CRuleTable.from();
+                }
+            };
+        }
+
+        @Override
+        public final CAgent generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * test action
+     */
+    private static final class CAction extends IBaseAction
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 6342734286493146946L;
+        /**
+         * name
+         */
+        private final IPath m_name;
+        /**
+         * execution with the arguments
+         */
+        private final transient Consumer<List<ITerm>> m_execution;
+
+        /**
+         * ctor
+         *
+         * @param p_name name
+         * @param p_execution execution
+         */
+        CAction( @Nonnull final String p_name, @Nonnull final Consumer<List<ITerm>> p_execution )
+        {
+            m_name = CPath.from( p_name );
+            m_execution = p_execution;
+        }
+
+        @Nonnull
+        @Override
+        public final IPath name()
+        {
+            return m_name;
+        }
+
+        @Nonnull
+        @Override
+        public final IFuzzyValue<Boolean> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                   @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+        {
+            m_execution.accept( p_argument );
+            return CFuzzyValue.from( true );
+        }
+    }
+
+}
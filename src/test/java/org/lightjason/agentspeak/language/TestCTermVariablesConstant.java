@@ -28,6 +28,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.lightjason.agentspeak.IBaseTest;
 import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.error.CSyntaxErrorException;
 import org.lightjason.agentspeak.language.variable.CConstant;
 import org.lightjason.agentspeak.language.variable.CMutexVariable;
 import org.lightjason.agentspeak.language.variable.CRelocateMutexVariable;
@@ -76,6 +77,23 @@ public final class TestCTermVariablesConstant extends IBaseTest
     }
 
 
+    /**
+     * test literal builder
+     */
+    @Test
+    public final void literalbuilder()
+    {
+        final ITerm l_number = CRawTerm.from( 5 );
+        final ITerm l_string = CRawTerm.from( "builder" );
+        final ILiteral l_literal = CLiteral.from( "~foo/builder", l_number, l_string );
+        final CLiteral.CBuilder l_builder = CLiteral.builder( CPath.from( "foo/builder" ) ).negated( true );
+
+        Assert.assertEquals( l_literal, l_builder.add( l_number ).add( l_string ).build() );
+        Assert.assertEquals( l_literal.structurehash(), l_literal.shallowcopy().structurehash() );
+        Assert.assertTrue( l_builder.build().emptyValues() );
+    }
+
+
     /**
      * test raw-term structure
      */
@@ -349,6 +367,33 @@ public final class TestCTermVariablesConstant extends IBaseTest
     }
 
 
+    /**
+     * test literal parsing with a reused parser,
+     * a syntax error must not break following parses
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public final void literalparse() throws Exception
+    {
+        final String l_literal = "foo/bar(5, X, 'text', [1, 2])";
+
+        Assert.assertEquals( CLiteral.parse( l_literal ).toString(), CLiteral.parse( l_literal ).toString() );
+        Assert.assertEquals( CLiteral.parse( l_literal ).fqnfunctor(), CPath.from( "foo/bar" ) );
+
+        try
+        {
+            CLiteral.parse( "foo(" );
+            Assert.fail();
+        }
+        catch ( final CSyntaxErrorException l_exception )
+        {
+            Assert.assertTrue( true );
+        }
+
+        Assert.assertEquals( CLiteral.parse( l_literal ).orderedvalues().count(), 4 );
+    }
+
 
     /**
      * main method for testing
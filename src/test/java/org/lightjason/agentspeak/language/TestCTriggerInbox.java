@@ -0,0 +1,161 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.language;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTriggerInbox;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITriggerInbox;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * test of trigger inbox
+ */
+public final class TestCTriggerInbox extends IBaseTest
+{
+
+    /**
+     * test deduplication by structure
+     */
+    @Test
+    public final void deduplicate()
+    {
+        final String l_functor = "foo";
+        final ITriggerInbox l_inbox = CTriggerInbox.from();
+
+        Assert.assertTrue( l_inbox.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( l_functor, CRawTerm.from( 1 ) ) ) ) );
+        Assert.assertTrue( l_inbox.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( l_functor, CRawTerm.from( 1 ) ) ) ) );
+        Assert.assertTrue( l_inbox.push( CTrigger.from( ITrigger.EType.DELETEGOAL, CLiteral.from( l_functor, CRawTerm.from( 1 ) ) ) ) );
+        Assert.assertTrue( l_inbox.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( l_functor, CRawTerm.from( 2 ) ) ) ) );
+        Assert.assertEquals( l_inbox.size(), 3 );
+
+        Assert.assertEquals( l_inbox.drain().size(), 3 );
+        Assert.assertEquals( l_inbox.size(), 0 );
+
+        // drained triggers can be pushed again
+        Assert.assertTrue( l_inbox.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( l_functor, CRawTerm.from( 1 ) ) ) ) );
+        Assert.assertEquals( l_inbox.size(), 1 );
+
+        final ITriggerInbox l_duplicates = CTriggerInbox.from( Integer.MAX_VALUE, ITriggerInbox.EOverflow.REJECT, false );
+        l_duplicates.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( l_functor ) ) );
+        l_duplicates.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( l_functor ) ) );
+        Assert.assertEquals( l_duplicates.size(), 2 );
+    }
+
+    /**
+     * test draining by priority classes
+     */
+    @Test
+    public final void priority()
+    {
+        final ITriggerInbox l_inbox = CTriggerInbox.from(
+            Integer.MAX_VALUE, ITriggerInbox.EOverflow.REJECT, true,
+            ITrigger.EType.DELETEGOAL, ITrigger.EType.ADDGOAL
+        );
+
+        l_inbox.push( CTrigger.from( ITrigger.EType.ADDBELIEF, CLiteral.from( "percept" ) ) );
+        l_inbox.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "first" ) ) );
+        l_inbox.push( CTrigger.from( ITrigger.EType.DELETEGOAL, CLiteral.from( "drop" ) ) );
+        l_inbox.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "second" ) ) );
+
+        Assert.assertEquals(
+            l_inbox.drain().stream().map( i -> i.literal().functor() ).collect( Collectors.toList() ),
+            Arrays.asList( "drop", "first", "second", "percept" )
+        );
+    }
+
+    /**
+     * test overflow policies
+     */
+    @Test
+    public final void overflow()
+    {
+        final ITriggerInbox l_reject = CTriggerInbox.from( 2, ITriggerInbox.EOverflow.REJECT, true );
+        Assert.assertTrue( l_reject.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "a" ) ) ) );
+        Assert.assertTrue( l_reject.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "b" ) ) ) );
+        Assert.assertFalse( l_reject.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "c" ) ) ) );
+        Assert.assertEquals( l_reject.rejected(), 1 );
+        Assert.assertEquals( l_reject.maximum(), 2 );
+
+        // a rejected trigger is not stored for deduplication
+        l_reject.drain();
+        Assert.assertTrue( l_reject.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "c" ) ) ) );
+        Assert.assertEquals( l_reject.size(), 1 );
+
+        final ITriggerInbox l_drop = CTriggerInbox.from( 2, ITriggerInbox.EOverflow.DROPOLDEST, true, ITrigger.EType.DELETEGOAL );
+        l_drop.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "a" ) ) );
+        l_drop.push( CTrigger.from( ITrigger.EType.DELETEGOAL, CLiteral.from( "b" ) ) );
+        Assert.assertTrue( l_drop.push( CTrigger.from( ITrigger.EType.ADDGOAL, CLiteral.from( "c" ) ) ) );
+        Assert.assertEquals( l_drop.dropped(), 1 );
+        Assert.assertEquals( l_drop.size(), 2 );
+
+        Assert.assertEquals(
+            l_drop.drain().stream().map( i -> i.literal().functor() ).collect( Collectors.toList() ),
+            Arrays.asList( "b", "c" )
+        );
+    }
+
+    /**
+     * test concurrent producers
+     */
+    @Test
+    public final void concurrent()
+    {
+        final ITriggerInbox l_inbox = CTriggerInbox.from( 5000, ITriggerInbox.EOverflow.REJECT, true );
+
+        Assert.assertEquals(
+            IntStream.range( 0, 10000 )
+                     .parallel()
+                     .filter( i -> l_inbox.push( CTrigger.from( ITrigger.EType.ADDBELIEF, CLiteral.from( "percept", CRawTerm.from( i ) ) ) ) )
+                     .count(),
+            5000
+        );
+
+        Assert.assertEquals( l_inbox.size(), 5000 );
+        Assert.assertEquals( l_inbox.rejected(), 5000 );
+        Assert.assertEquals( new HashSet<>( l_inbox.drain() ).size(), 5000 );
+        Assert.assertEquals( l_inbox.size(), 0 );
+    }
+
+
+    /**
+     * main test call
+     *
+     * @param p_args command line arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCTriggerInbox().invoketest();
+    }
+
+}
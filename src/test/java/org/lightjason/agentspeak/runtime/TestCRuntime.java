@@ -0,0 +1,241 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason AgentSpeak(L++)                                #
+ * # Copyright (c) 2015-17, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+
+package org.lightjason.agentspeak.runtime;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.lightjason.agentspeak.IBaseTest;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.LogManager;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * test of the agent runtime
+ */
+public final class TestCRuntime extends IBaseTest
+{
+    /**
+     * number of agents
+     */
+    private static final int AGENTNUMBER = 100;
+    /**
+     * number of cycles
+     */
+    private static final int CYCLES = 5;
+    /**
+     * agents
+     */
+    private List<CAgent> m_agents;
+
+    static
+    {
+        // disable logger
+        LogManager.getLogManager().reset();
+    }
+
+
+    /**
+     * initialize agents, every second agent is sleeping
+     *
+     * @throws Exception on any error
+     */
+    @Before
+    public final void initialize() throws Exception
+    {
+        try
+            (
+                final InputStream l_asl = new ByteArrayInputStream( "+!main <- !main.".getBytes( StandardCharsets.UTF_8 ) )
+            )
+        {
+            final CGenerator l_generator = new CGenerator( l_asl );
+            m_agents = IntStream.range( 0, AGENTNUMBER )
+                                .mapToObj( i -> l_generator.generatesingle() )
+                                .collect( Collectors.toList() );
+        }
+
+        IntStream.range( 0, AGENTNUMBER ).filter( i -> i % 2 == 0 ).forEach( i -> m_agents.get( i ).sleep( Long.MAX_VALUE ) );
+    }
+
+    /**
+     * test work-stealing runtime
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void workstealing() throws Exception
+    {
+        try
+            (
+                final IRuntime l_runtime = CRuntime.workstealing( 4 )
+            )
+        {
+            this.execute( l_runtime );
+        }
+    }
+
+    /**
+     * test task-based runtime
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public final void executor() throws Exception
+    {
+        final ExecutorService l_executor = Executors.newFixedThreadPool( 4 );
+        try
+            (
+                final IRuntime l_runtime = CRuntime.executor( l_executor )
+            )
+        {
+            this.execute( l_runtime );
+        }
+        finally
+        {
+            l_executor.shutdown();
+        }
+    }
+
+    /**
+     * runs the cycles and checks the statistic
+     *
+     * @param p_runtime runtime
+     * @throws Exception on execution error
+     */
+    private void execute( final IRuntime p_runtime ) throws Exception
+    {
+        m_agents.forEach( p_runtime::add );
+        assertEquals( AGENTNUMBER, p_runtime.stream().count() );
+
+        for ( int i = 0; i < CYCLES; i++ )
+            p_runtime.call();
+
+        final ICycleStatistic l_statistic = p_runtime.statistic();
+        assertEquals( CYCLES, l_statistic.cycle() );
+        assertEquals( AGENTNUMBER / 2, l_statistic.executed() );
+        assertEquals( AGENTNUMBER / 2, l_statistic.sleeping() );
+        assertEquals( 0, l_statistic.failed() );
+        assertEquals( AGENTNUMBER / 2, l_statistic.latency().getCount() );
+        assertTrue( l_statistic.throughput() > 0 );
+
+        // sleeping agents are called but not woken-up, so they keep sleeping
+        assertTrue( m_agents.stream().allMatch( i -> i.cycle() == CYCLES ) );
+        assertTrue( IntStream.range( 0, AGENTNUMBER ).allMatch( i -> m_agents.get( i ).sleeping() == ( i % 2 == 0 ) ) );
+    }
+
+
+    /**
+     * main method for manual test
+     *
+     * @param p_args CLI arguments
+     */
+    public static void main( final String[] p_args )
+    {
+        new TestCRuntime().invoketest();
+    }
+
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 3961697445753327536L;
+        /**
+         * cycle counter
+         */
+        private final AtomicLong m_cycle = new AtomicLong();
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+
+        @Override
+        public final CAgent call() throws Exception
+        {
+            super.call();
+            m_cycle.incrementAndGet();
+            return this;
+        }
+
+        /**
+         * returns the number of cycles
+         *
+         * @return cycles
+         */
+        final long cycle()
+        {
+            return m_cycle.get();
+        }
+    }
+
+    /**
+     * agent generator
+     */
+    private static final class CGenerator extends IBaseAgentGenerator<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_stream asl stream
+         * @throws Exception on any error
+         */
+        CGenerator( final InputStream p_stream ) throws Exception
+        {
+            super( p_stream, Collections.emptySet() );
+        }
+
+        @Override
+        public final CAgent generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+}